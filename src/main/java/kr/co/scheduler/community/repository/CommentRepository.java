@@ -5,9 +5,20 @@ import kr.co.scheduler.community.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findPageByPost(Pageable pageable, Post post);
 
     Long countByPost(Post post);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id IN :userIds")
+    List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.post.id IN :postIds")
+    List<Long> findIdsByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -6,6 +6,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -14,4 +18,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Modifying
     @Query("update Post p set p.view_cnt = p.view_cnt + 1 where p.id = :id")
     int updateViewCnt(Long id);
+
+    @Query("SELECT p.id FROM Post p WHERE p.user.id IN :userIds")
+    List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT p.content FROM Post p WHERE p.id IN :ids")
+    List<String> findContentsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,7 +2,22 @@ package kr.co.scheduler.community.repository;
 
 import kr.co.scheduler.community.entity.Reply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
+    @Query("SELECT r.id FROM Reply r WHERE r.user.id IN :userIds")
+    List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT r.id FROM Reply r WHERE r.comment.id IN :commentIds")
+    List<Long> findIdsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query("UPDATE Reply r SET r.parentReply = null WHERE r.parentReply.id IN :parentReplyIds")
+    int detachChildReplies(@Param("parentReplyIds") Collection<Long> parentReplyIds);
 }
@@ -4,7 +4,7 @@ import kr.co.scheduler.community.dtos.CommentReqDTO;
 import kr.co.scheduler.community.entity.Comment;
 import kr.co.scheduler.community.entity.Post;
 import kr.co.scheduler.community.repository.CommentRepository;
-import kr.co.scheduler.global.service.AlertService;
+import kr.co.scheduler.global.service.OutboxService;
 import kr.co.scheduler.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,7 +19,7 @@ public class CommentService {
 
     private final UserService userService;
     private final PostService postService;
-    private final AlertService alertService;
+    private final OutboxService outboxService;
     private final CommentRepository commentRepository;
 
     /**
@@ -51,7 +51,7 @@ public class CommentService {
                     .post(post)
                     .build();
 
-            alertService.createAlert("게시글 "+ post.getTitle() + "에 댓글이 달렸습니다.", post.getUser());
+            outboxService.enqueueAlert("게시글 "+ post.getTitle() + "에 댓글이 달렸습니다.", post.getUser());
 
             commentRepository.save(comment);
         }
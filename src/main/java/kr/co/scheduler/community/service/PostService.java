@@ -3,7 +3,8 @@ package kr.co.scheduler.community.service;
 import kr.co.scheduler.community.dtos.PostReqDTO;
 import kr.co.scheduler.community.entity.Post;
 import kr.co.scheduler.community.repository.PostRepository;
-import kr.co.scheduler.global.service.ImgService;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.service.ImgRefService;
 import kr.co.scheduler.user.entity.User;
 import kr.co.scheduler.user.repository.UserRepository;
 import kr.co.scheduler.user.service.UserService;
@@ -21,7 +22,7 @@ import java.io.IOException;
 public class PostService {
 
     private final UserService userService;
-    private final ImgService imgService;
+    private final ImgRefService imgRefService;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
 
@@ -38,20 +39,12 @@ public class PostService {
 
     /**
      * createPost: 게시글 등록
-     * 1. 썸머노트에 이미지 업로드 시 c:\\upload\\temp\\{email}에 이미지 저장
-     * 2. 게시글 등록시 썸머노트 내용의 이미지 파일을 통해 이미지 경로 및 파일명 조회
-     * 3. 해당 이미지를 c:\\upload\\post\\{email}로 이동
-     * 4. c:\\upload\\temp\\{email} 경로 내 파일 모두 삭제(임시폴더를 비우는 개념)
-     * 5. 게시글 등록
+     * 1. 썸머노트에 이미지 업로드 시 해시 저장소에 이미지 저장
+     * 2. 게시글 등록
+     * 3. 썸머노트 내용에 포함된 이미지를 게시글과 연결하고 참조 수 증가
      */
     public void createPost(PostReqDTO.CREATE create, String email) throws IOException {
 
-        imgService.renameImgInSummernote(create.getContent(), "/upload/post/" + email);
-
-        // temp 폴더 비우기
-        String deletePath = "/upload/temp/" + email;
-        imgService.clearTempDir(deletePath);
-
         Post post = Post.builder()
                 .title(create.getTitle())
                 .content(create.getContent())
@@ -59,15 +52,15 @@ public class PostService {
                 .build();
 
         postRepository.save(post);
+
+        imgRefService.retainImgsInSummernote(ImgRefOwner.POST, post.getId(), create.getContent());
     }
 
     /**
      * updatePost: 게시글 수정
-     * 1. 썸머노트에 이미지 업로드 시 c:\\upload\\temp\\{email}에 이미지 저장
-     * 2. 게시글 수정시 썸머노트 내용의 이미지 파일을 통해 이미지 경로 및 파일명 조회
-     * 3. 해당 이미지를 c:\\upload\\post\\{email}로 이동
-     * 4. c:\\upload\\temp\\{email} 경로 내 파일 모두 삭제(임시폴더를 비우는 개념)
-     * 5. 게시글 수정
+     * 1. 썸머노트에 이미지 업로드 시 해시 저장소에 이미지 저장
+     * 2. 게시글에 연결된 이미지와 수정한 내용을 비교하여 추가된 이미지는 참조 수 증가, 빠진 이미지는 참조 수 감소
+     * 3. 게시글 수정
      */
     @Transactional
     public void updatePost(PostReqDTO.UPDATE update, String email, Long id) throws IOException {
@@ -77,15 +70,8 @@ public class PostService {
                     return new IllegalArgumentException("해당 게시글을 찾을 수 없습니다.");
                 });
 
-        // 기존 이미지들을 temp 폴더로 이동
-        imgService.renameImgInSummernote(post.getContent(), "/upload/temp/" + email);
-
-        // 최종적으로 게시글에 업로드된 이미지들을 post 폴더로 이동
-        imgService.renameImgInSummernote(update.getContent(), "/upload/post/" + email);
-
-        // temp 폴더 비우기
-        String deletePath = "/upload/temp/" + email;
-        imgService.clearTempDir(deletePath);
+        // 추가된 이미지는 참조 수 증가, 빠진 이미지는 참조 수 감소
+        imgRefService.replaceImgsInSummernote(ImgRefOwner.POST, post.getId(), post.getContent(), update.getContent());
 
         post.updatePost(update.getTitle(), update.getContent());
     }
@@ -99,7 +85,7 @@ public class PostService {
     @Transactional
     public void deletePost(Post post, String email) {
 
-        imgService.deleteImgInSummernote(post.getContent());
+        imgRefService.releaseImgsInSummernote(ImgRefOwner.POST, post.getId(), post.getContent());
 
         User user = userRepository.findOptionalByEmail(email)
             .orElseThrow(()->{
@@ -5,7 +5,7 @@ import kr.co.scheduler.community.entity.Comment;
 import kr.co.scheduler.community.entity.Post;
 import kr.co.scheduler.community.entity.Reply;
 import kr.co.scheduler.community.repository.ReplyRepository;
-import kr.co.scheduler.global.service.AlertService;
+import kr.co.scheduler.global.service.OutboxService;
 import kr.co.scheduler.user.entity.User;
 import kr.co.scheduler.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +20,7 @@ public class ReplyService {
     private final PostService postService;
     private final CommentService commentService;
     private final UserService userService;
-    private final AlertService alertService;
+    private final OutboxService outboxService;
     private final ReplyRepository replyRepository;
 
     /**
@@ -64,7 +64,7 @@ public class ReplyService {
             }
         }
 
-        alertService.createAlert("게시글 " + post.getTitle()+ "에 단 댓글 " + comment.getComment() + "에 대댓글이 달렸습니다.", comment.getUser());
+        outboxService.enqueueAlert("게시글 " + post.getTitle()+ "에 단 댓글 " + comment.getComment() + "에 대댓글이 달렸습니다.", comment.getUser());
 
         replyRepository.save(reply);
     }
@@ -0,0 +1,69 @@
+package kr.co.scheduler.global.config.alert;
+
+import kr.co.scheduler.global.config.cache.LocalCache;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * AlertCountCache: 회원별 읽지 않은 알림 수를 보관하는 크기 제한 캐시 (LocalCache 사용)
+ * 1. 최근에 조회한 순서를 유지하고, maxUsers 를 넘으면 가장 오래 조회하지 않은 회원부터 제거
+ * 2. ttlMillis 가 지난 값은 버리고 DB 에서 다시 셈 (저장과 조회가 엇갈려 어긋난 값도 이 시간 안에 바로잡힘)
+ * 3. 캐시에 있는 회원만 증감하고, 없는 회원은 다음 조회 때 DB 에서 셈
+ * 4. 노드마다 따로 보관하므로, 다른 노드에서 바뀐 알림 수는 ttlMillis 안에 반영됨
+ */
+@Component
+public class AlertCountCache {
+
+    private final LocalCache<Long, Long> counts;
+
+    public AlertCountCache(AlertCountProperties alertCountProperties) {
+
+        this.counts = new LocalCache<>(alertCountProperties.getMaxUsers(), alertCountProperties.getTtlMillis());
+    }
+
+    /**
+     * get: 캐시된 값을 리턴하고, 없거나 만료되었으면 loader 로 세어 저장
+     */
+    public long get(Long userId, LongSupplier loader) {
+
+        Long cached = counts.get(userId);
+
+        if (cached != null) {
+
+            return cached;
+        }
+
+        // DB 조회는 잠금 밖에서 실행
+        long count = loader.getAsLong();
+        counts.put(userId, count, 1);
+
+        return count;
+    }
+
+    /**
+     * add: 캐시에 있는 회원의 값만 delta 만큼 증감
+     */
+    public void add(Long userId, long delta) {
+
+        counts.update(userId, count -> Math.max(0, count + delta));
+    }
+
+    public void evict(Long userId) {
+
+        counts.remove(userId);
+    }
+
+    /**
+     * clear: 이 노드에 캐시한 값만 비움
+     */
+    public void clear() {
+
+        counts.clear();
+    }
+
+    public int size() {
+
+        return counts.size();
+    }
+}
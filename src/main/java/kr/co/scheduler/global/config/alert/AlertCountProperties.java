@@ -0,0 +1,22 @@
+package kr.co.scheduler.global.config.alert;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AlertCountProperties: 읽지 않은 알림 수 캐시 설정
+ * 1. maxUsers: 캐시에 보관할 최대 회원 수 (초과하면 가장 오래 조회하지 않은 회원부터 제거)
+ * 2. ttlMillis: 저장한 값을 DB 에서 다시 세기 전까지 사용하는 시간 (다른 노드에서 바뀐 알림 수도 이 시간 안에 반영)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "alert.count")
+public class AlertCountProperties {
+
+    private int maxUsers = 10_000;
+
+    private long ttlMillis = 5 * 60 * 1000;
+}
@@ -0,0 +1,22 @@
+package kr.co.scheduler.global.config.alert;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AlertRetentionProperties: 오래된 알림 정리 설정
+ * 1. retentionDays: 알림과 처리 완료된 outbox 행을 보관하는 기간
+ * 2. chunkSize: DELETE 한 번에 포함할 id 범위의 크기 (트랜잭션 단위)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "alert.retention")
+public class AlertRetentionProperties {
+
+    private int retentionDays = 90;
+
+    private int chunkSize = 1000;
+}
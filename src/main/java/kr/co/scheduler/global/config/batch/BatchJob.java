@@ -1,44 +1,38 @@
 package kr.co.scheduler.global.config.batch;
 
-import kr.co.scheduler.community.entity.Post;
-import kr.co.scheduler.community.service.PostService;
 import kr.co.scheduler.global.config.mail.AlertFiredMail;
+import kr.co.scheduler.global.config.lock.FencingTokenChunkListener;
 import kr.co.scheduler.global.config.mail.AlertInactiveMail;
-import kr.co.scheduler.scheduler.entity.Project;
-import kr.co.scheduler.scheduler.service.ProjectService;
 import kr.co.scheduler.user.entity.User;
 import kr.co.scheduler.user.repository.UserRepository;
+import kr.co.scheduler.user.service.UserPurgeService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
 import org.springframework.batch.item.support.ListItemWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
 
 @Configuration
 public class BatchJob{
 
     @Autowired
-    private PostService postService;
-
-    @Autowired
-    private ProjectService projectService;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserPurgeService userPurgeService;
 
     @Autowired
     private AlertInactiveMail alertInactiveMail;
@@ -46,46 +40,96 @@ public class BatchJob{
     @Autowired
     private AlertFiredMail alertFiredMail;
 
+    @Autowired
+    private InactiveUserBatchProperties inactiveUserBatchProperties;
+
+    @Autowired
+    private FencingTokenChunkListener fencingTokenChunkListener;
+
     /**
      * processNotLoggedUsersJob: 미접속 사용자에 대한 데이터를 처리하는 배치
      * Step 1. 10일간 미접속 사용자는 안내성 메일을 전송
-     * Step 2. 30일간 미접속 사용자는 모든 게시글을 삭제(이미지 파일 제거를 위함) 및 회원 탈퇴 처리
+     * Step 2. 30일간 미접속 사용자는 작성한 모든 데이터와 이미지 파일을 삭제하고 회원 탈퇴 처리
+     * 파티셔닝 모드인 경우 각 Step 을 user_id 범위로 분할하여 병렬로 처리
      */
     @Bean
     public Job processNotLoggedUsersJob(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
 
+        if (inactiveUserBatchProperties.isPartitioned()) {
+
+            return new JobBuilder("processNotLoggedUsersJob", jobRepository)
+                    .start(processNotLoggedFor10DaysUsersPartitionStep(jobRepository, platformTransactionManager))
+                    .next(processNotLoggedFor30DaysUsersPartitionStep(jobRepository, platformTransactionManager))
+                    .build();
+        }
+
         return new JobBuilder("processNotLoggedUsersJob", jobRepository)
                 .start(processNotLoggedFor10DaysUsersStep(jobRepository, platformTransactionManager))
                 .next(processNotLoggedFor30DaysUsersStep(jobRepository, platformTransactionManager))
                 .build();
     }
 
+    /**
+     * userIdRangePartitioner: tbl_user 를 user_id 범위로 분할하는 Partitioner
+     */
+    @Bean
+    public UserIdRangePartitioner userIdRangePartitioner() {
+
+        return new UserIdRangePartitioner(userRepository);
+    }
+
+    /**
+     * inactiveUserTaskExecutor: 파티션을 처리하는 스레드 수를 poolSize 로 제한
+     * 애플리케이션 기본 TaskExecutor 를 대체하지 않도록 빈으로 등록하지 않음
+     */
+    private TaskExecutor inactiveUserTaskExecutor() {
+
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("inactive-user-batch-");
+        taskExecutor.setConcurrencyLimit(inactiveUserBatchProperties.getPoolSize());
+
+        return taskExecutor;
+    }
+
     // ================================== 구분 ================================== //
 
+    @Bean
+    public Step processNotLoggedFor10DaysUsersPartitionStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+
+        return new StepBuilder("processNotLoggedFor10DaysUsersPartitionStep", jobRepository)
+                .partitioner("processNotLoggedFor10DaysUsersStep", userIdRangePartitioner())
+                .step(processNotLoggedFor10DaysUsersStep(jobRepository, transactionManager))
+                .gridSize(inactiveUserBatchProperties.getGridSize())
+                .taskExecutor(inactiveUserTaskExecutor())
+                .build();
+    }
+
     @Bean
     public Step processNotLoggedFor10DaysUsersStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        LocalDate daysAgo = LocalDate.now().minusDays(15);
 
         return new StepBuilder("processNotLoggedFor10DaysUsersStep", jobRepository)
-                .<User, User>chunk(10, transactionManager)
-                .reader(notLoggedUsersFor10DaysItemReader(daysAgo))
+                .<User, User>chunk(inactiveUserBatchProperties.getChunkSize(), transactionManager)
+                .reader(notLoggedUsersFor10DaysItemReader(null, null, null))
                 .processor(notLoggedUsersFor10DaysItemProcessor())
                 .faultTolerant() // Skip 기능 활성화
                 .skip(Exception.class)
                 .writer(noOpItemWriter())
+                .listener(fencingTokenChunkListener)
                 .build();
     }
 
+    /**
+     * notLoggedUsersFor10DaysItemReader: 파티션의 user_id 범위 내에서 정확히 15일 전에 마지막으로 로그인한 사용자 조회
+     * 파티셔닝하지 않는 경우 전체 범위를 조회
+     */
     @Bean
-    public ItemReader<User> notLoggedUsersFor10DaysItemReader(LocalDate daysAgo) {
-
-        return new RepositoryItemReaderBuilder<User>()
-                .repository(userRepository)
-                .methodName("findByLastLoggedDay")
-                .arguments(daysAgo)
-                .sorts(Collections.singletonMap("id", Sort.Direction.ASC))
-                .name("notLoggedUsersItemReader")
-                .build();
+    @StepScope
+    public UserKeysetItemReader notLoggedUsersFor10DaysItemReader(@Value("#{jobParameters['jobStartTime']}") LocalDate jobStartTime,
+                                                                  @Value("#{stepExecutionContext['minId']}") Long minId,
+                                                                  @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+
+        LocalDate daysAgo = jobStartTime.minusDays(15);
+
+        return notLoggedUsersItemReader("notLoggedUsersFor10DaysItemReader", daysAgo, daysAgo.plusDays(1), minId, maxId);
     }
 
     @Bean
@@ -93,7 +137,7 @@ public class BatchJob{
         return user -> {
 
             try {
-                alertInactiveMail.sendMessage(user.getEmail());
+                alertInactiveMail.sendMessage(user);
 
                 return null;
             } catch (Exception e) {
@@ -111,30 +155,43 @@ public class BatchJob{
 
     // ================================== 구분 ================================== //
 
+    @Bean
+    public Step processNotLoggedFor30DaysUsersPartitionStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+
+        return new StepBuilder("processNotLoggedFor30DaysUsersPartitionStep", jobRepository)
+                .partitioner("processNotLoggedFor30DaysUsersStep", userIdRangePartitioner())
+                .step(processNotLoggedFor30DaysUsersStep(jobRepository, transactionManager))
+                .gridSize(inactiveUserBatchProperties.getGridSize())
+                .taskExecutor(inactiveUserTaskExecutor())
+                .build();
+    }
+
     @Bean
     public Step processNotLoggedFor30DaysUsersStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        LocalDate daysAgo = LocalDate.now().minusDays(30);
 
         return new StepBuilder("processNotLoggedFor30DaysUsersStep", jobRepository)
-                .<User, User>chunk(10, transactionManager)
-                .reader(notLoggedUsersFor30DaysItemReader(daysAgo))
+                .<User, User>chunk(inactiveUserBatchProperties.getChunkSize(), transactionManager)
+                .reader(notLoggedUsersFor30DaysItemReader(null, null, null))
                 .processor(notLoggedUsersFor30DaysItemProcessor())
                 .faultTolerant() // Skip 기능 활성화
                 .skip(Exception.class)
                 .writer(notLoggedUsersFor30DaysItemWriter())
+                .listener(fencingTokenChunkListener)
                 .build();
     }
 
+    /**
+     * notLoggedUsersFor30DaysItemReader: 파티션의 user_id 범위 내에서 30일 이상 로그인하지 않은 사용자 조회
+     * 배치가 실행되지 않은 날이 있더라도 다음 실행에서 누락된 사용자까지 처리하도록 날짜 범위로 조회
+     * 파티셔닝하지 않는 경우 전체 범위를 조회
+     */
     @Bean
-    public ItemReader<User> notLoggedUsersFor30DaysItemReader(LocalDate daysAgo) {
-
-        return new RepositoryItemReaderBuilder<User>()
-                .repository(userRepository)
-                .methodName("findByLastLoggedDay")
-                .arguments(daysAgo)
-                .sorts(Collections.singletonMap("id", Sort.Direction.ASC))
-                .name("notLoggedUsersItemReader")
-                .build();
+    @StepScope
+    public UserKeysetItemReader notLoggedUsersFor30DaysItemReader(@Value("#{jobParameters['jobStartTime']}") LocalDate jobStartTime,
+                                                                  @Value("#{stepExecutionContext['minId']}") Long minId,
+                                                                  @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+
+        return notLoggedUsersItemReader("notLoggedUsersFor30DaysItemReader", LocalDate.EPOCH, jobStartTime.minusDays(29), minId, maxId);
     }
 
     @Bean
@@ -143,7 +200,7 @@ public class BatchJob{
         return user -> {
 
             try {
-                alertFiredMail.sendMessage(user.getEmail());
+                alertFiredMail.sendMessage(user);
 
                 return user;
             } catch (Exception e) {
@@ -153,29 +210,24 @@ public class BatchJob{
         };
     }
 
+    /**
+     * notLoggedUsersFor30DaysItemWriter: Chunk 단위로 회원과 관련 데이터를 일괄 삭제
+     */
     @Bean
     public ItemWriter<User> notLoggedUsersFor30DaysItemWriter() {
 
-        return users -> {
-
-            for (User user : users) {
-
-                List<Post> posts = user.getPosts();
-                String email = user.getEmail();
-                List<Project> projects = user.getProjects();
-
-                for (Post post : posts) {
-
-                    postService.deletePost(post, email);
-                }
+        return users -> userPurgeService.purgeUsers(users.getItems().stream()
+                .map(User::getId)
+                .toList());
+    }
 
-                for (Project project : projects) {
+    // ================================== 구분 ================================== //
 
-                    projectService.deleteProject(project.getId(), email);
-                }
+    private UserKeysetItemReader notLoggedUsersItemReader(String name, LocalDate from, LocalDate to, Long minId, Long maxId) {
 
-                userRepository.delete(user);
-            }
-        };
+        return new UserKeysetItemReader(name, userRepository, from, to,
+                minId == null ? 0L : minId,
+                maxId == null ? Long.MAX_VALUE : maxId,
+                inactiveUserBatchProperties.getChunkSize());
     }
 }
@@ -1,5 +1,7 @@
 package kr.co.scheduler.global.config.batch;
 
+import kr.co.scheduler.global.config.lock.FencingTokenChunkListener;
+import kr.co.scheduler.global.service.SchedulerLockService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParameters;
@@ -19,19 +21,47 @@ public class BatchSchedulerConfig {
     @Autowired
     private JobLauncher jobLauncher;
     @Autowired
+    private SchedulerLockService schedulerLockService;
+    @Autowired
     private Job processNotLoggedUsersJob;
+    @Autowired
+    private Job sendProjectDeadlineAlertJob;
 
     /**
      * runBatchJob: 스프링 배치에 스케줄러 적용
      * 1. 로그인한지 10일 지난 사용자에게 안내 메일 전달
      * 2. 로그인한지 30일 지난 사용자의 모든 게시물 삭제(이미지 파일을 지우기 위함) 및 유저 탈퇴 처리 
+     * 여러 인스턴스 중 잠금을 획득한 한 곳에서만 실행
      */
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
-    public void runBatchJob() throws JobExecutionException {
+    public void runBatchJob() throws Exception {
+
+        schedulerLockService.runExclusively("processNotLoggedUsersJob", lease -> launch(processNotLoggedUsersJob, lease));
+    }
+
+    /**
+     * runProjectDeadlineAlertJob: 매일 0시 정각에 마감일이 다가온 프로젝트 작성자에게 알림 및 웹 푸시 전달
+     * 실패한 경우 같은 jobStartTime 으로 다시 실행하면 마지막 커밋 이후의 프로젝트부터 이어서 처리
+     * 여러 인스턴스 중 잠금을 획득한 한 곳에서만 실행
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void runProjectDeadlineAlertJob() throws Exception {
+
+        schedulerLockService.runExclusively("sendProjectDeadlineAlertJob", lease -> launch(sendProjectDeadlineAlertJob, lease));
+    }
+
+    /**
+     * launch: 잠금 이름과 fencingToken 을 식별에 사용하지 않는 JobParameter 로 전달
+     * 각 Step 의 FencingTokenChunkListener 가 청크마다 잠금이 유효한지 확인
+     */
+    private void launch(Job job, SchedulerLockService.Lease lease) throws JobExecutionException {
+
         JobParameters jobParameters = new JobParametersBuilder()
                 .addLocalDate("jobStartTime", LocalDate.now())
+                .addString(FencingTokenChunkListener.LOCK_NAME, lease.getName(), false)
+                .addLong(FencingTokenChunkListener.FENCING_TOKEN, lease.getFencingToken(), false)
                 .toJobParameters();
 
-        jobLauncher.run(processNotLoggedUsersJob, jobParameters);
+        jobLauncher.run(job, jobParameters);
     }
 }
@@ -0,0 +1,28 @@
+package kr.co.scheduler.global.config.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * InactiveUserBatchProperties: 미접속 사용자 배치 설정
+ * 1. partitioned: user_id 범위로 파티셔닝하여 병렬 처리할지 여부
+ * 2. gridSize: 파티션 개수
+ * 3. poolSize: 파티션을 동시에 처리할 최대 스레드 수
+ * 4. chunkSize: 청크 단위 (커밋 간격)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "batch.inactive-user")
+public class InactiveUserBatchProperties {
+
+    private boolean partitioned = true;
+
+    private int gridSize = 4;
+
+    private int poolSize = 4;
+
+    private int chunkSize = 10;
+}
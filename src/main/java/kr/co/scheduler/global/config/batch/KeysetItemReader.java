@@ -0,0 +1,89 @@
+package kr.co.scheduler.global.config.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.util.ExecutionContextUserSupport;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * KeysetItemReader: id 기준 Keyset 페이징 ItemReader
+ * 1. pageQuery(lastId, pageSize) 로 lastId 보다 큰 id 를 id 순으로 pageSize 만큼 조회 (OFFSET 없음)
+ * 2. 이미 읽은 행이 삭제되거나 수정되어도 다음 페이지의 시작 위치가 바뀌지 않음
+ * 3. 마지막으로 읽은 id 를 ExecutionContext 에 저장하여 재시작 시 커밋되지 않은 첫 항목부터 이어서 조회
+ */
+public class KeysetItemReader<T> implements ItemStreamReader<T> {
+
+    private static final String LAST_ID = "lastId";
+
+    private final BiFunction<Long, Integer, List<T>> pageQuery;
+    private final Function<T, Long> idExtractor;
+    private final int pageSize;
+    private final ExecutionContextUserSupport executionContextUserSupport = new ExecutionContextUserSupport();
+
+    private long lastId;
+    private Iterator<T> page = Collections.emptyIterator();
+    private boolean lastPage;
+
+    /**
+     * @param startAfterId 이 id 보다 큰 항목부터 조회
+     */
+    public KeysetItemReader(String name, BiFunction<Long, Integer, List<T>> pageQuery, Function<T, Long> idExtractor,
+                            long startAfterId, int pageSize) {
+
+        executionContextUserSupport.setName(name);
+
+        this.pageQuery = pageQuery;
+        this.idExtractor = idExtractor;
+        this.lastId = startAfterId;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public T read() {
+
+        if (!page.hasNext()) {
+
+            if (lastPage) {
+
+                return null;
+            }
+
+            List<T> items = pageQuery.apply(lastId, pageSize);
+
+            lastPage = items.size() < pageSize;
+            page = items.iterator();
+
+            if (!page.hasNext()) {
+
+                return null;
+            }
+        }
+
+        T item = page.next();
+        lastId = idExtractor.apply(item);
+
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+
+        String key = executionContextUserSupport.getKey(LAST_ID);
+
+        if (executionContext.containsKey(key)) {
+
+            lastId = executionContext.getLong(key);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+
+        executionContext.putLong(executionContextUserSupport.getKey(LAST_ID), lastId);
+    }
+}
@@ -0,0 +1,108 @@
+package kr.co.scheduler.global.config.batch;
+
+import kr.co.scheduler.global.config.lock.FencingTokenChunkListener;
+import kr.co.scheduler.global.entity.Outbox;
+import kr.co.scheduler.global.service.OutboxService;
+import kr.co.scheduler.scheduler.dtos.ProjectDeadlineResDTO;
+import kr.co.scheduler.scheduler.repository.ProjectRepository;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class ProjectDeadlineBatchJob {
+
+    private static final String PUSH_TITLE = "SPAP 스케줄러";
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ProjectDeadlineProperties projectDeadlineProperties;
+
+    @Autowired
+    private FencingTokenChunkListener fencingTokenChunkListener;
+
+    /**
+     * sendProjectDeadlineAlertJob: 마감일이 다가온 프로젝트 작성자에게 알림 및 웹 푸시를 전달하는 배치
+     * 1. 활성화된 프로젝트 중 마감일이 오늘부터 alertDaysBefore 일 이내인 프로젝트를 project_id 순으로 조회
+     * 2. 청크 단위로 알림 및 웹 푸시 발송 요청 저장
+     * 3. 마지막으로 커밋된 project_id 를 저장하여, 같은 jobStartTime 으로 재실행하면 전송하지 못한 첫 프로젝트부터 이어서 처리
+     */
+    @Bean
+    public Job sendProjectDeadlineAlertJob(JobRepository jobRepository, PlatformTransactionManager platformTransactionManager) {
+
+        return new JobBuilder("sendProjectDeadlineAlertJob", jobRepository)
+                .start(sendProjectDeadlineAlertStep(jobRepository, platformTransactionManager))
+                .build();
+    }
+
+    @Bean
+    public Step sendProjectDeadlineAlertStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+
+        return new StepBuilder("sendProjectDeadlineAlertStep", jobRepository)
+                .<ProjectDeadlineResDTO, ProjectDeadlineResDTO>chunk(projectDeadlineProperties.getAlertChunkSize(), transactionManager)
+                .reader(projectDeadlineItemReader(null))
+                .writer(projectDeadlineItemWriter())
+                .listener(fencingTokenChunkListener)
+                .build();
+    }
+
+    /**
+     * projectDeadlineItemReader: 마감일까지 남은 날짜(D-Day)를 쿼리에서 계산하여 조회
+     */
+    @Bean
+    @StepScope
+    public KeysetItemReader<ProjectDeadlineResDTO> projectDeadlineItemReader(@Value("#{jobParameters['jobStartTime']}") LocalDate jobStartTime) {
+
+        LocalDate until = jobStartTime.plusDays(projectDeadlineProperties.getAlertDaysBefore());
+
+        return new KeysetItemReader<>("projectDeadlineItemReader",
+                (lastId, size) -> projectRepository.findDeadlineAfterId(jobStartTime, until, lastId, PageRequest.of(0, size)),
+                ProjectDeadlineResDTO::getProjectId,
+                0L,
+                projectDeadlineProperties.getAlertChunkSize());
+    }
+
+    /**
+     * projectDeadlineItemWriter: 청크의 알림 및 웹 푸시 발송 요청을 tbl_outbox 에 저장
+     * 실제 발송은 OutboxDispatcher 가 처리하므로, 청크가 롤백되면 발송 요청도 함께 롤백됨
+     */
+    @Bean
+    public ItemWriter<ProjectDeadlineResDTO> projectDeadlineItemWriter() {
+
+        return projects -> {
+
+            List<Outbox> outboxes = new ArrayList<>(projects.size());
+
+            for (ProjectDeadlineResDTO project : projects) {
+
+                outboxes.add(Outbox.builder()
+                        .userId(project.getUserId())
+                        .alertContent(project.getAlertBody())
+                        .pushTitle(PUSH_TITLE)
+                        .pushToken(project.getTargetToken())
+                        .build());
+            }
+
+            outboxService.enqueueAll(outboxes);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package kr.co.scheduler.global.config.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProjectDeadlineProperties: 프로젝트 마감 처리 설정
+ * 1. completeChunkSize: 마감 처리 UPDATE 한 번에 포함할 project_id 범위의 크기 (트랜잭션 단위)
+ * 2. alertDaysBefore: 마감일 며칠 전부터 알림을 보낼지
+ * 3. alertChunkSize: 마감 알림 배치의 청크 단위 (커밋 간격)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "batch.project-deadline")
+public class ProjectDeadlineProperties {
+
+    private int completeChunkSize = 1000;
+
+    private int alertDaysBefore = 7;
+
+    private int alertChunkSize = 100;
+}
@@ -0,0 +1,57 @@
+package kr.co.scheduler.global.config.batch;
+
+import kr.co.scheduler.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * UserIdRangePartitioner: tbl_user 를 user_id 범위로 분할
+ * 1. user_id 의 최소값과 최대값 조회
+ * 2. gridSize 개수만큼 [minId, maxId] 구간으로 나누어 각 파티션의 ExecutionContext 에 저장
+ */
+@RequiredArgsConstructor
+public class UserIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        Long min = userRepository.findMinId();
+        Long max = userRepository.findMaxId();
+
+        if (min == null || max == null) {
+
+            return partitions;
+        }
+
+        long rangeSize = (max - min) / gridSize + 1;
+        long start = min;
+        int number = 0;
+
+        while (start <= max) {
+
+            long end = Math.min(start + rangeSize - 1, max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, end);
+
+            partitions.put("partition" + number, context);
+
+            start = end + 1;
+            number++;
+        }
+
+        return partitions;
+    }
+}
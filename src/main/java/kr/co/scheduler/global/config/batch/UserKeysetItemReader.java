@@ -0,0 +1,32 @@
+package kr.co.scheduler.global.config.batch;
+
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+
+/**
+ * UserKeysetItemReader: user_id 기준 Keyset 페이징으로 미접속 사용자 조회
+ * 1. WHERE user_id > :lastId ORDER BY user_id LIMIT pageSize 로 조회하여 페이지가 뒤로 갈수록 느려지지 않음
+ * 2. 이미 읽은 사용자가 삭제되어도 다음 페이지의 시작 위치가 바뀌지 않으므로 누락되는 사용자가 없음
+ * 3. 마지막으로 읽은 user_id 를 ExecutionContext 에 저장하여 재시작 시 이어서 조회
+ */
+public class UserKeysetItemReader extends KeysetItemReader<User> {
+
+    /**
+     * @param from   마지막 로그인 날짜 하한 (포함)
+     * @param to     마지막 로그인 날짜 상한 (미포함)
+     * @param minId  조회할 user_id 하한 (포함)
+     * @param maxId  조회할 user_id 상한 (포함)
+     */
+    public UserKeysetItemReader(String name, UserRepository userRepository, LocalDate from, LocalDate to,
+                                long minId, long maxId, int pageSize) {
+
+        super(name,
+                (lastId, size) -> userRepository.findByLastLoggedDayRangeAfterId(from, to, lastId, maxId, PageRequest.of(0, size)),
+                User::getId,
+                minId - 1,
+                pageSize);
+    }
+}
@@ -0,0 +1,136 @@
+package kr.co.scheduler.global.config.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * LocalCache: 인스턴스 메모리에 보관하는 크기 제한 LRU 캐시
+ * 1. 최근에 조회한 순서를 유지하고, 항목 무게(weight)의 합이 maxWeight 를 넘으면 가장 오래 조회하지 않은 항목부터 제거
+ * 2. ttlMillis 가 지난 항목은 없는 것으로 보고 제거
+ * 3. 노드마다 따로 보관하며 다른 노드에 제거를 알리지 않음 (한 노드에서 remove, clear 해도 다른 노드의 항목은 ttlMillis 가 지나야 바뀜)
+ *    따라서 노드 사이에 ttlMillis 동안 어긋나도 되는 값만 보관
+ */
+public class LocalCache<K, V> {
+
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Node<V>> nodes = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long evictions;
+
+    public LocalCache(long maxWeight, long ttlMillis) {
+
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * get: 보관한 값 리턴 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+
+        Node<V> node = nodes.get(key);
+
+        if (node == null) {
+
+            return null;
+        }
+
+        if (node.expiresAt <= System.currentTimeMillis()) {
+
+            remove(key);
+
+            return null;
+        }
+
+        return node.value;
+    }
+
+    /**
+     * put: 값을 ttlMillis 동안 보관하고, 무게의 합이 maxWeight 를 넘으면 오래 조회하지 않은 항목부터 제거
+     */
+    public synchronized void put(K key, V value, long weight) {
+
+        Node<V> previous = nodes.put(key, new Node<>(value, System.currentTimeMillis() + ttlMillis, weight));
+
+        if (previous != null) {
+
+            this.weight -= previous.weight;
+        }
+
+        this.weight += weight;
+
+        Iterator<Node<V>> iterator = nodes.values().iterator();
+
+        while (this.weight > maxWeight && iterator.hasNext()) {
+
+            this.weight -= iterator.next().weight;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * update: 보관 중인 값만 바꾸고, 만료 시각과 무게는 그대로 유지
+     */
+    public synchronized void update(K key, UnaryOperator<V> update) {
+
+        Node<V> node = nodes.get(key);
+
+        if (node != null) {
+
+            node.value = update.apply(node.value);
+        }
+    }
+
+    public synchronized void remove(K key) {
+
+        Node<V> removed = nodes.remove(key);
+
+        if (removed != null) {
+
+            weight -= removed.weight;
+        }
+    }
+
+    public synchronized void clear() {
+
+        nodes.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+
+        return nodes.size();
+    }
+
+    public synchronized long weight() {
+
+        return weight;
+    }
+
+    /**
+     * evictions: maxWeight 를 넘어 제거한 항목 수 (remove, clear, 만료로 제거한 항목은 제외)
+     */
+    public synchronized long evictions() {
+
+        return evictions;
+    }
+
+    // ================================== 구분 ================================== //
+
+    private static class Node<V> {
+
+        private V value;
+        private final long expiresAt;
+        private final long weight;
+
+        private Node(V value, long expiresAt, long weight) {
+
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package kr.co.scheduler.global.config.fcm;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * FirebasePushTransport: Firebase Admin SDK 로 웹 푸시 전송
+ * 모든 메세지의 제목과 내용이 같으면 멀티캐스트 한 번으로, 다르면 sendEach 한 번으로 묶음 전송
+ */
+@Component
+@ConditionalOnProperty(prefix = "fcm.push", name = "transport", havingValue = "fcm", matchIfMissing = true)
+public class FirebasePushTransport implements PushTransport {
+
+    @Override
+    public List<PushResult> send(List<PushMessage> messages) throws FirebaseMessagingException {
+
+        BatchResponse response = isMulticast(messages)
+                ? FirebaseMessaging.getInstance().sendEachForMulticast(toMulticastMessage(messages))
+                : FirebaseMessaging.getInstance().sendEach(messages.stream().map(this::toMessage).toList());
+
+        List<SendResponse> responses = response.getResponses();
+        List<PushResult> results = new ArrayList<>(messages.size());
+
+        for (int i = 0; i < messages.size(); i++) {
+
+            String targetToken = messages.get(i).getTargetToken();
+            SendResponse sendResponse = responses.get(i);
+
+            if (sendResponse.isSuccessful()) {
+
+                results.add(PushResult.success(targetToken, sendResponse.getMessageId()));
+            } else {
+
+                results.add(failure(targetToken, sendResponse.getException()));
+            }
+        }
+
+        return results;
+    }
+
+    // ================================== 구분 ================================== //
+
+    private boolean isMulticast(List<PushMessage> messages) {
+
+        PushMessage first = messages.get(0);
+
+        return messages.stream().allMatch(message ->
+                first.getTitle().equals(message.getTitle()) && first.getBody().equals(message.getBody()));
+    }
+
+    private MulticastMessage toMulticastMessage(List<PushMessage> messages) {
+
+        return MulticastMessage.builder()
+                .addAllTokens(messages.stream().map(PushMessage::getTargetToken).toList())
+                .setNotification(toNotification(messages.get(0)))
+                .build();
+    }
+
+    private Message toMessage(PushMessage message) {
+
+        return Message.builder()
+                .setToken(message.getTargetToken())
+                .setNotification(toNotification(message))
+                .build();
+    }
+
+    private Notification toNotification(PushMessage message) {
+
+        return Notification.builder()
+                .setTitle(message.getTitle())
+                .setBody(message.getBody())
+                .build();
+    }
+
+    /**
+     * failure: FCM 오류를 전송 결과로 변환
+     * 1. MessagingErrorCode 가 없으면 플랫폼 ErrorCode 이름만 기록하고 토큰은 삭제하지 않음
+     * 2. INVALID_ARGUMENT 는 메세지 내용이 잘못된 경우에도 오므로, 오류 메세지가 등록 토큰을 가리킬 때만 토큰 오류로 봄
+     */
+    private PushResult failure(String targetToken, FirebaseMessagingException e) {
+
+        if (e == null) {
+
+            return PushResult.failure(targetToken, null);
+        }
+
+        MessagingErrorCode messagingErrorCode = e.getMessagingErrorCode();
+
+        if (messagingErrorCode == null) {
+
+            return PushResult.failure(targetToken, e.getErrorCode().name());
+        }
+
+        if (messagingErrorCode == MessagingErrorCode.INVALID_ARGUMENT && isTokenError(e)) {
+
+            return PushResult.tokenRejected(targetToken, messagingErrorCode.name());
+        }
+
+        return PushResult.failure(targetToken, messagingErrorCode.name());
+    }
+
+    private boolean isTokenError(FirebaseMessagingException e) {
+
+        return e.getMessage() != null && e.getMessage().toLowerCase(Locale.ROOT).contains("registration token");
+    }
+}
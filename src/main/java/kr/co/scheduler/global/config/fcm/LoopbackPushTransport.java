@@ -0,0 +1,58 @@
+package kr.co.scheduler.global.config.fcm;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoopbackPushTransport: Firebase 로 전송하지 않고 모든 토큰에 성공을 리턴
+ * 묶음마다 fcm.push.loopback-latency-millis 만큼 대기하여 네트워크 지연을 흉내내고, 처리량 부하 테스트에 사용
+ */
+@Component
+@ConditionalOnProperty(prefix = "fcm.push", name = "transport", havingValue = "loopback")
+public class LoopbackPushTransport implements PushTransport {
+
+    private final PushProperties pushProperties;
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+
+    public LoopbackPushTransport(PushProperties pushProperties) {
+
+        this.pushProperties = pushProperties;
+    }
+
+    @Override
+    public List<PushResult> send(List<PushMessage> batch) throws InterruptedException {
+
+        if (pushProperties.getLoopbackLatencyMillis() > 0) {
+
+            Thread.sleep(pushProperties.getLoopbackLatencyMillis());
+        }
+
+        batches.incrementAndGet();
+        messages.addAndGet(batch.size());
+
+        List<PushResult> results = new ArrayList<>(batch.size());
+
+        for (PushMessage message : batch) {
+
+            results.add(PushResult.success(message.getTargetToken(), "loopback/" + UUID.randomUUID()));
+        }
+
+        return results;
+    }
+
+    public long getBatches() {
+
+        return batches.get();
+    }
+
+    public long getMessages() {
+
+        return messages.get();
+    }
+}
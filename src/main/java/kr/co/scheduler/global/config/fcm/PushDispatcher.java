@@ -0,0 +1,140 @@
+package kr.co.scheduler.global.config.fcm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PushDispatcher: 웹 푸시 묶음 전송
+ * 1. 메세지를 batchSize(최대 500) 개씩 나누어 스레드 수와 대기열 크기가 제한된 executor 에서 비동기로 전송
+ * 2. 대기열이 가득 찬 경우 호출한 스레드에서 전송하여 자연스럽게 속도를 늦춤
+ * 3. 묶음을 전송하기 전에 batchesPerSecond 를 넘지 않도록 대기
+ * 4. 모든 묶음의 토큰별 결과를 메세지 순서대로 합쳐 리턴
+ * 5. 묶음 전송 시간(fcm.push.send.latency), 성공 건수(fcm.push.sent), 실패 건수(fcm.push.failed, 오류 코드별 reason 태그)를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private static final String BATCH_FAILED = "BATCH_FAILED";
+
+    private final PushTransport pushTransport;
+    private final PushProperties pushProperties;
+    private final PushRateLimiter rateLimiter;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendLatency;
+    private final Counter sentCounter;
+
+    public PushDispatcher(PushTransport pushTransport, PushProperties pushProperties, MeterRegistry meterRegistry) {
+
+        this.pushTransport = pushTransport;
+        this.pushProperties = pushProperties;
+        this.rateLimiter = new PushRateLimiter(pushProperties.getBatchesPerSecond());
+        this.executor = new ThreadPoolExecutor(pushProperties.getThreads(), pushProperties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pushProperties.getQueueCapacity()),
+                new CustomizableThreadFactory("fcm-push-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.meterRegistry = meterRegistry;
+        this.sendLatency = Timer.builder("fcm.push.send.latency")
+                .description("웹 푸시 묶음 하나를 전송하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("fcm.push.sent").register(meterRegistry);
+    }
+
+    /**
+     * dispatch: 메세지를 묶음으로 나누어 전송하고, 모든 묶음이 끝나면 토큰별 결과 리턴
+     * 묶음 하나라도 전송하지 못한 경우 해당 예외로 완료
+     */
+    public CompletableFuture<List<PushResult>> dispatch(List<PushMessage> messages) {
+
+        int batchSize = Math.min(pushProperties.getBatchSize(), PushTransport.MAX_BATCH_SIZE);
+        List<CompletableFuture<List<PushResult>>> batches = new ArrayList<>();
+
+        for (int from = 0; from < messages.size(); from += batchSize) {
+
+            List<PushMessage> batch = List.copyOf(messages.subList(from, Math.min(from + batchSize, messages.size())));
+
+            batches.add(CompletableFuture.supplyAsync(() -> send(batch), executor));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture<?>[]::new))
+                .thenApply(done -> {
+
+                    List<PushResult> results = new ArrayList<>(messages.size());
+                    batches.forEach(batch -> results.addAll(batch.join()));
+
+                    return results;
+                });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private List<PushResult> send(List<PushMessage> batch) {
+
+        try {
+
+            rateLimiter.acquire();
+
+            long start = System.nanoTime();
+            List<PushResult> results = pushTransport.send(batch);
+
+            sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            count(results);
+
+            return results;
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (Exception e) {
+
+            log.error("웹 푸시 {}건을 전송하지 못했습니다.", batch.size(), e);
+            failedCounter(BATCH_FAILED).increment(batch.size());
+
+            throw new CompletionException(e);
+        }
+    }
+
+    private void count(List<PushResult> results) {
+
+        for (PushResult result : results) {
+
+            if (result.isSuccess()) {
+
+                sentCounter.increment();
+            } else {
+
+                failedCounter(result.getErrorCode() == null ? "UNKNOWN" : result.getErrorCode()).increment();
+            }
+        }
+    }
+
+    private Counter failedCounter(String reason) {
+
+        return Counter.builder("fcm.push.failed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
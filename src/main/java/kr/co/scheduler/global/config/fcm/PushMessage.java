@@ -0,0 +1,18 @@
+package kr.co.scheduler.global.config.fcm;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * PushMessage: 하나의 FCM 토큰으로 보낼 웹 푸시
+ */
+@Getter
+@AllArgsConstructor
+public class PushMessage {
+
+    private String targetToken;
+
+    private String title;
+
+    private String body;
+}
@@ -0,0 +1,33 @@
+package kr.co.scheduler.global.config.fcm;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * PushProperties: 웹 푸시 전송 설정
+ * 1. transport: 전송 구현체 (fcm, loopback)
+ * 2. batchSize: 한 번에 전송할 최대 토큰 수 (FCM 제한인 500을 넘을 수 없음)
+ * 3. threads, queueCapacity: 묶음을 전송하는 스레드 수와 대기열 크기 (가득 차면 호출한 스레드에서 전송)
+ * 4. batchesPerSecond: 초당 최대 묶음 전송 횟수
+ * 5. loopbackLatencyMillis: loopback 전송 시 묶음마다 대기할 시간
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fcm.push")
+public class PushProperties {
+
+    private String transport = "fcm";
+
+    private int batchSize = PushTransport.MAX_BATCH_SIZE;
+
+    private int threads = 4;
+
+    private int queueCapacity = 100;
+
+    private double batchesPerSecond = 20;
+
+    private long loopbackLatencyMillis = 0;
+}
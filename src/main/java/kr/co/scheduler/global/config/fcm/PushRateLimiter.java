@@ -0,0 +1,37 @@
+package kr.co.scheduler.global.config.fcm;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PushRateLimiter: 초당 permitsPerSecond 번을 넘지 않도록 호출 간격을 벌림
+ * 다음 호출이 가능한 시각을 예약하고, 예약한 시각까지 호출한 스레드를 대기시킴
+ */
+class PushRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    PushRateLimiter(double permitsPerSecond) {
+
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    void acquire() throws InterruptedException {
+
+        long waitNanos;
+
+        synchronized (this) {
+
+            long now = System.nanoTime();
+            long reserved = Math.max(now, nextFreeNanos);
+
+            nextFreeNanos = reserved + intervalNanos;
+            waitNanos = reserved - now;
+        }
+
+        if (waitNanos > 0) {
+
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package kr.co.scheduler.global.config.fcm;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * PushResult: 토큰별 웹 푸시 전송 결과
+ * 실패한 경우 errorCode 에 FCM 오류 코드(MessagingErrorCode 이름, 없으면 플랫폼 ErrorCode 이름)를 담음
+ * 토큰이 등록 해제되었거나 잘못된 경우는 다시 보내도 성공할 수 없으므로 isPermanentFailure 로 구분
+ * 1. failure: 오류 코드가 UNREGISTERED, SENDER_ID_MISMATCH 인 경우만 토큰 오류로 봄
+ * 2. tokenRejected: 전송 구현체가 토큰을 가리키는 오류로 확인한 경우 (토큰 형식이 잘못된 INVALID_ARGUMENT 등)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PushResult {
+
+    private static final Set<String> TOKEN_ERROR_CODES = Set.of("UNREGISTERED", "SENDER_ID_MISMATCH");
+
+    private String targetToken;
+
+    private boolean success;
+
+    private String messageId;
+
+    private String errorCode;
+
+    private boolean invalidToken;
+
+    public static PushResult success(String targetToken, String messageId) {
+
+        return new PushResult(targetToken, true, messageId, null, false);
+    }
+
+    public static PushResult failure(String targetToken, String errorCode) {
+
+        return new PushResult(targetToken, false, null, errorCode, TOKEN_ERROR_CODES.contains(errorCode));
+    }
+
+    public static PushResult tokenRejected(String targetToken, String errorCode) {
+
+        return new PushResult(targetToken, false, null, errorCode, true);
+    }
+
+    public boolean isPermanentFailure() {
+
+        return !success && invalidToken;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.co.scheduler.global.config.fcm;
+
+import java.util.List;
+
+/**
+ * PushTransport: 웹 푸시를 묶음 단위로 실제 전송하는 구현체
+ * 1. 한 번에 최대 MAX_BATCH_SIZE 개의 메세지를 받아 messages 와 같은 순서로 토큰별 결과를 리턴
+ * 2. 토큰 하나의 실패는 결과로 리턴하고, 묶음 전체를 전송하지 못한 경우에만 예외를 던짐
+ * 3. fcm.push.transport 설정으로 구현체 선택 (fcm: Firebase, loopback: 전송 없이 부하 테스트용)
+ */
+public interface PushTransport {
+
+    int MAX_BATCH_SIZE = 500;
+
+    List<PushResult> send(List<PushMessage> messages) throws Exception;
+}
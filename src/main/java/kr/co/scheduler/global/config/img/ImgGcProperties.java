@@ -0,0 +1,25 @@
+package kr.co.scheduler.global.config.img;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ImgGcProperties: 사용하지 않는 썸머노트 이미지 정리 설정
+ * 1. graceHours: 업로드 후 이 시간이 지나도록 어떤 내용에도 포함되지 않은 이미지만 삭제 (작성 중인 글의 이미지 보호)
+ * 2. chunkSize: 한 트랜잭션에서 삭제할 이미지 수
+ * 3. walkParallelism: 임시 폴더를 동시에 탐색할 스레드 수
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "img.gc")
+public class ImgGcProperties {
+
+    private int graceHours = 24;
+
+    private int chunkSize = 500;
+
+    private int walkParallelism = 4;
+}
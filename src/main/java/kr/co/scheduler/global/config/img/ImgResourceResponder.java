@@ -0,0 +1,101 @@
+package kr.co.scheduler.global.config.img;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImgResourceResponder: 이미지 파일을 메모리에 읽어 들이지 않고 응답
+ * 1. Content-Type 은 파일 확장자로, Content-Length 는 파일 크기로 설정
+ * 2. Range 요청은 스프링이 Resource 본문을 요청한 구간(206)으로 나누어 고정 크기 버퍼로 전송
+ * 3. Range 가 없는 큰 파일은 톰캣의 sendfile 로 넘겨 커널에서 소켓으로 바로 복사 (FileChannel.transferTo)
+ *    sendfile 을 지원하지 않는 커넥터이거나 jar 안의 리소스인 경우 Resource 본문을 고정 크기 버퍼로 전송
+ * 4. 파일 크기와 수정 시각으로 만든 ETag, Last-Modified 를 붙이고, 브라우저가 가진 이미지와 같으면 본문 없이 304 응답
+ */
+@Component
+public class ImgResourceResponder {
+
+    // 톰캣 DefaultServlet 과 같은 기준으로, 작은 파일은 sendfile 로 넘기는 비용이 더 큼
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // UUID 로 이름 지은 파일은 내용이 바뀌지 않으므로 1년 동안 다시 확인하지 않음
+    private static final long IMMUTABLE_MAX_AGE_DAYS = 365;
+
+    /**
+     * immutable: 내용이 바뀌지 않는 URL (UUID 파일명, 버전을 붙인 프로필이미지) 의 캐시 설정
+     */
+    public static CacheControl immutable() {
+
+        return CacheControl.maxAge(IMMUTABLE_MAX_AGE_DAYS, TimeUnit.DAYS).immutable();
+    }
+
+    /**
+     * revalidate: 내용이 바뀔 수 있는 URL 의 캐시 설정 (매번 ETag 로 확인하고, 바뀌지 않았으면 304)
+     */
+    public static CacheControl revalidate() {
+
+        return CacheControl.noCache();
+    }
+
+    /**
+     * respond: resource 를 응답 본문으로 전송하고, 파일이 없으면 404 리턴
+     * If-None-Match, If-Modified-Since 로 보낸 이미지와 같으면 304 리턴
+     */
+    public ResponseEntity<Resource> respond(Resource resource, HttpServletRequest request, CacheControl cacheControl) throws IOException {
+
+        if (resource == null || !resource.exists()) {
+
+            return ResponseEntity.notFound().build();
+        }
+
+        long contentLength = resource.contentLength();
+        long lastModified = resource.lastModified();
+        String eTag = "\"" + Long.toHexString(contentLength) + "-" + Long.toHexString(lastModified) + "\"";
+
+        // sendfile 을 설정하기 전에 확인해야 304 응답에 파일이 실리지 않음
+        if (new ServletWebRequest(request).checkNotModified(eTag, lastModified)) {
+
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (request.getHeader(HttpHeaders.RANGE) == null && contentLength >= SENDFILE_MIN_BYTES
+                && resource.isFile() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+
+            // 본문 없이 응답하면 톰캣이 응답 헤더를 보낸 뒤 파일을 sendfile 로 전송
+            request.setAttribute(SENDFILE_FILENAME, resource.getFile().getAbsolutePath());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, contentLength);
+
+            return builder.contentLength(contentLength).build();
+        }
+
+        // Content-Length 는 전체 응답이면 파일 크기로, Range 응답이면 구간 크기로 메세지 컨버터가 설정
+        return builder.body(resource);
+    }
+}
@@ -0,0 +1,175 @@
+package kr.co.scheduler.global.config.img;
+
+import kr.co.scheduler.global.config.storage.StorageBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * ImgStore: 썸머노트 이미지를 내용의 SHA-256 을 이름으로 저장
+ * 1. stage: 업로드 스트림을 저장소의 임시 파일로 복사하면서 해시를 계산 (파일을 다시 읽지 않음)
+ * 2. commit: 임시 파일을 저장소 키 {prefix}/{해시 앞 2자리}/{다음 2자리}/{해시}_{uuid}.{확장자} 로 저장
+ *    한 폴더에 파일이 몰리지 않도록 해시 앞부분으로 폴더를 나눔
+ *    같은 내용이라도 등록하는 행마다 키가 다르므로, 삭제한 행의 파일을 지우는 작업이 다시 업로드한 파일을 지우지 않음
+ * 3. discard: 이미 같은 내용의 이미지가 있으면 임시 파일만 삭제 (저장소를 더 쓰지 않음)
+ */
+@Slf4j
+@Component
+public class ImgStore {
+
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+
+    private final StorageBackend storageBackend;
+    private final ImgStoreProperties imgStoreProperties;
+
+    public ImgStore(StorageBackend storageBackend, ImgStoreProperties imgStoreProperties) {
+
+        this.storageBackend = storageBackend;
+        this.imgStoreProperties = imgStoreProperties;
+    }
+
+    /**
+     * stage: 업로드한 이미지를 임시 파일로 저장하고 SHA-256 계산
+     */
+    public StagedImg stage(MultipartFile uploadImg) throws IOException {
+
+        Path temp = storageBackend.createTempFile();
+        MessageDigest digest = sha256();
+
+        try (InputStream input = new DigestInputStream(uploadImg.getInputStream(), digest);
+             OutputStream output = Files.newOutputStream(temp)) {
+
+            input.transferTo(output);
+        } catch (IOException | RuntimeException e) {
+
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+
+        return new StagedImg(hash, extension(uploadImg.getOriginalFilename()), temp);
+    }
+
+    /**
+     * commit: 임시 파일을 새 저장소 키로 저장하고 키 리턴
+     */
+    public String commit(StagedImg staged) throws IOException {
+
+        String key = key(staged.getHash(), staged.getHash() + "_" + UUID.randomUUID() + staged.getSuffix());
+
+        try {
+
+            storageBackend.put(key, staged.getTemp());
+        } catch (IOException | RuntimeException e) {
+
+            discard(staged);
+            throw e;
+        }
+
+        return key;
+    }
+
+    /**
+     * discard: 저장하지 않을 임시 파일 삭제
+     */
+    public void discard(StagedImg staged) {
+
+        try {
+
+            Files.deleteIfExists(staged.getTemp());
+        } catch (IOException e) {
+
+            log.warn("업로드 임시 파일을 삭제하지 못했습니다. path={}", staged.getTemp(), e);
+        }
+    }
+
+    // ================================== 구분 ================================== //
+
+    /**
+     * key: 저장할 파일명의 저장소 키 (해시 앞부분으로 폴더를 나눔)
+     */
+    private String key(String hash, String fileName) {
+
+        return imgStoreProperties.getPrefix() + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + fileName;
+    }
+
+    private static MessageDigest sha256() {
+
+        try {
+
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * extension: 원본 파일명의 확장자 (Content-Type 결정에 사용, 영문 소문자와 숫자가 아니면 사용하지 않음)
+     */
+    private static String extension(String originalFilename) {
+
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+
+        if (extension == null) {
+
+            return null;
+        }
+
+        extension = extension.toLowerCase(Locale.ROOT);
+
+        return EXTENSION.matcher(extension).matches() ? extension : null;
+    }
+
+    /**
+     * StagedImg: 해시를 계산하고 임시 파일로 저장한 업로드 이미지
+     */
+    public static class StagedImg {
+
+        private final String hash;
+        private final String extension;
+        private final Path temp;
+
+        private StagedImg(String hash, String extension, Path temp) {
+
+            this.hash = hash;
+            this.extension = extension;
+            this.temp = temp;
+        }
+
+        public String getHash() {
+
+            return hash;
+        }
+
+        public String getFileName() {
+
+            return hash + getSuffix();
+        }
+
+        private String getSuffix() {
+
+            return extension == null ? "" : "." + extension;
+        }
+
+        public Path getTemp() {
+
+            return temp;
+        }
+    }
+}
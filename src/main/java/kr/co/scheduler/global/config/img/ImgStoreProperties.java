@@ -0,0 +1,25 @@
+package kr.co.scheduler.global.config.img;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ImgStoreProperties: 업로드 이미지 저장 위치 설정
+ * 1. prefix: 썸머노트 이미지를 저장할 저장소 키 ({prefix}/{해시 앞 2자리}/{다음 2자리}/{해시}_{uuid}.{확장자})
+ * 2. profilePrefix: 프로필이미지를 저장할 저장소 키 ({profilePrefix}/{uuid}_{파일명})
+ * 3. legacyTempRoot: 저장소 도입 이전에 썸머노트 이미지를 올려 두던 로컬 임시 폴더 ({legacyTempRoot}/{email})
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "img.store")
+public class ImgStoreProperties {
+
+    private String prefix = "store";
+
+    private String profilePrefix = "profile";
+
+    private String legacyTempRoot = "C:\\upload\\temp";
+}
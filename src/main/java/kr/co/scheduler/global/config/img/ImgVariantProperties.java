@@ -0,0 +1,30 @@
+package kr.co.scheduler.global.config.img;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ImgVariantProperties: 크기별 이미지 생성 설정
+ * 1. prefix: 크기별 이미지를 저장할 저장소 키 ({prefix}/{크기}/{업로드 파일명}.jpg)
+ * 2. workers, queueCapacity: 이미지를 만드는 스레드 수와 대기할 수 있는 최대 작업 수 (가득 차면 원본만 사용)
+ * 3. quality: JPEG 저장 품질 (0 ~ 1)
+ * 4. maxSourcePixels: 이보다 픽셀이 많은 이미지는 디코딩에 메모리가 많이 들어 크기별 이미지를 만들지 않음
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "img.variant")
+public class ImgVariantProperties {
+
+    private String prefix = "variant";
+
+    private int workers = 2;
+
+    private int queueCapacity = 100;
+
+    private float quality = 0.85f;
+
+    private long maxSourcePixels = 40_000_000;
+}
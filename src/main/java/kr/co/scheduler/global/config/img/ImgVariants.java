@@ -0,0 +1,404 @@
+package kr.co.scheduler.global.config.img;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.scheduler.global.config.storage.StorageBackend;
+import kr.co.scheduler.global.enums.ImgVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImgVariants: 업로드한 이미지의 크기별 이미지(ImgVariant) 생성 및 조회
+ * 1. generateAsync 로 등록한 원본을 크기가 제한된 스레드 풀에서 줄여 저장소 키 {prefix}/{크기}/{업로드 파일명} 으로 저장
+ *    원본이 이미 작으면 만들지 않고, 대기열이 가득 차면 건너뜀 (조회 시 원본 사용)
+ * 2. 투명도가 있는 이미지는 PNG, 그 외는 quality 로 다시 인코딩한 JPEG 로 저장
+ * 3. 원본이 로컬 파일이 아니면(S3 등) 임시 파일로 한 번 내려받아 디코딩
+ * 4. generateAsync 는 만든 크기별 이미지 목록("content.jpg,avatar.jpg", 만들지 않았으면 "")으로 완료하고,
+ *    호출한 쪽이 이 목록을 저장해 두면 조회할 때 저장소에 확장자별로 있는지 확인하지 않음 (원본이 없어졌으면 null)
+ */
+@Slf4j
+@Component
+public class ImgVariants {
+
+    private static final String JPEG = "jpg";
+    private static final String PNG = "png";
+    private static final String NONE = "";
+
+    private final StorageBackend storageBackend;
+    private final ImgVariantProperties imgVariantProperties;
+    private final ThreadPoolExecutor workers;
+
+    public ImgVariants(StorageBackend storageBackend, ImgVariantProperties imgVariantProperties) {
+
+        this.storageBackend = storageBackend;
+        this.imgVariantProperties = imgVariantProperties;
+        this.workers = new ThreadPoolExecutor(imgVariantProperties.getWorkers(), imgVariantProperties.getWorkers(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(imgVariantProperties.getQueueCapacity()),
+                new CustomizableThreadFactory("img-variant-"));
+    }
+
+    /**
+     * generateAsync: 저장소의 원본 이미지(originalKey)로 크기별 이미지를 만드는 작업 등록
+     * 리턴: 만든 크기별 이미지 목록으로 완료되는 작업 (대기열이 가득 차 건너뛰면 바로 "" 로 완료)
+     */
+    public CompletableFuture<String> generateAsync(String originalKey, String fileName) {
+
+        try {
+
+            return CompletableFuture.supplyAsync(() -> generate(originalKey, fileName), workers);
+        } catch (RejectedExecutionException e) {
+
+            log.warn("크기별 이미지 생성 대기열이 가득 차 원본만 사용합니다. fileName={}", fileName);
+
+            return CompletableFuture.completedFuture(NONE);
+        }
+    }
+
+    /**
+     * find: generateAsync 가 완료한 목록(variants)으로 크기별 이미지 리소스 리턴 (목록에 없는 크기면 null)
+     * 목록이 null 이면(만드는 중이거나 목록을 기록하기 전에 업로드한 이미지) 저장소에서 확인
+     */
+    public Resource find(String fileName, ImgVariant variant, String variants) {
+
+        if (variants == null) {
+
+            return find(fileName, variant);
+        }
+
+        String prefix = variant.getDirectory() + ".";
+
+        for (String generated : variants.split(",")) {
+
+            if (generated.startsWith(prefix)) {
+
+                String key = key(fileName, variant, generated.substring(prefix.length()));
+
+                return key == null ? null : storageBackend.get(key);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * find: 만들어 둔 크기별 이미지 리소스 리턴 (없으면 null)
+     */
+    public Resource find(String fileName, ImgVariant variant) {
+
+        for (String extension : new String[]{JPEG, PNG}) {
+
+            String key = key(fileName, variant, extension);
+
+            try {
+
+                if (key != null && storageBackend.exists(key)) {
+
+                    return storageBackend.get(key);
+                }
+            } catch (IOException e) {
+
+                log.warn("크기별 이미지를 조회하지 못했습니다. key={}", key, e);
+
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * delete: 원본을 삭제할 때 크기별 이미지도 삭제
+     */
+    public CompletableFuture<Void> delete(String fileName) {
+
+        return storageBackend.deleteAllAsync(keys(fileName)).whenComplete((result, e) -> {
+
+            if (e != null) {
+
+                log.warn("크기별 이미지를 삭제하지 못했습니다. fileName={}", fileName, e);
+            }
+        });
+    }
+
+    /**
+     * keys: 업로드 파일명으로 만들 수 있는 모든 크기별 이미지 키
+     */
+    public List<String> keys(String fileName) {
+
+        List<String> keys = new ArrayList<>();
+
+        for (ImgVariant variant : ImgVariant.values()) {
+
+            for (String extension : new String[]{JPEG, PNG}) {
+
+                String key = key(fileName, variant, extension);
+
+                if (key != null) {
+
+                    keys.add(key);
+                }
+            }
+        }
+
+        return keys;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // ================================== 구분 ================================== //
+
+    /**
+     * generate: 원본을 한 번만 디코딩하여, 큰 크기부터 차례로 줄인 이미지를 저장하고 만든 목록 리턴
+     */
+    private String generate(String originalKey, String fileName) {
+
+        Resource resource = storageBackend.get(originalKey);
+        Path original = null;
+        Path download = null;
+
+        try {
+
+            if (resource.isFile()) {
+
+                original = resource.getFile().toPath();
+            } else {
+
+                download = storageBackend.createTempFile();
+
+                try (InputStream input = resource.getInputStream()) {
+
+                    Files.copy(input, download, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                original = download;
+            }
+
+            if (!isDecodable(original)) {
+
+                return NONE;
+            }
+
+            BufferedImage source = ImageIO.read(original.toFile());
+
+            if (source == null) {
+
+                return NONE;
+            }
+
+            boolean alpha = source.getColorModel().hasAlpha();
+            List<String> generated = new ArrayList<>();
+
+            for (ImgVariant variant : ImgVariant.values()) {
+
+                if (Math.max(source.getWidth(), source.getHeight()) <= variant.getMaxSize()) {
+
+                    continue;
+                }
+
+                source = resize(source, variant.getMaxSize(), alpha);
+
+                if (write(source, fileName, variant, alpha)) {
+
+                    generated.add(variant.getDirectory() + "." + (alpha ? PNG : JPEG));
+                }
+            }
+
+            return String.join(",", generated);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+
+            // 생성하기 전에 원본이 삭제된 경우
+            log.debug("크기별 이미지를 만들기 전에 원본이 없어졌습니다. key={}", originalKey);
+
+            return null;
+        } catch (IOException | RuntimeException e) {
+
+            log.warn("크기별 이미지를 만들지 못했습니다. key={}", originalKey, e);
+
+            // 실패한 이미지도 원본으로 응답하도록 기록하여, 조회할 때마다 저장소를 확인하지 않음
+            return NONE;
+        } finally {
+
+            deleteQuietly(download);
+        }
+    }
+
+    /**
+     * isDecodable: 이미지 헤더만 읽어, 지원하는 형식이고 픽셀 수가 maxSourcePixels 이하인지 확인
+     */
+    private boolean isDecodable(Path original) throws IOException {
+
+        if (!Files.exists(original)) {
+
+            throw new NoSuchFileException(original.toString());
+        }
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+
+            if (readers == null || !readers.hasNext()) {
+
+                return false;
+            }
+
+            ImageReader reader = readers.next();
+
+            try {
+
+                reader.setInput(input);
+
+                return (long) reader.getWidth(0) * reader.getHeight(0) <= imgVariantProperties.getMaxSourcePixels();
+            } finally {
+
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * resize: 긴 변이 maxSize 가 되도록 줄임
+     * 한 번에 크게 줄이면 픽셀이 건너뛰어 거칠어지므로, 절반씩 여러 번 줄임
+     */
+    private BufferedImage resize(BufferedImage source, int maxSize, boolean alpha) {
+
+        double scale = (double) maxSize / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+
+            width = Math.max(width / 2, targetWidth);
+            height = Math.max(height / 2, targetHeight);
+
+            BufferedImage next = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+
+            try {
+
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+
+                graphics.dispose();
+            }
+
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * write: 임시 파일에 저장한 뒤 저장소에 put 하여, 조회하는 쪽에서 저장 중인 파일을 읽지 않도록 함
+     */
+    private boolean write(BufferedImage image, String fileName, ImgVariant variant, boolean alpha) throws IOException {
+
+        String key = key(fileName, variant, alpha ? PNG : JPEG);
+
+        if (key == null) {
+
+            return false;
+        }
+
+        Path temp = storageBackend.createTempFile();
+
+        try {
+
+            if (alpha) {
+
+                ImageIO.write(image, PNG, temp.toFile());
+            } else {
+
+                writeJpeg(image, temp);
+            }
+
+            storageBackend.put(key, temp);
+        } finally {
+
+            Files.deleteIfExists(temp);
+        }
+
+        return true;
+    }
+
+    private void writeJpeg(BufferedImage image, Path path) throws IOException {
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(path.toFile())) {
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(imgVariantProperties.getQuality());
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+
+            writer.dispose();
+        }
+    }
+
+    /**
+     * key: 크기별 이미지의 저장소 키 (파일명이 아닌 경로를 가리키면 null)
+     */
+    private String key(String fileName, ImgVariant variant, String extension) {
+
+        if (!StorageBackend.isKey(fileName) || fileName.indexOf('/') >= 0 || fileName.equals(".") || fileName.equals("..")) {
+
+            return null;
+        }
+
+        return imgVariantProperties.getPrefix() + "/" + variant.getDirectory() + "/" + fileName + "." + extension;
+    }
+
+    private void deleteQuietly(Path path) {
+
+        try {
+
+            if (path != null) {
+
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+
+            log.warn("임시 파일을 삭제하지 못했습니다. path={}", path, e);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package kr.co.scheduler.global.config.img;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.scheduler.global.config.cache.LocalCache;
+import kr.co.scheduler.global.enums.ImgVariant;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * ProfileImgCache: 이메일과 크기별 프로필이미지를 메모리에 보관하는 캐시 (LocalCache 사용)
+ * 1. 회원 조회, 파일 읽기 없이 캐시한 이미지를 바로 응답
+ * 2. 최근에 조회한 순서를 유지하고, 보관한 바이트 수가 maxBytes 를 넘으면 가장 오래 조회하지 않은 이미지부터 제거
+ * 3. 프로필이미지가 없는 회원은 시작할 때 한 번 읽은 기본 이미지를 함께 사용 (회원마다 복사하지 않으므로 용량에 포함하지 않음)
+ * 4. 요청한 버전(v)과 캐시한 버전이 다르거나 ttlMillis 가 지나면 다시 조회
+ *    노드마다 따로 보관하므로, 다른 노드에서 바꾼 프로필이미지는 새 버전으로 요청하거나 ttlMillis 가 지나면 반영됨
+ * 5. 조회 결과(img.profile.cache.gets), 적중률(img.profile.cache.hit.ratio), 보관 중인 바이트 수 등을 메트릭으로 노출
+ */
+@Component
+public class ProfileImgCache {
+
+    private static final String DEFAULT_IMG = "static/image/profile-spap.png";
+
+    // 키, 맵 노드 등 이미지 외에 항목마다 차지하는 대략적인 바이트 수
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final ProfileImgCacheProperties profileImgCacheProperties;
+    private final Resource defaultImg;
+    private final LocalCache<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProfileImgCache(ProfileImgCacheProperties profileImgCacheProperties, MeterRegistry meterRegistry) throws IOException {
+
+        this.profileImgCacheProperties = profileImgCacheProperties;
+        this.entries = new LocalCache<>(profileImgCacheProperties.getMaxBytes(), profileImgCacheProperties.getTtlMillis());
+
+        ClassPathResource resource = new ClassPathResource(DEFAULT_IMG);
+        this.defaultImg = new CachedImgResource(resource.getContentAsByteArray(), resource.getFilename(), resource.lastModified());
+
+        this.hits = Counter.builder("img.profile.cache.gets").tag("result", "hit")
+                .description("캐시에서 응답한 프로필이미지 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("img.profile.cache.gets").tag("result", "miss")
+                .description("회원을 조회하고 파일을 읽은 프로필이미지 요청 수")
+                .register(meterRegistry);
+
+        Gauge.builder("img.profile.cache.hit.ratio", this, ProfileImgCache::hitRatio)
+                .description("프로필이미지 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("img.profile.cache.bytes", this, ProfileImgCache::bytes)
+                .description("캐시에 보관 중인 프로필이미지 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("img.profile.cache.entries", this, ProfileImgCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("img.profile.cache.evictions", this, ProfileImgCache::evictions)
+                .description("용량을 넘어 제거한 프로필이미지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * get: 캐시한 프로필이미지 리턴 (없거나, 만료되었거나, 요청한 버전과 다르면 null)
+     */
+    public Entry get(String email, ImgVariant variant, String version) {
+
+        Entry entry = entries.get(key(email, variant));
+
+        if (entry != null && (version == null || version.equals(entry.version))) {
+
+            hits.increment();
+
+            return entry;
+        }
+
+        misses.increment();
+
+        return null;
+    }
+
+    /**
+     * put: 프로필이미지를 읽어 캐시하고 리턴
+     * resource 가 null 이면 기본 이미지를 사용하고, 파일이 없거나 maxEntryBytes 보다 크면 캐시하지 않고 resource 를 그대로 리턴
+     */
+    public Entry put(String email, ImgVariant variant, String version, Resource resource) throws IOException {
+
+        return put(email, variant, version, resource, false);
+    }
+
+    /**
+     * put: fallback 이 true 면 요청한 크기의 이미지가 없어 원본을 대신 캐시한 항목 (ttlMillis 동안 저장소를 다시 확인하지 않음)
+     */
+    public Entry put(String email, ImgVariant variant, String version, Resource resource, boolean fallback) throws IOException {
+
+        Entry entry;
+        long weight;
+
+        if (resource == null) {
+
+            entry = new Entry(version, defaultImg, fallback);
+            weight = ENTRY_OVERHEAD;
+        } else if (!resource.exists() || resource.contentLength() > profileImgCacheProperties.getMaxEntryBytes()) {
+
+            return new Entry(version, resource, fallback);
+        } else {
+
+            byte[] content;
+
+            try {
+
+                content = resource.getContentAsByteArray();
+            } catch (IOException | UncheckedIOException e) {
+
+                // 크기를 확인한 뒤 파일이 삭제된 경우 캐시하지 않음
+                return new Entry(version, resource, fallback);
+            }
+
+            entry = new Entry(version, new CachedImgResource(content, resource.getFilename(), resource.lastModified()), fallback);
+            weight = content.length + ENTRY_OVERHEAD;
+        }
+
+        entries.put(key(email, variant), entry, weight);
+
+        return entry;
+    }
+
+    /**
+     * evict: 프로필이미지를 바꾸거나 삭제한 회원의 모든 크기 이미지 제거
+     */
+    public void evict(String email) {
+
+        entries.remove(key(email, null));
+
+        for (ImgVariant variant : ImgVariant.values()) {
+
+            entries.remove(key(email, variant));
+        }
+    }
+
+    public long bytes() {
+
+        return entries.weight();
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public long evictions() {
+
+        return entries.evictions();
+    }
+
+    public double hitRatio() {
+
+        double total = hits.count() + misses.count();
+
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    // ================================== 구분 ================================== //
+
+    private static String key(String email, ImgVariant variant) {
+
+        return email + "|" + (variant == null ? "original" : variant.getDirectory());
+    }
+
+    /**
+     * Entry: 캐시한 프로필이미지와 버전 (fallback: 요청한 크기 대신 원본을 캐시한 항목)
+     */
+    public static class Entry {
+
+        private final String version;
+        private final Resource resource;
+        private final boolean fallback;
+
+        private Entry(String version, Resource resource, boolean fallback) {
+
+            this.version = version;
+            this.resource = resource;
+            this.fallback = fallback;
+        }
+
+        public String getVersion() {
+
+            return version;
+        }
+
+        public Resource getResource() {
+
+            return resource;
+        }
+
+        public boolean isFallback() {
+
+            return fallback;
+        }
+    }
+
+    /**
+     * CachedImgResource: 파일명(Content-Type 결정)과 수정 시각(ETag, Last-Modified)을 유지하는 메모리 리소스
+     */
+    private static class CachedImgResource extends ByteArrayResource {
+
+        private final String filename;
+        private final long lastModified;
+
+        private CachedImgResource(byte[] content, String filename, long lastModified) {
+
+            super(content);
+            this.filename = filename;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public String getFilename() {
+
+            return filename;
+        }
+
+        @Override
+        public long lastModified() {
+
+            return lastModified;
+        }
+    }
+}
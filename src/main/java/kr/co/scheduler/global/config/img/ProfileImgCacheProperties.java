@@ -0,0 +1,25 @@
+package kr.co.scheduler.global.config.img;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProfileImgCacheProperties: 프로필이미지 캐시 설정
+ * 1. maxBytes: 캐시에 보관할 이미지의 최대 바이트 수 (넘으면 가장 오래 조회하지 않은 이미지부터 제거)
+ * 2. maxEntryBytes: 이보다 큰 이미지는 캐시하지 않고 파일에서 전송
+ * 3. ttlMillis: 다른 인스턴스에서 프로필이미지를 바꾼 경우에도 이 시간이 지나면 다시 조회
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "img.profile-cache")
+public class ProfileImgCacheProperties {
+
+    private long maxBytes = 32 * 1024 * 1024;
+
+    private long maxEntryBytes = 256 * 1024;
+
+    private long ttlMillis = 10 * 60 * 1000;
+}
@@ -0,0 +1,166 @@
+package kr.co.scheduler.global.config.img;
+
+import org.jsoup.parser.Parser;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * SummernoteImgRefs: 썸머노트 내용에서 <img src="/api/summernoteImg?uploadFileName={파일명}"> 의 파일명 추출
+ * 1. DOM 을 만들지 않고 내용을 앞에서부터 한 번만 훑으며 이미지 URL 위치를 찾음
+ * 2. 찾은 위치가 img 태그의 src 속성 값 안인지 앞쪽 몇 글자만 거꾸로 확인 (본문 글자로 쓴 URL 은 제외)
+ * 3. 속성 값에 &amp; 같은 문자 참조가 있을 때만 Jsoup 의 문자 참조 해석을 사용
+ */
+public final class SummernoteImgRefs {
+
+    private static final String IMG_URL = "/api/summernoteImg?uploadFileName=";
+
+    private SummernoteImgRefs() {
+    }
+
+    /**
+     * extract: 내용에 포함된 이미지 파일명을 처음 나온 순서대로 중복 없이 리턴
+     */
+    public static Set<String> extract(String content) {
+
+        Set<String> imgNames = new LinkedHashSet<>();
+
+        if (content == null) {
+
+            return imgNames;
+        }
+
+        int from = 0;
+
+        for (int at = content.indexOf(IMG_URL); at >= 0; at = content.indexOf(IMG_URL, from)) {
+
+            int start = at + IMG_URL.length();
+            from = start;
+
+            int valueStart = srcValueStart(content, at);
+
+            if (valueStart < 0) {
+
+                continue;
+            }
+
+            char quote = valueStart > 0 ? content.charAt(valueStart - 1) : 0;
+            int end = quote == '"' || quote == '\'' ? content.indexOf(quote, start) : unquotedEnd(content, start);
+
+            if (end < 0) {
+
+                break;
+            }
+
+            from = end;
+
+            String imgName = content.substring(start, end);
+
+            if (imgName.indexOf('&') >= 0) {
+
+                imgName = Parser.unescapeEntities(imgName, true);
+            }
+
+            // 기존 src.split("=") 과 같이 파일명에 '=' 가 있거나 비어 있으면 제외
+            if (!imgName.isEmpty() && imgName.indexOf('=') < 0) {
+
+                imgNames.add(imgName);
+            }
+        }
+
+        return imgNames;
+    }
+
+    // ================================== 구분 ================================== //
+
+    /**
+     * srcValueStart: at 위치가 img 태그 src 속성 값 안이면 속성 값 시작 위치, 아니면 -1
+     */
+    private static int srcValueStart(String content, int at) {
+
+        int i = at - 1;
+
+        // src 값 중 이미지 URL 앞부분 (http://host 등)
+        while (i >= 0 && !isDelimiter(content.charAt(i))) {
+
+            i--;
+        }
+
+        if (i < 0) {
+
+            return -1;
+        }
+
+        int valueStart = i + 1;
+        char c = content.charAt(i);
+
+        if (c == '"' || c == '\'') {
+
+            i = skipWhitespace(content, i - 1);
+
+            if (i < 0 || content.charAt(i) != '=') {
+
+                return -1;
+            }
+        } else if (c != '=') {
+
+            return -1;
+        }
+
+        i = skipWhitespace(content, i - 1);
+
+        if (i < 3 || !content.regionMatches(true, i - 2, "src", 0, 3) || !Character.isWhitespace(content.charAt(i - 3))) {
+
+            return -1;
+        }
+
+        // src 앞의 다른 속성을 지나 태그 시작까지
+        for (i -= 3; i >= 0; i--) {
+
+            c = content.charAt(i);
+
+            if (c == '>') {
+
+                return -1;
+            }
+
+            if (c == '<') {
+
+                return content.regionMatches(true, i + 1, "img", 0, 3) && i + 4 < content.length()
+                        && Character.isWhitespace(content.charAt(i + 4)) ? valueStart : -1;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int unquotedEnd(String content, int start) {
+
+        for (int i = start; i < content.length(); i++) {
+
+            char c = content.charAt(i);
+
+            if (c == '>' || Character.isWhitespace(c)) {
+
+                return i;
+            }
+        }
+
+        return content.length();
+    }
+
+    private static int skipWhitespace(String content, int i) {
+
+        while (i >= 0 && Character.isWhitespace(content.charAt(i))) {
+
+            i--;
+        }
+
+        return i;
+    }
+
+    private static boolean isDelimiter(char c) {
+
+        return c == '"' || c == '\'' || c == '=' || c == '<' || c == '>' || Character.isWhitespace(c);
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.scheduler.global.config.lock;
+
+import kr.co.scheduler.global.service.SchedulerLockService;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FencingTokenChunkListener: 청크 트랜잭션을 시작할 때마다 Job 을 실행한 인스턴스가 아직 잠금을 소유하고 있는지 확인
+ * 임대가 만료되어 다른 인스턴스가 잠금을 가져간 경우 청크를 롤백하고 Step 을 중단
+ * 잠금 없이 실행된 Job(수동 실행, 테스트 등)은 확인하지 않음
+ */
+@Component
+@StepScope
+public class FencingTokenChunkListener implements ChunkListener {
+
+    public static final String LOCK_NAME = "lockName";
+    public static final String FENCING_TOKEN = "fencingToken";
+
+    private final SchedulerLockService schedulerLockService;
+    private final String lockName;
+    private final Long fencingToken;
+
+    public FencingTokenChunkListener(SchedulerLockService schedulerLockService,
+                                     @Value("#{jobParameters['" + LOCK_NAME + "']}") String lockName,
+                                     @Value("#{jobParameters['" + FENCING_TOKEN + "']}") Long fencingToken) {
+
+        this.schedulerLockService = schedulerLockService;
+        this.lockName = lockName;
+        this.fencingToken = fencingToken;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+
+        if (lockName == null || fencingToken == null) {
+
+            return;
+        }
+
+        schedulerLockService.assertHeld(lockName, fencingToken);
+    }
+}
@@ -0,0 +1,31 @@
+package kr.co.scheduler.global.config.lock;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * SchedulerLockProperties: 스케줄 작업 잠금 설정
+ * 1. nodeId: 잠금 소유자를 구분하기 위한 인스턴스 식별자 (기본값: 실행 시마다 생성되는 난수)
+ * 2. leaseMillis: 잠금 임대 기간 (소유 인스턴스가 중단되면 이 시간이 지난 뒤 다른 인스턴스가 가져갈 수 있음)
+ * 3. renewIntervalMillis: 작업이 실행되는 동안 임대를 연장하는 주기
+ * 4. lockAtLeastForMillis: 작업이 빨리 끝나도 획득 시각부터 잠금을 유지하는 최소 시간
+ *    (인스턴스 간 시계 차이로 늦게 실행된 같은 회차의 작업이 다시 실행되지 않도록 함)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduler.lock")
+public class SchedulerLockProperties {
+
+    private String nodeId = UUID.randomUUID().toString();
+
+    private long leaseMillis = 600_000;
+
+    private long renewIntervalMillis = 60_000;
+
+    private long lockAtLeastForMillis = 300_000;
+}
@@ -3,40 +3,36 @@ package kr.co.scheduler.global.config.mail;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import kr.co.scheduler.user.entity.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
+import java.time.LocalDate;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class AlertInactiveMail {
 
     private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
+    private final MailTemplates mailTemplates;
 
     /**
-     * createMessage: 메세지 생성
+     * createMessage: inactive 템플릿으로 메세지 생성
      */
-    public MimeMessage createMessage(String to) throws MessagingException, UnsupportedEncodingException {
+    public MimeMessage createMessage(String to, String name, LocalDate lastLoggedDay) throws MessagingException, UnsupportedEncodingException {
 
         MimeMessage message = javaMailSender.createMimeMessage();
 
         message.addRecipients(MimeMessage.RecipientType.TO, to);// 보내는 대상
         message.setSubject("SPAP 이메일 인증");// 제목
-
-        String msgg = "";
-        msgg += "<div style='margin:100px;'>";
-        msgg += "<h1 style='color: #956be8';> 안녕하세요.</h1>";
-        msgg += "<h1 style='color: #956be8';> 당신의 일정 관리 매니저 SPAP 입니다.</h1>";
-        msgg += "<br><br>";
-        msgg += "<p>10일간 미접속 사용자에게 전송되는 메일입니다.<p>";
-        msgg += "<p>회원님의 개인정보보호 및 시스템 유지 목적으로 30일간 미접속을 유지할 경우 계정이 탈퇴처리되는 점 양해 부탁드립니다.<p>";
-        msgg += "<br><br>";
-        msgg += "<p>감사합니다.<p>";
-        msgg += "</div>";
-        message.setText(msgg, "utf-8", "html");
+        message.setText(mailTemplates.get("inactive").render(Map.of(
+                "name", MailTemplates.recipientName(name, to),
+                "lastLoggedDay", lastLoggedDay,
+                "withdrawalDay", lastLoggedDay.plusDays(30))), "utf-8", "html");
         message.setFrom(new InternetAddress("spoof332@naver.com", "김진형"));// 보내는 사람
 
         return message;
@@ -44,20 +40,12 @@ public class AlertInactiveMail {
 
 
     /**
-     * sendMessage: createMessage 를 통해 메세지 전송
+     * sendMessage: createMessage 를 통해 생성한 메세지를 발송 대기열에 등록
      */
-    public void sendMessage(String to) throws Exception {
-
-        // TODO Auto-generated method stub
-        MimeMessage message = createMessage(to); // 메일 발송
-
-        try {// 예외처리
+    public void sendMessage(User user) throws Exception {
 
-            javaMailSender.send(message);
-        } catch (MailException e) {
+        MimeMessage message = createMessage(user.getEmail(), user.getName(), user.getLastLoggedDay());
 
-            e.printStackTrace();
-            throw new IllegalArgumentException();
-        }
+        mailDispatcher.dispatch(message); // 메일 발송
     }
 }
@@ -0,0 +1,33 @@
+package kr.co.scheduler.global.config.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * MailDispatchProperties: 메일 발송 대기열 설정
+ * 1. queueCapacity: 대기열에 쌓을 수 있는 최대 메일 수
+ * 2. workers: 대기열을 처리하는 발송 스레드 수
+ * 3. batchSize: 하나의 SMTP 연결로 전송할 최대 메일 수
+ * 4. maxAttempts, backoffMillis: 일시적인 발송 실패 시 재시도 횟수 및 최초 대기 시간 (재시도마다 2배 증가)
+ * 5. offerTimeoutMillis: 대기열이 가득 찬 경우 메일 등록을 기다리는 시간
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mail.dispatch")
+public class MailDispatchProperties {
+
+    private int queueCapacity = 1000;
+
+    private int workers = 2;
+
+    private int batchSize = 20;
+
+    private int maxAttempts = 3;
+
+    private long backoffMillis = 1000;
+
+    private long offerTimeoutMillis = 5000;
+}
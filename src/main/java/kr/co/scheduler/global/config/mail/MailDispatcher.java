@@ -0,0 +1,232 @@
+package kr.co.scheduler.global.config.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MailDispatcher: 메일 발송 대기열
+ * 1. dispatch 로 등록된 메일을 크기가 제한된 대기열에 저장 (가득 찬 경우 offerTimeoutMillis 만큼 대기)
+ *    요청 스레드에서 등록하는 경우 tryDispatch 로 기다리지 않고 등록
+ * 2. 발송 스레드가 대기열에서 최대 batchSize 개의 메일을 꺼내 하나의 SMTP 연결로 전송
+ * 3. 일시적인 발송 실패는 지수 백오프로 재시도하고, 수신 주소 오류나 인증 실패는 재시도하지 않음
+ * 4. 대기열 크기(mail.dispatch.queue.depth)와 발송 시간(mail.dispatch.send.latency) 등을 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final long POLL_MILLIS = 500;
+
+    private final JavaMailSender javaMailSender;
+    private final MailDispatchProperties mailDispatchProperties;
+    private final BlockingQueue<MimeMessage> queue;
+
+    private final Timer sendLatency;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public MailDispatcher(JavaMailSender javaMailSender, MailDispatchProperties mailDispatchProperties, MeterRegistry meterRegistry) {
+
+        this.javaMailSender = javaMailSender;
+        this.mailDispatchProperties = mailDispatchProperties;
+        this.queue = new ArrayBlockingQueue<>(mailDispatchProperties.getQueueCapacity());
+
+        Gauge.builder("mail.dispatch.queue.depth", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+
+        this.sendLatency = Timer.builder("mail.dispatch.send.latency")
+                .description("SMTP 연결 한 번으로 묶음 발송하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.dispatch.sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("mail.dispatch.retried").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.dispatch.failed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+
+        running = true;
+        workers = Executors.newFixedThreadPool(mailDispatchProperties.getWorkers(), new CustomizableThreadFactory("mail-dispatch-"));
+
+        for (int i = 0; i < mailDispatchProperties.getWorkers(); i++) {
+
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * stop: 새로운 메일을 받지 않고, 대기열에 남은 메일을 모두 발송한 뒤 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * dispatch: 메일을 발송 대기열에 등록
+     */
+    public void dispatch(MimeMessage message) {
+
+        try {
+
+            if (!queue.offer(message, mailDispatchProperties.getOfferTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+
+                throw new IllegalStateException("메일 발송 대기열이 가득 찼습니다.");
+            }
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메일 발송 대기열 등록이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * tryDispatch: 메일을 발송 대기열에 등록하고, 대기열이 가득 찬 경우 기다리지 않고 false 리턴
+     */
+    public boolean tryDispatch(MimeMessage message) {
+
+        return queue.offer(message);
+    }
+
+    /**
+     * getQueueDepth: 발송 대기 중인 메일 수 리턴
+     */
+    public int getQueueDepth() {
+
+        return queue.size();
+    }
+
+    // ================================== 구분 ================================== //
+
+    private void work() {
+
+        List<MimeMessage> batch = new ArrayList<>(mailDispatchProperties.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+
+            try {
+
+                MimeMessage first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, mailDispatchProperties.getBatchSize() - 1);
+
+                send(batch);
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+
+                log.error("메일 발송 중 오류가 발생했습니다.", e);
+            } finally {
+
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * send: 메일을 묶음으로 발송하고, 일시적으로 실패한 메일만 골라 재시도
+     */
+    private void send(List<MimeMessage> batch) throws InterruptedException {
+
+        List<MimeMessage> pending = new ArrayList<>(batch);
+
+        for (int attempt = 1; ; attempt++) {
+
+            long start = System.nanoTime();
+
+            try {
+
+                javaMailSender.send(pending.toArray(new MimeMessage[0]));
+
+                sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                sentCounter.increment(pending.size());
+
+                return;
+            } catch (MailSendException e) {
+
+                sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                List<MimeMessage> retryable = new ArrayList<>();
+
+                for (MimeMessage message : pending) {
+
+                    // 연결 자체에 실패한 경우 실패 목록이 비어있으므로 전체를 재시도
+                    if (!failedMessages.isEmpty() && !failedMessages.containsKey(message)) {
+
+                        sentCounter.increment();
+                    } else if (failedMessages.get(message) instanceof SendFailedException) {
+
+                        log.warn("수신 이메일 주소가 존재하지 않아 메일을 발송하지 못했습니다.", failedMessages.get(message));
+                        failedCounter.increment();
+                    } else {
+
+                        retryable.add(message);
+                    }
+                }
+
+                if (retryable.isEmpty()) {
+
+                    return;
+                }
+
+                if (attempt >= mailDispatchProperties.getMaxAttempts()) {
+
+                    log.error("메일 {}건을 {}회 재시도했지만 발송하지 못했습니다.", retryable.size(), attempt, e);
+                    failedCounter.increment(retryable.size());
+
+                    return;
+                }
+
+                retriedCounter.increment(retryable.size());
+                Thread.sleep(mailDispatchProperties.getBackoffMillis() << (attempt - 1));
+
+                pending = retryable;
+            } catch (MailException e) {
+
+                // 인증 실패, 메세지 생성 오류 등은 재시도해도 성공할 수 없음
+                log.error("메일 {}건을 발송하지 못했습니다.", pending.size(), e);
+                failedCounter.increment(pending.size());
+
+                return;
+            }
+        }
+    }
+}
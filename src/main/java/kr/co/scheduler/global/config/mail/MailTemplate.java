@@ -0,0 +1,140 @@
+package kr.co.scheduler.global.config.mail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MailTemplate: {{key}} 치환자를 포함한 메일 본문을 한 번만 파싱해 둔 템플릿
+ * 1. compile 시 본문을 고정 문자열 조각과 치환자 이름으로 나누어 저장
+ * 2. render 시 고정 문자열과 HTML 이스케이프한 값을 스레드마다 재사용하는 버퍼에 이어 붙임
+ */
+public final class MailTemplate {
+
+    // 한 번 크게 늘어난 버퍼가 스레드에 계속 남지 않도록, 이보다 커진 버퍼는 재사용하지 않음
+    private static final int MAX_REUSED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final String name;
+    private final String[] texts;
+    private final String[] keys;
+
+    private MailTemplate(String name, String[] texts, String[] keys) {
+
+        this.name = name;
+        this.texts = texts;
+        this.keys = keys;
+    }
+
+    /**
+     * compile: 템플릿 본문을 고정 문자열과 치환자로 분리
+     */
+    public static MailTemplate compile(String name, String source) {
+
+        List<String> texts = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int from = 0;
+
+        for (int open = source.indexOf("{{"); open >= 0; open = source.indexOf("{{", from)) {
+
+            int close = source.indexOf("}}", open + 2);
+
+            if (close < 0) {
+
+                throw new IllegalArgumentException(name + " 메일 템플릿의 치환자가 닫히지 않았습니다. index=" + open);
+            }
+
+            String key = source.substring(open + 2, close).trim();
+
+            if (key.isEmpty()) {
+
+                throw new IllegalArgumentException(name + " 메일 템플릿에 이름이 없는 치환자가 있습니다. index=" + open);
+            }
+
+            texts.add(source.substring(from, open));
+            keys.add(key);
+            from = close + 2;
+        }
+
+        texts.add(source.substring(from));
+
+        return new MailTemplate(name, texts.toArray(String[]::new), keys.toArray(String[]::new));
+    }
+
+    /**
+     * render: 치환자를 values 의 값으로 바꾼 본문 리턴
+     */
+    public String render(Map<String, ?> values) {
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        render(values, buffer);
+
+        String html = buffer.toString();
+
+        if (buffer.capacity() > MAX_REUSED_BUFFER) {
+
+            BUFFER.remove();
+        }
+
+        return html;
+    }
+
+    /**
+     * render: 치환자를 values 의 값으로 바꾸어 out 에 이어 붙임
+     * 값은 HTML 이스케이프하고, 값이 없는 치환자가 있으면 예외 발생
+     */
+    public void render(Map<String, ?> values, StringBuilder out) {
+
+        for (int i = 0; i < keys.length; i++) {
+
+            out.append(texts[i]);
+
+            Object value = values.get(keys[i]);
+
+            if (value == null) {
+
+                throw new IllegalArgumentException(name + " 메일 템플릿의 " + keys[i] + " 값이 없습니다.");
+            }
+
+            appendEscaped(value.toString(), out);
+        }
+
+        out.append(texts[keys.length]);
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public Set<String> getKeys() {
+
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(keys)));
+    }
+
+    // ================================== 구분 ================================== //
+
+    private static void appendEscaped(String value, StringBuilder out) {
+
+        for (int i = 0; i < value.length(); i++) {
+
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.co.scheduler.global.config.mail;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MailTemplates: classpath:mail/*.html 템플릿을 애플리케이션 시작 시 한 번 컴파일하여 보관
+ * 템플릿 이름은 확장자를 뺀 파일 이름 (mail/certification.html → certification)
+ * 새 메일 종류는 템플릿 파일을 추가하고 get 으로 꺼내 사용
+ */
+@Component
+public class MailTemplates {
+
+    private static final String LOCATION = "classpath:mail/*.html";
+
+    private final Map<String, MailTemplate> templates;
+
+    public MailTemplates() throws IOException {
+
+        Map<String, MailTemplate> compiled = new HashMap<>();
+
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+
+            String name = resource.getFilename().substring(0, resource.getFilename().length() - ".html".length());
+
+            compiled.put(name, MailTemplate.compile(name, resource.getContentAsString(StandardCharsets.UTF_8)));
+        }
+
+        this.templates = Map.copyOf(compiled);
+    }
+
+    /**
+     * get: 이름에 해당하는 템플릿 리턴
+     */
+    public MailTemplate get(String name) {
+
+        MailTemplate template = templates.get(name);
+
+        if (template == null) {
+
+            throw new IllegalArgumentException(name + " 메일 템플릿을 찾을 수 없습니다.");
+        }
+
+        return template;
+    }
+
+    /**
+     * recipientName: 본문에 쓸 수신자 이름 리턴
+     * 이름을 받지 않는 소셜 로그인(네이버, 카카오) 사용자는 이름이 없으므로 이메일 주소로 대신함
+     */
+    public static String recipientName(String name, String email) {
+
+        return StringUtils.hasText(name) ? name : email;
+    }
+}
@@ -0,0 +1,206 @@
+package kr.co.scheduler.global.config.outbox;
+
+import kr.co.scheduler.global.config.fcm.PushMessage;
+import kr.co.scheduler.global.config.fcm.PushResult;
+import kr.co.scheduler.global.dtos.AlertReqDTO;
+import kr.co.scheduler.global.entity.Outbox;
+import kr.co.scheduler.global.enums.OutboxStatus;
+import kr.co.scheduler.global.repository.OutboxRepository;
+import kr.co.scheduler.global.service.AlertService;
+import kr.co.scheduler.global.service.FCMService;
+import kr.co.scheduler.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+/**
+ * OutboxDispatcher: tbl_outbox 에 쌓인 발송 요청 처리
+ * 1. 가져오기: PENDING 행(또는 claimTimeoutMillis 가 지나도록 끝나지 않은 IN_PROGRESS 행)을 batchSize 개씩
+ *    SELECT ... FOR UPDATE SKIP LOCKED 로 잠그고 IN_PROGRESS 와 가져간 시각으로 바꾼 뒤 바로 커밋
+ * 2. 전송: 트랜잭션 없이 웹 푸시를 묶음 전송 (FCM 응답을 기다리는 동안 행 잠금과 DB 커넥션을 잡고 있지 않음)
+ * 3. 완료: 짧은 트랜잭션에서 알림을 배치 INSERT 로 저장하고, 전송 결과에 따라 DONE 또는 FAILED 로 변경
+ *    그 사이 다른 인스턴스가 다시 가져간 행(가져간 시각이 바뀐 행)은 건너뜀
+ * 4. 가져온 행이 batchSize 개이면 남은 행이 있을 수 있으므로 바로 다음 묶음 처리
+ * 웹 푸시는 한 번만 시도하고, 실패한 행은 FAILED 로 남김 (완료 전에 인스턴스가 멈추면 다시 가져가 한 번 더 전송될 수 있음)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final AlertService alertService;
+    private final FCMService fcmService;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository,
+                            UserRepository userRepository,
+                            AlertService alertService,
+                            FCMService fcmService,
+                            OutboxProperties outboxProperties,
+                            PlatformTransactionManager transactionManager) {
+
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.alertService = alertService;
+        this.fcmService = fcmService;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-millis:1000}")
+    public void poll() {
+
+        try {
+
+            dispatch();
+        } catch (Exception e) {
+
+            log.error("알림 발송 요청을 처리하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * dispatch: 처리할 행이 없을 때까지 묶음 단위로 처리하고, 처리한 행 수 리턴
+     */
+    public int dispatch() {
+
+        int dispatched = 0;
+        int batch;
+
+        do {
+
+            batch = dispatchBatch();
+            dispatched += batch;
+        } while (batch == outboxProperties.getBatchSize());
+
+        return dispatched;
+    }
+
+    // ================================== 구분 ================================== //
+
+    private int dispatchBatch() {
+
+        // 완료할 때 같은 값으로 다시 찾으므로 DB 에 저장되는 정밀도로 자름
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Outbox> outboxes = transactionTemplate.execute(status -> claim(claimedAt));
+
+        if (outboxes.isEmpty()) {
+
+            return 0;
+        }
+
+        // 요청 이후 탈퇴한 회원에게는 알림을 저장하거나 보내지 않음
+        Set<Long> users = new HashSet<>(userRepository.findIdsByIdIn(outboxes.stream().map(Outbox::getUserId).distinct().toList()));
+
+        List<Outbox> pushes = outboxes.stream()
+                .filter(outbox -> outbox.getPushToken() != null && users.contains(outbox.getUserId()))
+                .toList();
+
+        List<PushResult> results = send(pushes);
+
+        transactionTemplate.executeWithoutResult(status -> complete(outboxes, users, pushes, results, claimedAt));
+
+        return outboxes.size();
+    }
+
+    /**
+     * claim: 처리할 행을 잠그고 IN_PROGRESS 로 변경 (트랜잭션이 끝나면 잠금 해제)
+     */
+    private List<Outbox> claim(LocalDateTime claimedAt) {
+
+        LocalDateTime staleBefore = claimedAt.minus(outboxProperties.getClaimTimeoutMillis(), ChronoUnit.MILLIS);
+        List<Outbox> outboxes = outboxRepository.findClaimableForUpdate(OutboxStatus.PENDING, OutboxStatus.IN_PROGRESS, staleBefore,
+                PageRequest.of(0, outboxProperties.getBatchSize()));
+
+        if (!outboxes.isEmpty()) {
+
+            outboxRepository.claimByIdIn(ids(outboxes), OutboxStatus.IN_PROGRESS, claimedAt);
+        }
+
+        return outboxes;
+    }
+
+    /**
+     * send: 웹 푸시를 전송하고 메세지 순서대로 결과 리턴 (묶음 전송 자체가 실패하면 null)
+     */
+    private List<PushResult> send(List<Outbox> pushes) {
+
+        List<PushMessage> messages = pushes.stream()
+                .map(outbox -> new PushMessage(outbox.getPushToken(), outbox.getPushTitle(), outbox.getAlertContent()))
+                .toList();
+
+        try {
+
+            return fcmService.sendFCMMessages(messages).join();
+        } catch (CompletionException e) {
+
+            log.warn("웹 푸시 {}건을 전송하지 못했습니다.", messages.size(), e.getCause());
+
+            return null;
+        }
+    }
+
+    /**
+     * complete: 아직 가져간 상태인 행의 알림을 저장하고, 웹 푸시 결과에 따라 DONE 또는 FAILED 로 변경
+     */
+    private void complete(List<Outbox> outboxes, Set<Long> users, List<Outbox> pushes, List<PushResult> results, LocalDateTime claimedAt) {
+
+        List<Outbox> claimed = outboxRepository.findClaimedForUpdate(ids(outboxes), OutboxStatus.IN_PROGRESS, claimedAt);
+
+        if (claimed.size() < outboxes.size()) {
+
+            log.warn("처리 시간이 길어져 다른 인스턴스가 다시 가져간 발송 요청 {}건은 완료하지 않습니다.", outboxes.size() - claimed.size());
+        }
+
+        alertService.createAlerts(claimed.stream()
+                .filter(outbox -> users.contains(outbox.getUserId()))
+                .map(outbox -> new AlertReqDTO.CREATE(outbox.getAlertContent(), outbox.getUserId()))
+                .toList());
+
+        Set<Long> failed = new HashSet<>();
+
+        for (int i = 0; i < pushes.size(); i++) {
+
+            if (results == null || !results.get(i).isSuccess()) {
+
+                failed.add(pushes.get(i).getId());
+            }
+        }
+
+        if (results != null) {
+
+            fcmService.pruneDeadTokens(results);
+        }
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        List<Long> doneIds = claimed.stream().map(Outbox::getId).filter(id -> !failed.contains(id)).toList();
+        List<Long> failedIds = claimed.stream().map(Outbox::getId).filter(failed::contains).toList();
+
+        if (!doneIds.isEmpty()) {
+
+            outboxRepository.updateStatusByIdIn(doneIds, OutboxStatus.DONE, processedAt);
+        }
+
+        if (!failedIds.isEmpty()) {
+
+            outboxRepository.updateStatusByIdIn(failedIds, OutboxStatus.FAILED, processedAt);
+        }
+    }
+
+    private static List<Long> ids(List<Outbox> outboxes) {
+
+        return outboxes.stream().map(Outbox::getId).toList();
+    }
+}
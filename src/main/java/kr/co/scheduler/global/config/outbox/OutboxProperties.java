@@ -0,0 +1,25 @@
+package kr.co.scheduler.global.config.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxProperties: 알림 발송 요청(tbl_outbox) 처리 설정
+ * 1. batchSize: 한 트랜잭션에서 잠그고 처리할 최대 행 수
+ * 2. pollIntervalMillis: 처리할 행이 없을 때 다음 조회까지 기다리는 시간
+ * 3. claimTimeoutMillis: 가져간 인스턴스가 이 시간 안에 끝내지 못한 행(IN_PROGRESS)은 다른 인스턴스가 다시 가져감
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private int batchSize = 100;
+
+    private long pollIntervalMillis = 1000;
+
+    private long claimTimeoutMillis = 60000;
+}
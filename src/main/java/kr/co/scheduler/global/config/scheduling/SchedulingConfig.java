@@ -0,0 +1,19 @@
+package kr.co.scheduler.global.config.scheduling;
+
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SchedulingConfig: 스프링 부트가 만드는 @Scheduled 스케줄러의 스레드 수 설정
+ * 기본 스케줄러는 스레드가 1개라 자정 배치가 실행되는 동안 outbox 발송과 heartbeat 가 멈추므로 poolSize 만큼 늘림
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public TaskSchedulerCustomizer schedulingPoolSizeCustomizer(SchedulingProperties schedulingProperties) {
+
+        return taskScheduler -> taskScheduler.setPoolSize(schedulingProperties.getPoolSize());
+    }
+}
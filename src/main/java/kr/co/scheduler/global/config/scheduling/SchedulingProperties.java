@@ -0,0 +1,20 @@
+package kr.co.scheduler.global.config.scheduling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SchedulingProperties: @Scheduled 작업을 실행하는 스케줄러 설정
+ * 1. poolSize: 스케줄러 스레드 수 (spring.task.scheduling.pool.size 대신 사용)
+ *    자정의 배치 3개, 새벽의 정리 작업 2개가 길어져도 outbox 발송, SSE heartbeat, 인증 코드 정리가 밀리지 않는 크기
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduling")
+public class SchedulingProperties {
+
+    private int poolSize = 8;
+}
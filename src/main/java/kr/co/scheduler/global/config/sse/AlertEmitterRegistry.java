@@ -0,0 +1,228 @@
+package kr.co.scheduler.global.config.sse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AlertEmitterRegistry: 회원별 SSE 연결 저장소
+ * 1. 회원 id 마다 연결(SseEmitter)을 보관하고, 완료/만료/오류가 발생한 연결은 즉시 제거
+ * 2. publish 로 해당 회원의 모든 연결에 알림을 보내고, 전송에 실패한 연결은 제거
+ * 3. heartbeatMillis 마다 모든 연결에 주석 이벤트를 보내 끊어진 연결을 찾아 제거
+ * 4. 최대 연결 수를 넘어 밀려난 연결은 별도 스레드(evictor)에서 종료
+ *    (다른 요청의 처리 스레드에서 종료하면 톰캣이 종료 처리를 그 요청에 이어서 실행하여 새 연결이 끊어짐)
+ * 5. 전송과 종료는 연결(AlertEmitter)의 잠금 안에서 하고, 톰캣이 완료/만료/오류를 알리면 같은 잠금 안에서 닫힘으로 표시
+ *    톰캣은 알림을 마친 뒤 요청을 재사용하므로, 닫힌 연결에는 전송하거나 종료하지 않아 다른 연결의 응답에 쓰지 않음
+ *    전송에 실패한 연결은 톰캣이 오류로 종료하므로 목록에서만 제거
+ * 연결은 서블릿 비동기 요청으로 유지되므로 유휴 연결이 요청 처리 스레드를 점유하지 않음
+ * 현재 연결 수는 sse.alert.connections 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class AlertEmitterRegistry {
+
+    private final SseProperties sseProperties;
+    private final Map<Long, Deque<AlertEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService evictor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("sse-alert-evictor-"));
+
+    public AlertEmitterRegistry(SseProperties sseProperties, MeterRegistry meterRegistry) {
+
+        this.sseProperties = sseProperties;
+
+        Gauge.builder("sse.alert.connections", connections, AtomicInteger::get)
+                .description("연결 중인 실시간 알림(SSE) 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * register: 회원의 새 연결을 만들어 등록하고, 연결 직후 connect 이벤트 전송
+     * 최대 연결 수를 넘으면 가장 오래된 연결을 제거하고 evictor 스레드에서 종료
+     */
+    public SseEmitter register(Long userId) {
+
+        AlertEmitter emitter = new AlertEmitter(sseProperties.getTimeoutMillis());
+
+        // 같은 회원의 등록과 제거가 동시에 일어나도 빈 목록이 지워지면서 새 연결이 사라지지 않도록 compute 안에서 처리
+        Deque<AlertEmitter> userEmitters = emitters.compute(userId, (id, current) -> {
+
+            Deque<AlertEmitter> deque = current == null ? new ConcurrentLinkedDeque<>() : current;
+            deque.addLast(emitter);
+
+            return deque;
+        });
+        connections.incrementAndGet();
+
+        emitter.onCompletion(() -> close(userId, emitter));
+        emitter.onTimeout(() -> close(userId, emitter));
+        emitter.onError(e -> close(userId, emitter));
+
+        while (userEmitters.size() > sseProperties.getMaxEmittersPerUser()) {
+
+            AlertEmitter oldest = userEmitters.peekFirst();
+
+            if (oldest != null && remove(userId, oldest)) {
+
+                evictor.execute(oldest::completeIfOpen);
+            }
+        }
+
+        send(userId, emitter, SseEmitter.event().name("connect").data("connected"));
+
+        return emitter;
+    }
+
+    /**
+     * publish: 회원의 모든 연결에 알림 전송하고, 전송한 연결 수 리턴
+     */
+    public int publish(Long userId, String content) {
+
+        Deque<AlertEmitter> userEmitters = emitters.get(userId);
+
+        if (userEmitters == null) {
+
+            return 0;
+        }
+
+        int sent = 0;
+
+        for (AlertEmitter emitter : userEmitters) {
+
+            if (send(userId, emitter, SseEmitter.event().name("alert").data(content))) {
+
+                sent++;
+            }
+        }
+
+        return sent;
+    }
+
+    /**
+     * heartbeat: 모든 연결에 주석 이벤트를 보내고, 전송에 실패한(끊어진) 연결 제거
+     */
+    @Scheduled(fixedRateString = "${sse.heartbeat-millis:25000}", initialDelayString = "${sse.heartbeat-millis:25000}")
+    public void heartbeat() {
+
+        emitters.forEach((userId, userEmitters) -> {
+
+            for (AlertEmitter emitter : userEmitters) {
+
+                send(userId, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    public int getConnections() {
+
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        evictor.shutdown();
+        evictor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private boolean send(Long userId, AlertEmitter emitter, SseEmitter.SseEventBuilder event) {
+
+        try {
+
+            if (emitter.sendIfOpen(event)) {
+
+                return true;
+            }
+        } catch (Exception e) {
+
+            // 클라이언트가 연결을 끊은 경우 IOException, 이미 완료된 연결인 경우 IllegalStateException
+            log.debug("끊어진 실시간 알림 연결을 제거했습니다. userId={}", userId);
+        }
+
+        remove(userId, emitter);
+
+        return false;
+    }
+
+    private void close(Long userId, AlertEmitter emitter) {
+
+        emitter.close();
+        remove(userId, emitter);
+    }
+
+    private boolean remove(Long userId, AlertEmitter emitter) {
+
+        AtomicBoolean removed = new AtomicBoolean();
+
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+
+            removed.set(userEmitters.remove(emitter));
+
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+
+        if (removed.get()) {
+
+            connections.decrementAndGet();
+        }
+
+        return removed.get();
+    }
+
+    /**
+     * AlertEmitter: 톰캣이 요청을 끝낸 뒤에는 전송하거나 종료하지 않는 SseEmitter
+     * SseEmitter 의 전송, 종료와 같은 잠금(this)을 사용하므로, 다른 스레드에서 전송 중이면 닫힘 표시는 전송이 끝난 뒤에 함
+     */
+    private static class AlertEmitter extends SseEmitter {
+
+        private boolean closed;
+
+        AlertEmitter(Long timeout) {
+
+            super(timeout);
+        }
+
+        synchronized boolean sendIfOpen(SseEventBuilder event) throws IOException {
+
+            if (closed) {
+
+                return false;
+            }
+
+            send(event);
+
+            return true;
+        }
+
+        synchronized void completeIfOpen() {
+
+            if (!closed) {
+
+                closed = true;
+                complete();
+            }
+        }
+
+        synchronized void close() {
+
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package kr.co.scheduler.global.config.sse;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SseProperties: 실시간 알림(SSE) 연결 설정
+ * 1. timeoutMillis: 연결 유지 시간 (만료되면 브라우저의 EventSource 가 자동으로 다시 연결)
+ * 2. heartbeatMillis: 끊어진 연결을 찾아 정리하기 위해 빈 이벤트를 보내는 주기 (프록시의 유휴 연결 종료도 방지)
+ * 3. maxEmittersPerUser: 회원 한 명이 동시에 유지할 수 있는 최대 연결 수 (초과하면 가장 오래된 연결 종료)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    private long timeoutMillis = 30 * 60 * 1000;
+
+    private long heartbeatMillis = 25_000;
+
+    private int maxEmittersPerUser = 5;
+}
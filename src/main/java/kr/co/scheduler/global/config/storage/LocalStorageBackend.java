@@ -0,0 +1,136 @@
+package kr.co.scheduler.global.config.storage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocalStorageBackend: 로컬 디스크에 {root}/{key} 로 저장
+ * 1. put 은 Files.move(ATOMIC_MOVE) 로 옮겨, 옮기는 중인 파일이 보이지 않고 실패하면 예외를 던짐
+ * 2. tempDir 가 root 와 다른 디스크라 한 번에 옮길 수 없으면, 대상 폴더에 복사한 뒤 같은 폴더 안에서 ATOMIC_MOVE
+ * 3. 여러 파일 삭제는 asyncWorkers 개의 스레드에서 처리
+ * 여러 서버가 함께 쓰려면 root 를 공유 디스크(NFS 등)로 지정하거나 S3 저장소 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+    private final Path tempDir;
+    private final ExecutorService executor;
+
+    public LocalStorageBackend(StorageProperties storageProperties) {
+
+        StorageProperties.Local local = storageProperties.getLocal();
+
+        this.root = Path.of(local.getRoot()).toAbsolutePath().normalize();
+        this.tempDir = Path.of(local.getTempDir()).toAbsolutePath().normalize();
+        this.executor = Executors.newFixedThreadPool(local.getAsyncWorkers(), new CustomizableThreadFactory("storage-local-"));
+    }
+
+    @Override
+    public Path createTempFile() throws IOException {
+
+        Files.createDirectories(tempDir);
+
+        return Files.createTempFile(tempDir, "upload-", ".tmp");
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        try {
+
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+
+            Path copy = Files.createTempFile(target.getParent(), "put-", ".tmp");
+
+            try {
+
+                Files.copy(source, copy, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(copy, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                Files.delete(source);
+            } finally {
+
+                Files.deleteIfExists(copy);
+            }
+        }
+    }
+
+    @Override
+    public Resource get(String key) {
+
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllAsync(Collection<String> keys) {
+
+        return CompletableFuture.allOf(keys.stream()
+                .map(key -> CompletableFuture.runAsync(() -> {
+
+                    try {
+
+                        delete(key);
+                    } catch (IOException e) {
+
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private Path resolve(String key) {
+
+        Path path = root.resolve(StorageBackend.validateKey(key)).normalize();
+
+        if (!path.startsWith(root)) {
+
+            throw new IllegalArgumentException("올바르지 않은 저장소 키입니다. key=" + key);
+        }
+
+        return path;
+    }
+}
@@ -0,0 +1,425 @@
+package kr.co.scheduler.global.config.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * S3StorageBackend: S3 호환 저장소(AWS S3, MinIO 등)에 {bucket}/{key} 로 저장
+ * 1. SDK 없이 HttpClient 로 요청하고, 요청마다 AWS Signature Version 4 로 서명 (path-style URL)
+ * 2. PUT 한 객체는 업로드가 끝난 뒤에만 조회되므로 put 은 별도 이동 없이 원자적으로 공개
+ * 3. 여러 객체 삭제는 요청을 동시에 보내고 모두 끝나면 완료
+ * 4. 조회 리소스는 HEAD 로 크기와 수정 시각을 확인하고, 내용을 읽을 때 GET 으로 스트림 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "type", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final StorageProperties.S3 s3;
+    private final URI endpoint;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public S3StorageBackend(StorageProperties storageProperties) {
+
+        this.s3 = storageProperties.getS3();
+
+        if (s3.getBucket() == null || s3.getAccessKey() == null || s3.getSecretKey() == null) {
+
+            throw new IllegalStateException("storage.s3 의 bucket, access-key, secret-key 를 설정해주세요.");
+        }
+
+        this.endpoint = URI.create(s3.getEndpoint().replaceAll("/+$", ""));
+        this.timeout = Duration.ofMillis(s3.getTimeoutMillis());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public Path createTempFile() throws IOException {
+
+        return Files.createTempFile("upload-", ".tmp");
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+
+        HttpResponse<String> response = send(request("PUT", key)
+                .PUT(HttpRequest.BodyPublishers.ofFile(source)), HttpResponse.BodyHandlers.ofString());
+
+        check(response, key);
+        Files.delete(source);
+    }
+
+    @Override
+    public Resource get(String key) {
+
+        return new S3Resource(StorageBackend.validateKey(key));
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+
+        return head(key) != null;
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+
+        // S3 는 없는 객체를 삭제해도 204 를 리턴하므로 존재 여부를 먼저 확인
+        if (!exists(key)) {
+
+            return false;
+        }
+
+        check(send(deleteRequest(key), HttpResponse.BodyHandlers.ofString()), key);
+
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAllAsync(Collection<String> keys) {
+
+        return CompletableFuture.allOf(keys.stream()
+                .map(key -> httpClient.sendAsync(deleteRequest(key), HttpResponse.BodyHandlers.ofString())
+                        .thenAccept(response -> {
+
+                            if (response.statusCode() / 100 != 2 && response.statusCode() != 404) {
+
+                                throw new IllegalStateException("S3 객체를 삭제하지 못했습니다. key=" + key + ", status=" + response.statusCode());
+                            }
+                        }))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    // ================================== 구분 ================================== //
+
+    private HttpRequest deleteRequest(String key) {
+
+        return request("DELETE", key).DELETE().build();
+    }
+
+    /**
+     * head: 객체의 응답 헤더 (없으면 null)
+     */
+    private HttpResponse<Void> head(String key) throws IOException {
+
+        HttpResponse<Void> response = send(request("HEAD", key)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody()), HttpResponse.BodyHandlers.discarding());
+
+        if (response.statusCode() == 404) {
+
+            return null;
+        }
+
+        check(response, key);
+
+        return response;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder builder, HttpResponse.BodyHandler<T> handler) throws IOException {
+
+        return send(builder.build(), handler);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+
+        try {
+
+            return httpClient.send(request, handler);
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 요청이 중단되었습니다. uri=" + request.uri(), e);
+        }
+    }
+
+    private void check(HttpResponse<?> response, String key) throws IOException {
+
+        if (response.statusCode() / 100 != 2) {
+
+            throw new IOException("S3 요청에 실패했습니다. method=" + response.request().method()
+                    + ", key=" + key + ", status=" + response.statusCode());
+        }
+    }
+
+    /**
+     * request: 서명한 요청 생성
+     * 1. 정규 요청(메서드, 경로, 서명할 헤더, 본문 해시)을 만들고
+     * 2. 날짜/리전/s3/aws4_request 범위로 만든 서명 키로 서명하여 Authorization 헤더에 추가
+     * 본문은 서명하지 않음(UNSIGNED-PAYLOAD) - 파일을 다시 읽어 해시를 계산하지 않도록 함
+     */
+    private HttpRequest.Builder request(String method, String key) {
+
+        String path = "/" + encode(s3.getBucket()) + "/" + encodePath(StorageBackend.validateKey(key));
+        URI uri = URI.create(endpoint + path);
+
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String amzDate = AMZ_DATE.format(now);
+        String date = amzDate.substring(0, 8);
+        String scope = date + "/" + s3.getRegion() + "/s3/aws4_request";
+
+        Map<String, String> headers = new TreeMap<>();
+        headers.put("host", host(uri));
+        headers.put("x-amz-content-sha256", UNSIGNED_PAYLOAD);
+        headers.put("x-amz-date", amzDate);
+
+        StringBuilder canonicalHeaders = new StringBuilder();
+        headers.forEach((name, value) -> canonicalHeaders.append(name).append(':').append(value.trim()).append('\n'));
+        String signedHeaders = String.join(";", headers.keySet());
+
+        String canonicalRequest = method + "\n" + path + "\n" + "\n" + canonicalHeaders + "\n" + signedHeaders + "\n" + UNSIGNED_PAYLOAD;
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + hex(sha256(canonicalRequest));
+
+        byte[] signingKey = hmac(("AWS4" + s3.getSecretKey()).getBytes(StandardCharsets.UTF_8), date);
+        signingKey = hmac(signingKey, s3.getRegion());
+        signingKey = hmac(signingKey, "s3");
+        signingKey = hmac(signingKey, "aws4_request");
+
+        String authorization = ALGORITHM + " Credential=" + s3.getAccessKey() + "/" + scope
+                + ", SignedHeaders=" + signedHeaders + ", Signature=" + hex(hmac(signingKey, stringToSign));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Authorization", authorization);
+
+        headers.forEach((name, value) -> {
+
+            if (!name.equals("host")) {
+
+                builder.header(name, value);
+            }
+        });
+
+        return builder;
+    }
+
+    /**
+     * host: HttpClient 가 보내는 Host 헤더와 같은 값 (기본 포트가 아니면 포트 포함)
+     */
+    private static String host(URI uri) {
+
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("http".equals(uri.getScheme()) && port == 80)
+                || ("https".equals(uri.getScheme()) && port == 443);
+
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + port;
+    }
+
+    private static String encodePath(String key) {
+
+        StringBuilder path = new StringBuilder();
+
+        for (String segment : key.split("/")) {
+
+            if (path.length() > 0) {
+
+                path.append('/');
+            }
+
+            path.append(encode(segment));
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * encode: RFC 3986 의 예약되지 않은 문자(A-Z a-z 0-9 - _ . ~)를 제외하고 UTF-8 바이트를 %XX 로 인코딩
+     */
+    private static String encode(String value) {
+
+        StringBuilder encoded = new StringBuilder();
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+
+            char c = (char) (b & 0xff);
+
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~') {
+
+                encoded.append(c);
+            } else {
+
+                encoded.append('%').append(HexFormat.of().withUpperCase().toHexDigits(b));
+            }
+        }
+
+        return encoded.toString();
+    }
+
+    private static byte[] sha256(String value) {
+
+        try {
+
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String value) {
+
+        try {
+
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    /**
+     * S3Resource: S3 객체 리소스
+     * 크기와 수정 시각은 처음 필요할 때 HEAD 한 번으로 조회하여 보관하고, 내용은 GET 응답 스트림으로 읽음
+     */
+    private class S3Resource extends AbstractResource {
+
+        private final String key;
+        private HttpResponse<Void> head;
+        private boolean headed;
+
+        private S3Resource(String key) {
+
+            this.key = key;
+        }
+
+        @Override
+        public boolean exists() {
+
+            try {
+
+                return head() != null;
+            } catch (IOException e) {
+
+                log.warn("S3 객체를 조회하지 못했습니다. key={}", key, e);
+
+                return false;
+            }
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+
+            return existingHead().headers().firstValueAsLong("Content-Length")
+                    .orElseThrow(() -> new IOException("S3 객체의 크기를 알 수 없습니다. key=" + key));
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+
+            return existingHead().headers().firstValue("Last-Modified")
+                    .map(value -> ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli())
+                    .orElse(0L);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+
+            HttpResponse<InputStream> response = send(request("GET", key).GET(), HttpResponse.BodyHandlers.ofInputStream());
+
+            if (response.statusCode() / 100 != 2) {
+
+                response.body().close();
+
+                if (response.statusCode() == 404) {
+
+                    throw new FileNotFoundException(getDescription() + " 을 찾을 수 없습니다.");
+                }
+
+                check(response, key);
+            }
+
+            return response.body();
+        }
+
+        @Override
+        public String getFilename() {
+
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getDescription() {
+
+            return "S3 object [" + s3.getBucket() + "/" + key + "]";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            return this == other || (other instanceof S3Resource resource && key.equals(resource.key));
+        }
+
+        @Override
+        public int hashCode() {
+
+            return key.hashCode();
+        }
+
+        private synchronized HttpResponse<Void> head() throws IOException {
+
+            if (!headed) {
+
+                head = S3StorageBackend.this.head(key);
+                headed = true;
+            }
+
+            return head;
+        }
+
+        private HttpResponse<Void> existingHead() throws IOException {
+
+            HttpResponse<Void> response = head();
+
+            if (response == null) {
+
+                throw new FileNotFoundException(getDescription() + " 을 찾을 수 없습니다.");
+            }
+
+            return response;
+        }
+    }
+}
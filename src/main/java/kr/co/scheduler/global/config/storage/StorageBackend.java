@@ -0,0 +1,74 @@
+package kr.co.scheduler.global.config.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * StorageBackend: 업로드한 이미지 파일을 보관하는 저장소
+ * 1. 파일은 저장소 안의 상대 경로 키로 구분 ("store/ab/cd/{해시}_{uuid}.png", "profile/{uuid}_{파일명}", '/' 로 폴더 구분)
+ * 2. put 은 완성된 파일만 한 번에 공개하여, 다른 요청이 쓰는 중인 파일을 읽지 않도록 함
+ * 3. 실패는 IOException 으로 알림 (이동, 삭제 실패를 무시하지 않음)
+ * 4. storage.type 설정으로 구현체 선택 (local: 로컬 디스크, s3: 여러 서버가 함께 쓰는 S3 호환 저장소)
+ */
+public interface StorageBackend {
+
+    /**
+     * createTempFile: put 할 파일을 먼저 써 둘 로컬 임시 파일 생성
+     */
+    Path createTempFile() throws IOException;
+
+    /**
+     * put: 로컬 파일을 key 로 옮김 (같은 key 가 있으면 교체하고, 옮긴 뒤 source 는 남지 않음)
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * get: key 의 리소스 리턴 (파일이 없어도 리턴하며, exists() 로 확인)
+     */
+    Resource get(String key);
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * delete: key 삭제 (없으면 false)
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * deleteAllAsync: 여러 key 를 비동기로 삭제 (하나라도 실패하면 예외로 완료)
+     */
+    CompletableFuture<Void> deleteAllAsync(Collection<String> keys);
+
+    /**
+     * isKey: 저장소 키인지, 저장소 도입 이전에 DB 에 저장한 로컬 절대 경로("C:\\upload\\...", "/upload/...")인지 구분
+     */
+    static boolean isKey(String path) {
+
+        return path != null && !path.isEmpty() && !path.startsWith("/") && path.indexOf('\\') < 0 && path.indexOf(':') < 0;
+    }
+
+    /**
+     * validateKey: 저장소 밖을 가리키는 키 차단
+     */
+    static String validateKey(String key) {
+
+        if (!isKey(key) || key.endsWith("/")) {
+
+            throw new IllegalArgumentException("올바르지 않은 저장소 키입니다. key=" + key);
+        }
+
+        for (String segment : key.split("/")) {
+
+            if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+
+                throw new IllegalArgumentException("올바르지 않은 저장소 키입니다. key=" + key);
+            }
+        }
+
+        return key;
+    }
+}
@@ -0,0 +1,54 @@
+package kr.co.scheduler.global.config.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * StorageProperties: 이미지 저장소 설정
+ * 1. type: local (로컬 디스크) 또는 s3 (S3 호환 저장소)
+ * 2. local.root: 저장소 키를 저장할 폴더, local.tempDir: put 하기 전에 파일을 써 둘 폴더 (root 와 같은 디스크여야 한 번에 이동)
+ * 3. local.asyncWorkers: 여러 파일을 비동기로 삭제할 스레드 수
+ * 4. s3: 엔드포인트(path-style), 리전, 버킷, 접근 키 (MinIO 등 S3 호환 저장소 사용 가능)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage")
+public class StorageProperties {
+
+    private String type = "local";
+
+    private Local local = new Local();
+
+    private S3 s3 = new S3();
+
+    @Getter
+    @Setter
+    public static class Local {
+
+        private String root = "C:\\upload";
+
+        private String tempDir = "C:\\upload\\tmp";
+
+        private int asyncWorkers = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class S3 {
+
+        private String endpoint = "http://localhost:9000";
+
+        private String region = "us-east-1";
+
+        private String bucket;
+
+        private String accessKey;
+
+        private String secretKey;
+
+        private long timeoutMillis = 10_000;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co.scheduler.global.config.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AfterCommit: 롤백된 변경이 캐시, 파일, 브라우저에 반영되지 않도록 트랜잭션 커밋 이후에 실행
+ * 트랜잭션 밖에서 호출하면 바로 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+
+                    task.run();
+                }
+            });
+        } else {
+
+            task.run();
+        }
+    }
+}
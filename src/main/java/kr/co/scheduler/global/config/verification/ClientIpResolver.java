@@ -0,0 +1,70 @@
+package kr.co.scheduler.global.config.verification;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * ClientIpResolver: 요청한 클라이언트의 IP (IP 별 인증코드 요청 횟수 제한에 사용)
+ * 1. 요청을 보낸 주소(remoteAddr)가 trustedProxies 에 해당하는 프록시일 때만 X-Forwarded-For 사용
+ *    프록시를 거치지 않은 요청의 X-Forwarded-For 는 클라이언트가 마음대로 넣을 수 있으므로 무시
+ * 2. X-Forwarded-For 는 가까운 프록시가 붙인 오른쪽부터 읽으면서, 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 봄
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Pattern trustedProxies;
+
+    public ClientIpResolver(VerificationProperties verificationProperties) {
+
+        this.trustedProxies = Pattern.compile(verificationProperties.getTrustedProxies());
+    }
+
+    public String resolve(HttpServletRequest request) {
+
+        String clientIp = request.getRemoteAddr();
+
+        if (!isTrusted(clientIp)) {
+
+            return clientIp;
+        }
+
+        List<String> forwardedFor = new ArrayList<>();
+
+        for (String header : Collections.list(request.getHeaders(FORWARDED_FOR))) {
+
+            for (String ip : header.split(",")) {
+
+                if (!ip.isBlank()) {
+
+                    forwardedFor.add(ip.trim());
+                }
+            }
+        }
+
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+
+            clientIp = forwardedFor.get(i);
+
+            if (!isTrusted(clientIp)) {
+
+                return clientIp;
+            }
+        }
+
+        return clientIp;
+    }
+
+    // ================================== 구분 ================================== //
+
+    private boolean isTrusted(String ip) {
+
+        return ip != null && trustedProxies.matcher(ip).matches();
+    }
+}
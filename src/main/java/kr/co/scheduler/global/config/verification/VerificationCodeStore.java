@@ -0,0 +1,192 @@
+package kr.co.scheduler.global.config.verification;
+
+import kr.co.scheduler.global.enums.VerificationResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VerificationCodeStore: 이메일별 인증코드를 서버에만 보관하는 저장소
+ * 1. issue 로 인증코드를 발급하여 codeTtlMillis 동안 보관 (다시 발급하면 이전 인증코드는 무효)
+ * 2. verify 로 인증코드를 확인하고, 일치하면 verifiedTtlMillis 동안 인증 완료 상태로 보관
+ * 3. maxAttempts 번 틀리면 인증코드 폐기
+ * 4. 만료된 인증 정보는 1분마다 제거하고, maxEntries 를 넘으면 가장 먼저 만료될 인증 정보부터 제거
+ */
+@Component
+public class VerificationCodeStore {
+
+    private static final String CODE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int CODE_LENGTH = 8;
+
+    private final VerificationProperties verificationProperties;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public VerificationCodeStore(VerificationProperties verificationProperties) {
+
+        this.verificationProperties = verificationProperties;
+    }
+
+    /**
+     * issue: 새 인증코드를 발급하여 보관하고 리턴
+     */
+    public String issue(String email) {
+
+        long now = System.currentTimeMillis();
+
+        if (!entries.containsKey(email) && entries.size() >= verificationProperties.getMaxEntries()) {
+
+            makeRoom(now);
+        }
+
+        String code = createCode();
+
+        entries.put(email, new Entry(code, now + verificationProperties.getCodeTtlMillis(), 0, false));
+
+        return code;
+    }
+
+    /**
+     * verify: 인증코드 확인
+     * 1. 인증코드가 없거나 만료된 경우 EXPIRED
+     * 2. 일치하는 경우 인증 완료 상태로 바꾸고 VERIFIED
+     * 3. 일치하지 않는 경우 틀린 횟수를 늘리고 MISMATCH (maxAttempts 번 틀리면 폐기하고 TOO_MANY_ATTEMPTS)
+     */
+    public VerificationResult verify(String email, String code) {
+
+        long now = System.currentTimeMillis();
+        VerificationResult[] result = {VerificationResult.EXPIRED};
+
+        // 같은 이메일에 대한 확인 요청이 동시에 들어와도 틀린 횟수가 빠짐없이 반영되도록 compute 안에서 갱신
+        entries.computeIfPresent(email, (key, entry) -> {
+
+            if (entry.expiresAt <= now) {
+
+                return null;
+            }
+
+            if (entry.verified) {
+
+                result[0] = VerificationResult.VERIFIED;
+
+                return entry;
+            }
+
+            if (code != null && MessageDigest.isEqual(entry.code.getBytes(StandardCharsets.UTF_8), code.getBytes(StandardCharsets.UTF_8))) {
+
+                result[0] = VerificationResult.VERIFIED;
+
+                return new Entry(entry.code, now + verificationProperties.getVerifiedTtlMillis(), entry.attempts, true);
+            }
+
+            if (entry.attempts + 1 >= verificationProperties.getMaxAttempts()) {
+
+                result[0] = VerificationResult.TOO_MANY_ATTEMPTS;
+
+                return null;
+            }
+
+            result[0] = VerificationResult.MISMATCH;
+
+            return new Entry(entry.code, entry.expiresAt, entry.attempts + 1, false);
+        });
+
+        return result[0];
+    }
+
+    /**
+     * isVerified: 인증을 완료하고 아직 만료되지 않았는지 확인
+     */
+    public boolean isVerified(String email) {
+
+        Entry entry = entries.get(email);
+
+        return entry != null && entry.verified && entry.expiresAt > System.currentTimeMillis();
+    }
+
+    public void remove(String email) {
+
+        entries.remove(email);
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    /**
+     * purgeExpired: 만료된 인증 정보 제거
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+
+        long now = System.currentTimeMillis();
+
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    // ================================== 구분 ================================== //
+
+    /**
+     * makeRoom: 만료된 인증 정보를 제거하고, 그래도 가득 차 있으면 가장 먼저 만료될 인증 정보 제거
+     */
+    private void makeRoom(long now) {
+
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+
+        while (entries.size() >= verificationProperties.getMaxEntries()) {
+
+            String soonest = null;
+            long soonestExpiresAt = Long.MAX_VALUE;
+
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+
+                if (entry.getValue().expiresAt < soonestExpiresAt) {
+
+                    soonest = entry.getKey();
+                    soonestExpiresAt = entry.getValue().expiresAt;
+                }
+            }
+
+            if (soonest == null) {
+
+                return;
+            }
+
+            entries.remove(soonest);
+        }
+    }
+
+    private String createCode() {
+
+        char[] code = new char[CODE_LENGTH];
+
+        for (int i = 0; i < CODE_LENGTH; i++) {
+
+            code[i] = CODE_CHARACTERS.charAt(random.nextInt(CODE_CHARACTERS.length()));
+        }
+
+        return new String(code);
+    }
+
+    private static class Entry {
+
+        private final String code;
+        private final long expiresAt;
+        private final int attempts;
+        private final boolean verified;
+
+        private Entry(String code, long expiresAt, int attempts, boolean verified) {
+
+            this.code = code;
+            this.expiresAt = expiresAt;
+            this.attempts = attempts;
+            this.verified = verified;
+        }
+    }
+}
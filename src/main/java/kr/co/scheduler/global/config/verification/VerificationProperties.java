@@ -0,0 +1,40 @@
+package kr.co.scheduler.global.config.verification;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * VerificationProperties: 이메일 인증 설정
+ * 1. codeTtlMillis: 인증코드 유효 시간
+ * 2. verifiedTtlMillis: 인증을 마친 뒤 회원가입을 완료해야 하는 시간
+ * 3. maxAttempts: 인증코드를 틀릴 수 있는 횟수 (초과하면 인증코드 폐기)
+ * 4. maxEntries: 보관할 최대 인증 정보 수 (초과하면 만료된 것부터, 그래도 넘으면 가장 먼저 만료될 것부터 제거)
+ * 5. emailLimit, ipLimit, limitWindowMillis: limitWindowMillis 동안 이메일마다, IP 마다 인증코드를 요청할 수 있는 횟수
+ * 6. trustedProxies: X-Forwarded-For 를 믿을 프록시 주소 정규식 (기본값은 루프백과 사설망 주소)
+ *    로드밸런서가 공인 주소로 요청을 넘기는 환경이면 그 주소를 추가해야 IP 마다 횟수를 셀 수 있음
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "verification")
+public class VerificationProperties {
+
+    private long codeTtlMillis = 5 * 60 * 1000;
+
+    private long verifiedTtlMillis = 30 * 60 * 1000;
+
+    private int maxAttempts = 5;
+
+    private int maxEntries = 10_000;
+
+    private int emailLimit = 3;
+
+    private int ipLimit = 20;
+
+    private long limitWindowMillis = 10 * 60 * 1000;
+
+    private String trustedProxies = "127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}"
+            + "|192\\.168\\.\\d{1,3}\\.\\d{1,3}|172\\.(1[6-9]|2\\d|3[01])\\.\\d{1,3}\\.\\d{1,3}|0:0:0:0:0:0:0:1|::1";
+}
@@ -0,0 +1,76 @@
+package kr.co.scheduler.global.config.verification;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VerificationRateLimiter: 인증코드 요청 횟수 제한
+ * 1. 키(이메일, IP)마다 limitWindowMillis 길이의 구간 안에서 요청 횟수를 셈
+ * 2. 구간이 끝나면 횟수를 다시 셈
+ * 3. 끝난 구간은 1분마다 제거
+ */
+@Component
+public class VerificationRateLimiter {
+
+    private final VerificationProperties verificationProperties;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public VerificationRateLimiter(VerificationProperties verificationProperties) {
+
+        this.verificationProperties = verificationProperties;
+    }
+
+    /**
+     * tryAcquire: 현재 구간의 요청 횟수가 limit 미만이면 횟수를 늘리고 true 리턴
+     */
+    public boolean tryAcquire(String key, int limit) {
+
+        long now = System.currentTimeMillis();
+        long windowMillis = verificationProperties.getLimitWindowMillis();
+
+        Window window = windows.compute(key, (k, prev) -> {
+
+            if (prev == null || prev.startedAt + windowMillis <= now) {
+
+                return new Window(now, 1);
+            }
+
+            return new Window(prev.startedAt, prev.count + 1);
+        });
+
+        return window.count <= limit;
+    }
+
+    public int size() {
+
+        return windows.size();
+    }
+
+    /**
+     * purgeExpired: 끝난 구간 제거
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+
+        long before = System.currentTimeMillis() - verificationProperties.getLimitWindowMillis();
+
+        windows.values().removeIf(window -> window.startedAt <= before);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private static class Window {
+
+        private final long startedAt;
+        private final int count;
+
+        private Window(long startedAt, int count) {
+
+            this.startedAt = startedAt;
+            this.count = count;
+        }
+    }
+}
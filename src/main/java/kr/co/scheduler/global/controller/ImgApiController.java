@@ -1,20 +1,22 @@
 package kr.co.scheduler.global.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import kr.co.scheduler.global.config.img.ImgResourceResponder;
+import kr.co.scheduler.global.config.img.ProfileImgCache;
 import kr.co.scheduler.global.entity.Img;
+import kr.co.scheduler.global.enums.ImgVariant;
 import kr.co.scheduler.global.service.ImgService;
 import kr.co.scheduler.user.entity.User;
 import kr.co.scheduler.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 
-import org.apache.commons.io.IOUtils;
-import org.springframework.http.HttpStatus;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.Principal;
 
 @RestController
@@ -23,81 +25,128 @@ public class ImgApiController {
 
     private final ImgService imgService;
     private final UserService userService;
+    private final ImgResourceResponder imgResourceResponder;
+    private final ProfileImgCache profileImgCache;
 
     /**
      * selectProfileImg: 프로필이미지를 뷰로 전송
-     * 뷰에서 바이트 단위의 데이터를 받기 위해서는
-     * HttpStatus, HttpHeaders, HttpBody 를 모두 포함해야하기 때문에
-     * ResponseDTO 가 아닌 ResponseEntity 를 응답한다.
+     * 이미지를 메모리에 읽지 않고 Resource 로 응답하여, 이미지 크기와 관계없이 요청마다 고정 크기의 버퍼만 사용
+     * 현재 프로필이미지 버전(v)으로 요청한 경우에만 오래 캐시하고, 그 외에는 매번 ETag 로 확인
+     * size(avatar, content)를 지정하면 해당 크기로 줄인 이미지를 전송 (기본값은 원본)
+     * 작은 이미지는 ProfileImgCache 에 보관하여 회원 조회와 파일 읽기 없이 응답
      */
     @GetMapping("/api/profileImg/{email}")
-    public ResponseEntity<?> selectProfileImg(@PathVariable(name = "email") String email) throws IOException {
+    public ResponseEntity<Resource> selectProfileImg(@PathVariable(name = "email") String email,
+                                                     @RequestParam(name = "v", required = false) String version,
+                                                     @RequestParam(name = "size", required = false) String size,
+                                                     HttpServletRequest request) throws IOException {
 
-        User user = userService.selectUser(email);
-        String profileImgPath = user.getProfileImgPath();
-        InputStream inputStream;
-        byte[] imageByteArray = null;
-
-        if (profileImgPath == null) {
-
-            inputStream = getClass().getResourceAsStream("/static/image/profile-spap.png");
-            imageByteArray = IOUtils.toByteArray(inputStream);
-            inputStream.close();
-        } else {
-
-            imageByteArray = imgService.selectProfileImg(profileImgPath);
-        }
-
-        return new ResponseEntity<>(imageByteArray, HttpStatus.OK);
+        return respondProfileImg(email, version, ImgVariant.of(size, null), true, request);
     }
 
     /**
      * selectProfileImgByPrincipal: 사용자의 프로필이미지를 뷰로 전송
-     * 뷰에서 바이트 단위의 데이터를 받기 위해서는
-     * HttpStatus, HttpHeaders, HttpBody 를 모두 포함해야하기 때문에
-     * ResponseDTO 가 아닌 ResponseEntity 를 응답한다.
+     * 로그인한 회원마다 다른 이미지를 같은 URL 로 응답하므로 브라우저에만 캐시
      */
     @GetMapping("/api/profileImg")
-    public ResponseEntity<?> selectProfileImgByPrincipal(Principal principal) throws IOException {
-
-        User user = userService.selectUser(principal.getName());
-        byte[] imageByteArray = null;
+    public ResponseEntity<Resource> selectProfileImgByPrincipal(Principal principal,
+                                                                @RequestParam(name = "v", required = false) String version,
+                                                                @RequestParam(name = "size", required = false) String size,
+                                                                HttpServletRequest request) throws IOException {
 
-        if (user != null) {
-
-            imageByteArray = imgService.selectProfileImg(user.getProfileImgPath());
-        }
-
-        return new ResponseEntity<>(imageByteArray, HttpStatus.OK);
+        return respondProfileImg(principal.getName(), version, ImgVariant.of(size, null), false, request);
     }
 
     // ================================== 구분 ================================== //
 
     /**
      * getPostImg: 썸머노트에 이미지 업로드시 뷰에 이미지를 띄움
+     * 본문 너비에 맞게 줄인 이미지(content)를 기본으로 전송하고, size=original 이면 원본 전송
      */
     @GetMapping("/api/summernoteImg")
-    public ResponseEntity<?> getPostImg(@RequestParam String uploadFileName) throws IOException {
-
-        Img img = imgService.selectImg(uploadFileName);
-
-        InputStream inputStream = new FileInputStream(img.getImgPath());
-        byte[] imageByteArray = IOUtils.toByteArray(inputStream);
-        inputStream.close();
+    public ResponseEntity<Resource> getPostImg(@RequestParam String uploadFileName,
+                                               @RequestParam(name = "size", required = false) String size,
+                                               HttpServletRequest request) throws IOException {
 
-        return new ResponseEntity<>(imageByteArray, HttpStatus.OK);
+        // 업로드한 이미지는 내용의 해시를 파일명으로 저장하므로 같은 URL 의 내용이 바뀌지 않음
+        return respondImg(imgService.selectImg(uploadFileName), ImgVariant.of(size, ImgVariant.CONTENT), request);
     }
 
     /**
      * uploadPostImg: 이미지를 등록 및 수정
-     * 1. 썸머노트에 업로드한 이미지를 파일 시스템에 저장
+     * 1. 썸머노트에 업로드한 이미지를 해시 저장소에 저장 (같은 내용의 이미지는 기존 파일명 사용)
      * 2. 썸머노트 내용에 <img>~</img>태그 저장
      */
     @PostMapping("/api/summernoteImg")
     public ResponseEntity<?> uploadPostImg(@RequestParam("file") MultipartFile uploadImg, Principal principal) throws IOException {
 
-        String uploadFileName = imgService.uploadImgInSummernote(uploadImg, principal.getName());
+        String uploadFileName = imgService.uploadImgInSummernote(uploadImg);
 
         return ResponseEntity.ok("/api/summernoteImg?uploadFileName=" + uploadFileName);
     }
-}
\ No newline at end of file
+
+    // ================================== 구분 ================================== //
+
+    /**
+     * respondImg: 크기별 이미지가 있으면 크기별 이미지를, 없으면 원본을 전송
+     * 크기별 이미지가 없어 원본으로 응답한 경우, 나중에 만들어지면 같은 URL 로 받을 수 있도록 매번 ETag 로 확인
+     */
+    private ResponseEntity<Resource> respondImg(Img img, ImgVariant variant, HttpServletRequest request) throws IOException {
+
+        Resource original = imgService.selectImgResource(img);
+
+        if (original == null || variant == null) {
+
+            return imgResourceResponder.respond(original, request, ImgResourceResponder.immutable());
+        }
+
+        Resource resized = imgService.selectImgVariant(img, variant);
+
+        if (resized != null) {
+
+            return imgResourceResponder.respond(resized, request, ImgResourceResponder.immutable());
+        }
+
+        return imgResourceResponder.respond(original, request, ImgResourceResponder.revalidate());
+    }
+
+    /**
+     * respondProfileImg: 캐시한 프로필이미지가 있으면 바로 응답하고, 없으면 회원을 조회하여 캐시한 뒤 응답
+     * 현재 프로필이미지 버전으로 요청했고 요청한 크기의 이미지가 있는 경우에만 오래 캐시하고, 그 외에는 매번 ETag 로 확인
+     * shared 가 false 이면 같은 URL 로 회원마다 다른 이미지를 응답하므로 브라우저에만 캐시
+     */
+    private ResponseEntity<Resource> respondProfileImg(String email, String version, ImgVariant variant,
+                                                       boolean shared, HttpServletRequest request) throws IOException {
+
+        ProfileImgCache.Entry entry = profileImgCache.get(email, variant, version);
+
+        if (entry == null) {
+
+            User user = userService.selectUser(email);
+            Resource img = null;
+            boolean fallback = false;
+
+            if (user.getProfileImgPath() != null) {
+
+                img = imgService.selectProfileImg(user.getProfileImgPath());
+                Resource resized = variant == null ? null : imgService.selectImgVariant(user.getProfileImgName(), variant);
+
+                // 크기별 이미지가 없으면 원본을 캐시하여 저장소를 다시 확인하지 않고, 만들어진 뒤 받을 수 있도록 매번 ETag 로 확인
+                fallback = variant != null && resized == null;
+                img = resized == null ? img : resized;
+            }
+
+            entry = profileImgCache.put(email, variant, user.getProfileImgVersion(), img, fallback);
+        }
+
+        CacheControl cacheControl = !entry.isFallback() && entry.getVersion().equals(version)
+                ? ImgResourceResponder.immutable() : ImgResourceResponder.revalidate();
+
+        return imgResourceResponder.respond(entry.getResource(), request, scope(cacheControl, shared));
+    }
+
+    private CacheControl scope(CacheControl cacheControl, boolean shared) {
+
+        return shared ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+}
@@ -0,0 +1,19 @@
+package kr.co.scheduler.global.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class AlertReqDTO {
+
+    /**
+     * CREATE: userId 에 해당하는 회원에게 보낼 알림
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CREATE {
+
+        private String content;
+
+        private Long userId;
+    }
+}
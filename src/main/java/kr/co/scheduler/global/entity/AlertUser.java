@@ -26,6 +26,9 @@ public class AlertUser extends BaseTimeEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
     @Builder
     public AlertUser(Alert alert, User user) {
         this.alert = alert;
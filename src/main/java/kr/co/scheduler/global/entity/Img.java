@@ -3,6 +3,19 @@ package kr.co.scheduler.global.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Img: 썸머노트 이미지
+ * 1. hash: 이미지 내용의 SHA-256 (같은 내용의 이미지는 한 행과 한 파일을 함께 사용)
+ * 2. refCount: 이미지를 포함한 게시글, 프로젝트, 업무일지 수 (0 이 되면 행과 파일 삭제)
+ * 3. lastUploadedAt: 마지막으로 업로드한 시각 (같은 이미지를 다시 업로드하면 갱신, 사용하지 않는 이미지 정리 기준)
+ * 4. imgPath: 저장소 키로, 같은 내용이라도 등록한 행마다 다름 (크기별 이미지는 저장소 키의 파일명으로 저장)
+ * 5. variants: 만든 크기별 이미지 목록 ("content.jpg,avatar.jpg", 원본이 작거나 만들지 못했으면 "", 만드는 중이면 null)
+ *    목록이 있으면 크기별 이미지를 조회할 때 저장소를 확인하지 않으며, 모든 노드가 같은 값을 사용
+ * 6. hash 가 없는 행은 해시 저장소 이전에 업로드한 이미지로, 참조 수를 세지 않고 내용에서 빠지면 바로 삭제
+ */
 @Entity
 @Table(name = "tbl_image")
 @Getter
@@ -21,10 +34,32 @@ public class Img extends BaseTimeEntity {
     @Column(length = 500)
     private String imgName;
 
+    @Column(length = 64, unique = true)
+    private String hash;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(name = "last_uploaded_at")
+    private LocalDateTime lastUploadedAt;
+
+    @Column(length = 100)
+    private String variants;
+
     @Builder
-    public Img(String imgPath, String imgName) {
+    public Img(String imgPath, String imgName, String hash) {
 
         this.imgPath = imgPath;
         this.imgName = imgName;
+        this.hash = hash;
+        this.lastUploadedAt = LocalDateTime.now();
+    }
+
+    /**
+     * getStoredFileName: 저장소 키의 파일명 (크기별 이미지의 이름)
+     */
+    public String getStoredFileName() {
+
+        return imgPath == null ? null : imgPath.substring(imgPath.lastIndexOf('/') + 1);
     }
 }
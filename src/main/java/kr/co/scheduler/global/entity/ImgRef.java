@@ -0,0 +1,46 @@
+package kr.co.scheduler.global.entity;
+
+import jakarta.persistence.*;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ImgRef: 게시글, 프로젝트, 업무일지 내용과 내용에 포함된 썸머노트 이미지의 연결
+ * 1. 수정 시 이전 내용을 다시 파싱하지 않고 이 테이블의 이미지 목록과 새 내용을 비교
+ * 2. 같은 내용에 같은 이미지가 여러 번 포함되어도 한 행 (Img.refCount 는 이미지별 행 수와 같음)
+ * 3. 저장소 도입 이전 이미지와 없는 이미지도 내용에 있는 그대로 기록하므로 Img 와 외래키로 연결하지 않음
+ */
+@Entity
+@Table(name = "tbl_image_ref",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_ref_owner", columnNames = {"owner_type", "owner_id", "img_name"}),
+        indexes = @Index(name = "idx_image_ref_img_name", columnList = "img_name"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImgRef {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_ref_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 20)
+    private ImgRefOwner ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "img_name", nullable = false, length = 500)
+    private String imgName;
+
+    @Builder
+    public ImgRef(ImgRefOwner ownerType, Long ownerId, String imgName) {
+
+        this.ownerType = ownerType;
+        this.ownerId = ownerId;
+        this.imgName = imgName;
+    }
+}
@@ -0,0 +1,60 @@
+package kr.co.scheduler.global.entity;
+
+import jakarta.persistence.*;
+import kr.co.scheduler.global.enums.OutboxStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox: 비즈니스 트랜잭션과 함께 저장되는 알림 및 웹 푸시 발송 요청
+ * OutboxDispatcher 가 PENDING 상태인 행을 가져가 알림을 저장하고 웹 푸시를 전송한 뒤 DONE 으로 변경
+ * pushToken 이 없으면 알림만 저장
+ * 발송하는 동안에는 IN_PROGRESS 와 가져간 시각(claimedAt)을 기록하고, 웹 푸시 전송에 실패한 행은 FAILED 로 남김
+ */
+@Entity
+@Table(name = "tbl_outbox", indexes = @Index(name = "idx_outbox_status", columnList = "status, outbox_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Outbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "alert_content", nullable = false)
+    private String alertContent;
+
+    @Column(name = "push_title")
+    private String pushTitle;
+
+    @Column(name = "push_token")
+    private String pushToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Builder
+    public Outbox(Long userId, String alertContent, String pushTitle, String pushToken) {
+
+        this.userId = userId;
+        this.alertContent = alertContent;
+        this.pushTitle = pushTitle;
+        this.pushToken = pushToken;
+        this.status = OutboxStatus.PENDING;
+    }
+}
@@ -0,0 +1,70 @@
+package kr.co.scheduler.global.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * SchedulerLock: 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 잠금
+ * 1. lockedUntil 이 지나면 다른 인스턴스가 잠금을 가져갈 수 있음 (임대 만료)
+ * 2. 잠금을 가져갈 때마다 fencingToken 이 1 증가하여, 이전 소유자의 작업을 구분할 수 있음
+ * 3. 다른 인스턴스가 이미 생성한 행을 덮어쓰지 않도록 save 시 항상 INSERT 하도록 Persistable 구현
+ */
+@Entity
+@Table(name = "tbl_scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock implements Persistable<String> {
+
+    @Id
+    @Column(name = "lock_name", length = 100)
+    private String name;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private Long fencingToken;
+
+    @Transient
+    private boolean isNew = true;
+
+    public SchedulerLock(String name, LocalDateTime lockedUntil) {
+
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+        this.fencingToken = 0L;
+    }
+
+    @Override
+    public String getId() {
+
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+
+        return isNew;
+    }
+
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.scheduler.global.enums;
+
+/**
+ * ImgRefOwner: 썸머노트 이미지를 포함하는 내용의 종류
+ */
+public enum ImgRefOwner {
+
+    POST,
+    PROJECT,
+    TASK_LOG
+}
@@ -0,0 +1,50 @@
+package kr.co.scheduler.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * ImgVariant: 업로드한 이미지로 미리 만들어 두는 크기별 이미지
+ * 큰 크기부터 선언하여, 작은 이미지를 바로 위 크기의 이미지에서 줄여 만들도록 함
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImgVariant {
+
+    CONTENT(1024),
+    AVATAR(64);
+
+    // 긴 변의 최대 픽셀 수
+    private final int maxSize;
+
+    /**
+     * of: 요청 파라미터(size)로 크기 선택 (없으면 defaultVariant, original 이면 원본인 null)
+     */
+    public static ImgVariant of(String size, ImgVariant defaultVariant) {
+
+        if (size == null || size.isBlank()) {
+
+            return defaultVariant;
+        }
+
+        if ("original".equalsIgnoreCase(size)) {
+
+            return null;
+        }
+
+        try {
+
+            return valueOf(size.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+
+            throw new IllegalArgumentException("지원하지 않는 이미지 크기입니다. size=" + size);
+        }
+    }
+
+    public String getDirectory() {
+
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
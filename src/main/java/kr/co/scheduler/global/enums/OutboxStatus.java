@@ -0,0 +1,6 @@
+package kr.co.scheduler.global.enums;
+
+public enum OutboxStatus {
+
+    PENDING, IN_PROGRESS, DONE, FAILED
+}
@@ -0,0 +1,21 @@
+package kr.co.scheduler.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VerificationResult {
+
+    SENT(true, "해당 이메일로 인증번호가 발송되었습니다."),
+    EMAIL_LIMITED(false, "같은 이메일로 인증번호를 너무 자주 요청했습니다. 잠시 후 다시 시도해주세요."),
+    IP_LIMITED(false, "인증번호 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    BUSY(false, "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    VERIFIED(true, "인증번호 확인 완료"),
+    MISMATCH(false, "인증번호가 일치하지 않습니다."),
+    EXPIRED(false, "인증번호가 만료되었습니다. 인증번호를 다시 요청해주세요."),
+    TOO_MANY_ATTEMPTS(false, "인증번호를 여러 번 잘못 입력했습니다. 인증번호를 다시 요청해주세요.");
+
+    private final boolean success;
+    private final String message;
+}
@@ -0,0 +1,107 @@
+package kr.co.scheduler.global.repository;
+
+import kr.co.scheduler.global.dtos.AlertReqDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AlertJdbcRepository: 알림(tbl_alert)과 수신자(tbl_alert_user)를 JDBC 배치로 일괄 저장
+ * Alert, AlertUser 는 IDENTITY 전략이라 Hibernate 가 INSERT 를 배치로 묶지 못하므로, 대량 저장은 JDBC 로 직접 처리
+ * 1. tbl_alert 를 BATCH_SIZE 개씩 배치 INSERT 하고 생성된 alert_id 를 getGeneratedKeys 로 한 번에 조회
+ * 2. 조회한 alert_id 로 tbl_alert_user 를 배치 INSERT
+ * JdbcTemplate 은 현재 트랜잭션의 커넥션을 사용하므로 호출한 쪽의 트랜잭션과 함께 커밋 및 롤백됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlertJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ALERT =
+            "INSERT INTO tbl_alert (alert_content, created_at, updated_at) VALUES (?, ?, ?)";
+
+    private static final String INSERT_ALERT_USER =
+            "INSERT INTO tbl_alert_user (alert_id, user_id, is_read, created_at, updated_at) VALUES (?, ?, FALSE, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * insertAll: 알림 일괄 저장 후 저장한 알림 수 리턴
+     */
+    public int insertAll(List<AlertReqDTO.CREATE> alerts) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < alerts.size(); from += BATCH_SIZE) {
+
+            List<AlertReqDTO.CREATE> batch = alerts.subList(from, Math.min(from + BATCH_SIZE, alerts.size()));
+            List<Long> alertIds = insertAlerts(batch, now);
+
+            jdbcTemplate.batchUpdate(INSERT_ALERT_USER, new BatchPreparedStatementSetter() {
+
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+
+                    ps.setLong(1, alertIds.get(i));
+                    ps.setLong(2, batch.get(i).getUserId());
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+
+                    return batch.size();
+                }
+            });
+        }
+
+        return alerts.size();
+    }
+
+    // ================================== 구분 ================================== //
+
+    private List<Long> insertAlerts(List<AlertReqDTO.CREATE> batch, Timestamp now) {
+
+        return jdbcTemplate.execute(connection -> connection.prepareStatement(INSERT_ALERT, Statement.RETURN_GENERATED_KEYS), (PreparedStatement ps) -> {
+
+            for (AlertReqDTO.CREATE alert : batch) {
+
+                ps.setString(1, alert.getContent());
+                ps.setTimestamp(2, now);
+                ps.setTimestamp(3, now);
+                ps.addBatch();
+            }
+
+            ps.executeBatch();
+
+            List<Long> alertIds = new ArrayList<>(batch.size());
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+
+                while (keys.next()) {
+
+                    alertIds.add(keys.getLong(1));
+                }
+            }
+
+            if (alertIds.size() != batch.size()) {
+
+                throw new IllegalStateException("생성된 알림 id 수(" + alertIds.size() + ")가 저장한 알림 수(" + batch.size() + ")와 다릅니다.");
+            }
+
+            return alertIds;
+        });
+    }
+}
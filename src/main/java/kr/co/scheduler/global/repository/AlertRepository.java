@@ -0,0 +1,33 @@
+package kr.co.scheduler.global.repository;
+
+import kr.co.scheduler.global.entity.Alert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface AlertRepository extends JpaRepository<Alert, Long> {
+
+    /**
+     * deleteOrphansByIdIn: ids 중 더 이상 수신자(AlertUser)가 없는 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Alert a WHERE a.id IN :ids AND NOT EXISTS (SELECT au.id FROM AlertUser au WHERE au.alert = a)")
+    int deleteOrphansByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(a.id) FROM Alert a")
+    Long findMinId();
+
+    @Query("SELECT MAX(a.id) FROM Alert a WHERE a.createdAt < :before")
+    Long findMaxIdByCreatedAtBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * deleteOrphans: alert_id 가 [fromId, toId] 범위인 알림 중 더 이상 수신자(AlertUser)가 없는 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Alert a WHERE a.id BETWEEN :fromId AND :toId AND NOT EXISTS (SELECT au.id FROM AlertUser au WHERE au.alert = a)")
+    int deleteOrphans(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -5,7 +5,12 @@ import kr.co.scheduler.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AlertUserRepository extends JpaRepository<AlertUser, Long> {
@@ -13,4 +18,33 @@ public interface AlertUserRepository extends JpaRepository<AlertUser, Long> {
     Page<AlertUser> findPageByUser(Pageable pageable, User user);
 
     List<AlertUser> findListByUser(User user);
+
+    long countByUserIdAndReadFalse(Long userId);
+
+    @Modifying
+    @Query("UPDATE AlertUser au SET au.read = true WHERE au.user.id = :userId AND au.read = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM AlertUser au WHERE au.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT MIN(au.id) FROM AlertUser au")
+    Long findMinId();
+
+    @Query("SELECT MAX(au.id) FROM AlertUser au WHERE au.createdAt < :before")
+    Long findMaxIdByCreatedAtBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * deleteCreatedBefore: alert_user_id 가 [fromId, toId] 범위인 행 중 before 이전에 저장된 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM AlertUser au WHERE au.createdAt < :before AND au.id BETWEEN :fromId AND :toId")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT au.id FROM AlertUser au WHERE au.user.id IN :userIds")
+    List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT DISTINCT au.alert.id FROM AlertUser au WHERE au.user.id IN :userIds")
+    List<Long> findAlertIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,33 @@
+package kr.co.scheduler.global.repository;
+
+import kr.co.scheduler.global.entity.ImgRef;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImgRefRepository extends JpaRepository<ImgRef, Long> {
+
+    @Query("SELECT r.imgName FROM ImgRef r WHERE r.ownerType = :ownerType AND r.ownerId = :ownerId")
+    List<String> findImgNamesByOwner(@Param("ownerType") ImgRefOwner ownerType, @Param("ownerId") Long ownerId);
+
+    @Query("SELECT r FROM ImgRef r WHERE r.ownerType = :ownerType AND r.ownerId IN :ownerIds")
+    List<ImgRef> findByOwnerIn(@Param("ownerType") ImgRefOwner ownerType, @Param("ownerIds") Collection<Long> ownerIds);
+
+    @Query("SELECT DISTINCT r.imgName FROM ImgRef r WHERE r.imgName IN :imgNames")
+    List<String> findReferencedImgNames(@Param("imgNames") Collection<String> imgNames);
+
+    @Modifying
+    @Query("DELETE FROM ImgRef r WHERE r.ownerType = :ownerType AND r.ownerId = :ownerId AND r.imgName IN :imgNames")
+    int deleteByOwnerAndImgNameIn(@Param("ownerType") ImgRefOwner ownerType,
+                                  @Param("ownerId") Long ownerId,
+                                  @Param("imgNames") Collection<String> imgNames);
+
+    @Modifying
+    @Query("DELETE FROM ImgRef r WHERE r.ownerType = :ownerType AND r.ownerId IN :ownerIds")
+    int deleteByOwnerIn(@Param("ownerType") ImgRefOwner ownerType, @Param("ownerIds") Collection<Long> ownerIds);
+}
@@ -1,9 +1,66 @@
 package kr.co.scheduler.global.repository;
 
+import jakarta.persistence.LockModeType;
 import kr.co.scheduler.global.entity.Img;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ImgRepository extends JpaRepository<Img, Long> {
 
     Img findByImgName(String uploadFileName);
+
+    List<Img> findByImgNameIn(Collection<String> imgNames);
+
+    Img findByHash(String hash);
+
+    /**
+     * addRefCount: 해시 저장소 이미지의 참조 수를 delta 만큼 변경 (영속성 컨텍스트를 거치지 않고 DB 에서 바로 계산)
+     */
+    @Modifying
+    @Query("UPDATE Img i SET i.refCount = i.refCount + :delta WHERE i.imgName IN :imgNames AND i.hash IS NOT NULL")
+    int addRefCount(@Param("imgNames") Collection<String> imgNames, @Param("delta") int delta);
+
+    /**
+     * findUnreferencedForUpdate: 참조 수가 0 이하가 된 해시 저장소 이미지를 잠그면서 조회
+     * 삭제하기 전에 다른 트랜잭션이 참조 수를 올리지 못하도록 함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Img i WHERE i.imgName IN :imgNames AND i.hash IS NOT NULL AND i.refCount <= 0")
+    List<Img> findUnreferencedForUpdate(@Param("imgNames") Collection<String> imgNames);
+
+    @Query("SELECT i FROM Img i WHERE i.imgName IN :imgNames AND i.hash IS NULL")
+    List<Img> findLegacyByImgNameIn(@Param("imgNames") Collection<String> imgNames);
+
+    /**
+     * touchLastUploadedAt: 같은 이미지를 다시 업로드한 경우 마지막 업로드 시각만 갱신 (참조 수는 건드리지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Img i SET i.lastUploadedAt = :now WHERE i.id = :id")
+    int touchLastUploadedAt(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * updateVariants: 크기별 이미지를 만든 뒤 만든 목록 저장
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Img i SET i.variants = :variants WHERE i.id = :id")
+    int updateVariants(@Param("id") Long id, @Param("variants") String variants);
+
+    /**
+     * findOrphansForUpdate: 마지막 업로드가 before 이전이고 참조 수가 0 이하이고 연결된 내용도 없는 해시 저장소 이미지를 id 순으로 잠그면서 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Img i WHERE i.hash IS NOT NULL AND i.refCount <= 0 AND COALESCE(i.lastUploadedAt, i.createdAt) < :before AND i.id > :afterId"
+            + " AND NOT EXISTS (SELECT r FROM ImgRef r WHERE r.imgName = i.imgName) ORDER BY i.id ASC")
+    List<Img> findOrphansForUpdate(@Param("before") LocalDateTime before, @Param("afterId") Long afterId, Pageable pageable);
 }
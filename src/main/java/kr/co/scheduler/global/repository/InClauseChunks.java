@@ -0,0 +1,56 @@
+package kr.co.scheduler.global.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * InClauseChunks: IN 절에 넘기는 목록을 SIZE 개씩 나누어 쿼리 실행
+ * 목록이 길어도 바인드 변수 수와 한 번에 잠그는 행 수가 SIZE 를 넘지 않도록 함
+ */
+public final class InClauseChunks {
+
+    public static final int SIZE = 500;
+
+    private InClauseChunks() {
+    }
+
+    /**
+     * forEach: 나눈 목록마다 action 실행
+     */
+    public static <T> void forEach(List<T> items, Consumer<List<T>> action) {
+
+        for (int from = 0; from < items.size(); from += SIZE) {
+
+            action.accept(items.subList(from, Math.min(from + SIZE, items.size())));
+        }
+    }
+
+    /**
+     * select: 나눈 목록마다 조회하고 결과를 합쳐 리턴
+     */
+    public static <K, T> List<T> select(List<K> keys, Function<List<K>, List<T>> query) {
+
+        List<T> results = new ArrayList<>();
+        forEach(keys, chunk -> results.addAll(query.apply(chunk)));
+
+        return results;
+    }
+
+    /**
+     * update: 나눈 목록마다 UPDATE, DELETE 를 실행하고 변경한 행 수의 합 리턴
+     */
+    public static <T> int update(List<T> items, ToIntFunction<List<T>> update) {
+
+        int affected = 0;
+
+        for (int from = 0; from < items.size(); from += SIZE) {
+
+            affected += update.applyAsInt(items.subList(from, Math.min(from + SIZE, items.size())));
+        }
+
+        return affected;
+    }
+}
@@ -0,0 +1,70 @@
+package kr.co.scheduler.global.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import kr.co.scheduler.global.entity.Outbox;
+import kr.co.scheduler.global.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository extends JpaRepository<Outbox, Long> {
+
+    /**
+     * findClaimableForUpdate: 처리 대기 중인 행과 staleBefore 이전에 가져간 뒤 끝나지 않은 행을 outbox_id 순으로 잠그면서 조회
+     * lock.timeout = -2 (SKIP_LOCKED) 로 SELECT ... FOR UPDATE SKIP LOCKED 를 생성하여, 다른 인스턴스가 잠근 행은 건너뜀
+     * (SKIP LOCKED 를 지원하지 않는 DB 에서는 FOR UPDATE 로 동작)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM Outbox o WHERE o.status = :pending OR (o.status = :inProgress AND o.claimedAt < :staleBefore) ORDER BY o.id ASC")
+    List<Outbox> findClaimableForUpdate(@Param("pending") OutboxStatus pending,
+                                        @Param("inProgress") OutboxStatus inProgress,
+                                        @Param("staleBefore") LocalDateTime staleBefore,
+                                        Pageable pageable);
+
+    /**
+     * findClaimedForUpdate: claimedAt 에 가져간 행 중 아직 다른 인스턴스가 다시 가져가지 않은 행을 잠그면서 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Outbox o WHERE o.id IN :ids AND o.status = :inProgress AND o.claimedAt = :claimedAt ORDER BY o.id ASC")
+    List<Outbox> findClaimedForUpdate(@Param("ids") Collection<Long> ids,
+                                      @Param("inProgress") OutboxStatus inProgress,
+                                      @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Modifying
+    @Query("UPDATE Outbox o SET o.status = :status, o.claimedAt = :claimedAt WHERE o.id IN :ids")
+    int claimByIdIn(@Param("ids") Collection<Long> ids,
+                    @Param("status") OutboxStatus status,
+                    @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Modifying
+    @Query("UPDATE Outbox o SET o.status = :status, o.processedAt = :processedAt WHERE o.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") OutboxStatus status,
+                           @Param("processedAt") LocalDateTime processedAt);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(o.id) FROM Outbox o")
+    Long findMinId();
+
+    @Query("SELECT MAX(o.id) FROM Outbox o WHERE o.status = :status AND o.processedAt < :before")
+    Long findMaxIdByStatusAndProcessedAtBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+
+    /**
+     * deleteProcessedBefore: outbox_id 가 [fromId, toId] 범위인 행 중 before 이전에 처리 완료된 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Outbox o WHERE o.status = :status AND o.processedAt < :before AND o.id BETWEEN :fromId AND :toId")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before,
+                              @Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,44 @@
+package kr.co.scheduler.global.repository;
+
+import kr.co.scheduler.global.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * acquire: 임대가 만료된 잠금만 가져오고 fencingToken 증가
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :owner, l.lockedUntil = :until, l.fencingToken = l.fencingToken + 1 " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * renew: 아직 잠금을 소유하고 있는 경우에만 임대 연장
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until " +
+            "WHERE l.name = :name AND l.fencingToken = :fencingToken AND l.lockedUntil > :now")
+    int renew(@Param("name") String name, @Param("fencingToken") Long fencingToken,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * release: 아직 잠금을 소유하고 있는 경우에만 임대 만료 시각을 until 까지 앞당김 (이미 until 이전이면 그대로 둠)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until " +
+            "WHERE l.name = :name AND l.fencingToken = :fencingToken AND l.lockedUntil > :until")
+    int release(@Param("name") String name, @Param("fencingToken") Long fencingToken, @Param("until") LocalDateTime until);
+
+    @Query("SELECT COUNT(l) FROM SchedulerLock l WHERE l.name = :name AND l.fencingToken = :fencingToken AND l.lockedUntil > :now")
+    long countHeld(@Param("name") String name, @Param("fencingToken") Long fencingToken, @Param("now") LocalDateTime now);
+
+    @Query("SELECT l.fencingToken FROM SchedulerLock l WHERE l.name = :name AND l.lockedBy = :owner")
+    Long findFencingToken(@Param("name") String name, @Param("owner") String owner);
+}
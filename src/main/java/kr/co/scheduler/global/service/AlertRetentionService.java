@@ -0,0 +1,105 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.global.config.alert.AlertCountCache;
+import kr.co.scheduler.global.config.alert.AlertRetentionProperties;
+import kr.co.scheduler.global.enums.OutboxStatus;
+import kr.co.scheduler.global.repository.AlertRepository;
+import kr.co.scheduler.global.repository.AlertUserRepository;
+import kr.co.scheduler.global.repository.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AlertRetentionService: 보관 기간이 지난 알림 정리
+ * 1. 보관 기간이 지난 수신자(tbl_alert_user) 삭제
+ * 2. 수신자가 없어진 알림(tbl_alert) 삭제 (알림 모두 제거, 보관 기간 만료 등으로 생김)
+ * 3. 보관 기간이 지난 처리 완료(DONE, FAILED) outbox 행 삭제
+ * id 범위마다 DELETE 문 하나를 별도 트랜잭션으로 실행하여, 화면에서 조회하는 테이블을 오래 잠그지 않도록 함
+ * 여러 인스턴스 중 잠금을 획득한 한 곳에서만 실행하고, 범위마다 잠금이 유효한지 확인
+ */
+@Slf4j
+@Service
+public class AlertRetentionService {
+
+    // 수신자를 저장하기 전인 알림을 지우지 않도록, 최근에 저장된 알림은 정리 대상에서 제외
+    private static final long ORPHAN_GRACE_HOURS = 1;
+
+    private final AlertRepository alertRepository;
+    private final AlertUserRepository alertUserRepository;
+    private final OutboxRepository outboxRepository;
+    private final AlertCountCache alertCountCache;
+    private final AlertRetentionProperties alertRetentionProperties;
+    private final SchedulerLockService schedulerLockService;
+    private final IdRangeTransactions idRangeTransactions;
+
+    public AlertRetentionService(AlertRepository alertRepository,
+                                 AlertUserRepository alertUserRepository,
+                                 OutboxRepository outboxRepository,
+                                 AlertCountCache alertCountCache,
+                                 AlertRetentionProperties alertRetentionProperties,
+                                 SchedulerLockService schedulerLockService,
+                                 IdRangeTransactions idRangeTransactions) {
+
+        this.alertRepository = alertRepository;
+        this.alertUserRepository = alertUserRepository;
+        this.outboxRepository = outboxRepository;
+        this.alertCountCache = alertCountCache;
+        this.alertRetentionProperties = alertRetentionProperties;
+        this.schedulerLockService = schedulerLockService;
+        this.idRangeTransactions = idRangeTransactions;
+    }
+
+    /**
+     * compactAlerts: 매일 새벽 3시에 보관 기간이 지난 알림 정리
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void compactAlerts() throws Exception {
+
+        schedulerLockService.runExclusively("compactAlerts", lease -> compactAlerts(LocalDateTime.now(), lease));
+    }
+
+    /**
+     * compactAlerts: now 기준으로 보관 기간이 지난 알림을 정리하고, 삭제한 행 수 리턴
+     */
+    public int compactAlerts(LocalDateTime now) {
+
+        return compactAlerts(now, null);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private int compactAlerts(LocalDateTime now, SchedulerLockService.Lease lease) {
+
+        LocalDateTime before = now.minusDays(alertRetentionProperties.getRetentionDays());
+        int chunkSize = alertRetentionProperties.getChunkSize();
+
+        int alertUsers = idRangeTransactions.execute(alertUserRepository.findMinId(), alertUserRepository.findMaxIdByCreatedAtBefore(before), chunkSize, lease,
+                (fromId, toId) -> alertUserRepository.deleteCreatedBefore(before, fromId, toId));
+
+        int alerts = idRangeTransactions.execute(alertRepository.findMinId(), alertRepository.findMaxIdByCreatedAtBefore(now.minusHours(ORPHAN_GRACE_HOURS)),
+                chunkSize, lease, alertRepository::deleteOrphans);
+
+        int outboxes = 0;
+
+        for (OutboxStatus processed : List.of(OutboxStatus.DONE, OutboxStatus.FAILED)) {
+
+            outboxes += idRangeTransactions.execute(outboxRepository.findMinId(), outboxRepository.findMaxIdByStatusAndProcessedAtBefore(processed, before), chunkSize, lease,
+                    (fromId, toId) -> outboxRepository.deleteProcessedBefore(processed, before, fromId, toId));
+        }
+
+        if (alertUsers > 0) {
+
+            // 지워진 알림 중 읽지 않은 알림이 있을 수 있으므로 다음 조회 때 다시 셈
+            // 캐시는 노드마다 따로 보관하므로 이 노드만 바로 비우고, 다른 노드는 alert.count.ttl-millis 안에 다시 셈
+            alertCountCache.clear();
+        }
+
+        log.info("보관 기간이 지난 알림 정리: 수신자 {}건, 알림 {}건, outbox {}건", alertUsers, alerts, outboxes);
+
+        return alertUsers + alerts + outboxes;
+    }
+}
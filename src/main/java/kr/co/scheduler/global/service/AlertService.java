@@ -1,19 +1,35 @@
 package kr.co.scheduler.global.service;
 
+import kr.co.scheduler.global.config.alert.AlertCountCache;
+import kr.co.scheduler.global.config.sse.AlertEmitterRegistry;
+import kr.co.scheduler.global.config.transaction.AfterCommit;
+import kr.co.scheduler.global.dtos.AlertReqDTO;
 import kr.co.scheduler.global.entity.Alert;
 import kr.co.scheduler.global.entity.AlertUser;
+import kr.co.scheduler.global.repository.AlertJdbcRepository;
 import kr.co.scheduler.global.repository.AlertUserRepository;
 import kr.co.scheduler.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class AlertService {
 
     private final AlertUserRepository alertUserRepository;
+    private final AlertJdbcRepository alertJdbcRepository;
+    private final AlertEmitterRegistry alertEmitterRegistry;
+    private final AlertCountCache alertCountCache;
 
+    /**
+     * createAlert: 알림 저장 후, 트랜잭션이 커밋되면 읽지 않은 알림 수를 늘리고 연결 중인 브라우저에 실시간으로 전송
+     */
     @Transactional
     public void createAlert(String content, User user) {
 
@@ -29,5 +45,100 @@ public class AlertService {
                 .build();
 
         alertUserRepository.save(alertUser);
+
+        List<AlertReqDTO.CREATE> created = List.of(new AlertReqDTO.CREATE(content, user.getId()));
+
+        AfterCommit.run(() -> publish(created));
+    }
+
+    /**
+     * createAlerts: 여러 회원에게 보낼 알림을 JDBC 배치 INSERT 로 일괄 저장
+     * 알림 하나마다 INSERT 2번을 실행하는 createAlert 대신, 알림 500개당 배치 INSERT 2번으로 처리
+     */
+    @Transactional
+    public int createAlerts(Collection<AlertReqDTO.CREATE> alerts) {
+
+        if (alerts.isEmpty()) {
+
+            return 0;
+        }
+
+        List<AlertReqDTO.CREATE> created = List.copyOf(alerts);
+        int inserted = alertJdbcRepository.insertAll(created);
+
+        AfterCommit.run(() -> publish(created));
+
+        return inserted;
+    }
+
+    /**
+     * countUnreadAlert: 읽지 않은 알림 수 리턴
+     * 캐시에 있으면 DB 를 조회하지 않고, 없거나 만료되었으면 DB 에서 세어 캐시에 저장
+     */
+    @Transactional(readOnly = true)
+    public long countUnreadAlert(Long userId) {
+
+        return alertCountCache.get(userId, () -> alertUserRepository.countByUserIdAndReadFalse(userId));
+    }
+
+    /**
+     * readAllAlert: 회원의 알림을 모두 읽음으로 변경
+     */
+    @Transactional
+    public void readAllAlert(Long userId) {
+
+        alertUserRepository.markAllAsReadByUserId(userId);
+
+        // 변경하는 동안 새로 저장된 알림이 있을 수 있으므로 0 으로 두지 않고 다음 조회 때 다시 셈
+        AfterCommit.run(() -> alertCountCache.evict(userId));
+    }
+
+    /**
+     * deleteAlert: 알림 제거 후, 읽지 않은 알림이었다면 읽지 않은 알림 수 감소
+     */
+    @Transactional
+    public void deleteAlert(Long alertUserId) {
+
+        AlertUser alertUser = alertUserRepository.findById(alertUserId)
+                .orElseThrow(()->{
+                    return new IllegalArgumentException("해당 알림을 찾을 수 없습니다.");
+        });
+
+        alertUserRepository.delete(alertUser);
+
+        if (!alertUser.isRead()) {
+
+            Long userId = alertUser.getUser().getId();
+
+            AfterCommit.run(() -> alertCountCache.add(userId, -1));
+        }
+    }
+
+    /**
+     * deleteAllAlert: 회원의 알림 모두 제거 후, 읽지 않은 알림 수를 다음 조회 때 다시 셈
+     * 알림을 하나씩 조회하여 삭제하지 않고 DELETE 문 하나로 처리
+     * 수신자가 없어진 알림(tbl_alert)은 AlertRetentionService 가 정리
+     */
+    @Transactional
+    public void deleteAllAlert(Long userId) {
+
+        alertUserRepository.deleteAllByUserId(userId);
+
+        AfterCommit.run(() -> alertCountCache.evict(userId));
+    }
+
+    // ================================== 구분 ================================== //
+
+    private void publish(List<AlertReqDTO.CREATE> alerts) {
+
+        Map<Long, Long> countsByUser = alerts.stream()
+                .collect(Collectors.groupingBy(AlertReqDTO.CREATE::getUserId, Collectors.counting()));
+
+        countsByUser.forEach(alertCountCache::add);
+
+        for (AlertReqDTO.CREATE alert : alerts) {
+
+            alertEmitterRegistry.publish(alert.getUserId(), alert.getContent());
+        }
     }
 }
@@ -0,0 +1,88 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.global.config.mail.CertificationMail;
+import kr.co.scheduler.global.config.verification.VerificationCodeStore;
+import kr.co.scheduler.global.config.verification.VerificationProperties;
+import kr.co.scheduler.global.config.verification.VerificationRateLimiter;
+import kr.co.scheduler.global.enums.VerificationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+
+/**
+ * EmailVerificationService: 회원가입 이메일 인증
+ * 인증코드는 서버에만 보관하고, 클라이언트는 입력한 인증코드를 verifyCode 로 확인받음
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailVerificationService {
+
+    private final VerificationCodeStore verificationCodeStore;
+    private final VerificationRateLimiter verificationRateLimiter;
+    private final VerificationProperties verificationProperties;
+    private final CertificationMail certificationMail;
+
+    /**
+     * sendCode: 인증코드 발송
+     * 1. IP, 이메일마다 요청 횟수 확인
+     * 2. 인증코드 발급
+     * 3. 인증코드 메일을 발송 대기열에 등록 (대기열이 가득 찬 경우 발급한 인증코드 폐기)
+     */
+    public VerificationResult sendCode(String email, String ip) throws Exception {
+
+        String key = normalize(email);
+
+        if (!verificationRateLimiter.tryAcquire("ip:" + ip, verificationProperties.getIpLimit())) {
+
+            return VerificationResult.IP_LIMITED;
+        }
+
+        if (!verificationRateLimiter.tryAcquire("email:" + key, verificationProperties.getEmailLimit())) {
+
+            return VerificationResult.EMAIL_LIMITED;
+        }
+
+        String code = verificationCodeStore.issue(key);
+
+        if (!certificationMail.sendMessage(email, code)) {
+
+            verificationCodeStore.remove(key);
+
+            return VerificationResult.BUSY;
+        }
+
+        return VerificationResult.SENT;
+    }
+
+    /**
+     * verifyCode: 입력한 인증코드 확인
+     */
+    public VerificationResult verifyCode(String email, String code) {
+
+        return verificationCodeStore.verify(normalize(email), code);
+    }
+
+    /**
+     * isVerified: 회원가입 전 이메일 인증을 완료했는지 확인
+     */
+    public boolean isVerified(String email) {
+
+        return verificationCodeStore.isVerified(normalize(email));
+    }
+
+    /**
+     * complete: 회원가입을 마친 이메일의 인증 정보 제거
+     */
+    public void complete(String email) {
+
+        verificationCodeStore.remove(normalize(email));
+    }
+
+    // ================================== 구분 ================================== //
+
+    private String normalize(String email) {
+
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,30 +1,76 @@
 package kr.co.scheduler.global.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.scheduler.global.config.fcm.PushDispatcher;
+import kr.co.scheduler.global.config.fcm.PushMessage;
+import kr.co.scheduler.global.config.fcm.PushResult;
+import kr.co.scheduler.global.repository.InClauseChunks;
+import kr.co.scheduler.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class FCMService {
 
-    public void sendFCMMessage(String targetToken, String title, String body) {
-        Message message = Message.builder()
-                .setToken(targetToken)
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                .build();
+    private final PushDispatcher pushDispatcher;
+    private final UserRepository userRepository;
+    private final Counter prunedCounter;
+
+    public FCMService(PushDispatcher pushDispatcher, UserRepository userRepository, MeterRegistry meterRegistry) {
+
+        this.pushDispatcher = pushDispatcher;
+        this.userRepository = userRepository;
+        this.prunedCounter = Counter.builder("fcm.push.tokens.pruned")
+                .description("영구적으로 실패하여 삭제한 FCM 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * sendFCMMessages: 웹 푸시를 최대 500개씩 묶어 비동기로 전송하고, 토큰별 전송 결과 리턴
+     */
+    public CompletableFuture<List<PushResult>> sendFCMMessages(List<PushMessage> messages) {
+
+        if (messages.isEmpty()) {
+
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return pushDispatcher.dispatch(messages);
+    }
+
+    public CompletableFuture<List<PushResult>> sendFCMMessage(String targetToken, String title, String body) {
+
+        return sendFCMMessages(List.of(new PushMessage(targetToken, title, body)));
+    }
+
+    /**
+     * pruneDeadTokens: 등록 해제되었거나 잘못된 토큰을 회원 정보에서 일괄 삭제하고, 삭제한 회원 수 리턴
+     * 호출한 쪽의 트랜잭션에 참여하므로, 알림을 저장한 트랜잭션 안에서 호출해도 회원 행 잠금을 기다리지 않음
+     */
+    @Transactional
+    public int pruneDeadTokens(Collection<PushResult> results) {
 
-        try {
+        List<String> deadTokens = results.stream()
+                .filter(PushResult::isPermanentFailure)
+                .map(PushResult::getTargetToken)
+                .distinct()
+                .toList();
 
-            String response = FirebaseMessaging.getInstance().send(message);
-        } catch (Exception e) {
+        int pruned = InClauseChunks.update(deadTokens, userRepository::clearTargetTokens);
 
-            e.getMessage();
+        if (pruned > 0) {
+
+            prunedCounter.increment(pruned);
+            log.info("더 이상 유효하지 않은 FCM 토큰 {}개를 삭제했습니다.", pruned);
         }
+
+        return pruned;
     }
 }
@@ -0,0 +1,60 @@
+package kr.co.scheduler.global.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * IdRangeTransactions: [minId, maxId] 를 chunkSize 크기의 id 범위로 나누어, 범위마다 트랜잭션을 나누어 실행
+ * 1. 범위마다 UPDATE, DELETE 문 하나를 실행하여 한 번에 많은 행이 잠기지 않도록 함
+ * 2. lease 가 있으면 범위마다 같은 트랜잭션 안에서 잠금이 유효한지 확인한 뒤 실행 (잠금을 빼앗기면 해당 범위는 롤백)
+ */
+@Service
+public class IdRangeTransactions {
+
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdRangeTransactions(SchedulerLockService schedulerLockService, PlatformTransactionManager transactionManager) {
+
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * execute: 범위마다 work 를 실행하고, 처리한 행 수의 합 리턴 (minId 나 maxId 가 null 이면 0)
+     */
+    public int execute(Long minId, Long maxId, int chunkSize, SchedulerLockService.Lease lease, RangeWork work) {
+
+        if (minId == null || maxId == null) {
+
+            return 0;
+        }
+
+        int affected = 0;
+
+        for (long start = minId; start <= maxId; start += chunkSize) {
+
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+
+            affected += transactionTemplate.execute(status -> {
+
+                if (lease != null) {
+
+                    schedulerLockService.assertHeld(lease);
+                }
+
+                return work.execute(fromId, toId);
+            });
+        }
+
+        return affected;
+    }
+
+    @FunctionalInterface
+    public interface RangeWork {
+
+        int execute(Long fromId, Long toId);
+    }
+}
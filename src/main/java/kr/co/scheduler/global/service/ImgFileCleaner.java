@@ -0,0 +1,100 @@
+package kr.co.scheduler.global.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.storage.StorageBackend;
+import kr.co.scheduler.global.config.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImgFileCleaner: 이미지 파일 삭제를 별도 스레드에서 처리
+ * 1. 트랜잭션 안에서 호출된 경우 커밋 이후에 삭제 (롤백 시 파일 유지)
+ * 2. 트랜잭션 밖에서 호출된 경우 즉시 삭제 작업을 등록
+ * 3. 원본과 함께 크기별 이미지도 삭제
+ * 4. 저장소 키는 StorageBackend 에서 한 번에 비동기로 삭제하고, 저장소 도입 이전의 로컬 절대 경로는 직접 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImgFileCleaner {
+
+    private final StorageBackend storageBackend;
+    private final ImgVariants imgVariants;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("img-file-cleaner-"));
+
+    /**
+     * deleteAfterCommit: 이미지 경로 목록을 삭제 대기열에 등록
+     */
+    public void deleteAfterCommit(Collection<String> imgPaths) {
+
+        if (imgPaths.isEmpty()) {
+
+            return;
+        }
+
+        List<String> paths = List.copyOf(imgPaths);
+
+        AfterCommit.run(() -> executor.execute(() -> delete(paths)));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private void delete(List<String> imgPaths) {
+
+        List<String> keys = new ArrayList<>();
+
+        for (String imgPath : imgPaths) {
+
+            if (StorageBackend.isKey(imgPath)) {
+
+                keys.add(imgPath);
+                keys.addAll(imgVariants.keys(StringUtils.getFilename(imgPath)));
+
+                continue;
+            }
+
+            try {
+
+                Path path = Path.of(URLDecoder.decode(imgPath, StandardCharsets.UTF_8));
+
+                Files.deleteIfExists(path);
+                keys.addAll(imgVariants.keys(path.getFileName().toString()));
+            } catch (IOException | InvalidPathException e) {
+
+                log.warn("이미지 파일을 삭제하지 못했습니다. path={}", imgPath, e);
+            }
+        }
+
+        storageBackend.deleteAllAsync(keys).whenComplete((result, e) -> {
+
+            if (e != null) {
+
+                log.warn("저장소의 이미지 파일을 삭제하지 못했습니다. keys={}", keys, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,264 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.global.config.img.ImgGcProperties;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.entity.Img;
+import kr.co.scheduler.global.repository.ImgRefRepository;
+import kr.co.scheduler.global.repository.ImgRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * ImgGcService: 어떤 내용에도 포함되지 않은 썸머노트 이미지 정리
+ * 1. 저장소 도입 이전의 임시 폴더({legacyTempRoot}/{email})를 폴더별로 동시에 탐색하여, graceHours 보다 오래된 파일과 그 이미지 행 삭제
+ * 2. graceHours 보다 먼저 업로드했지만 참조 수가 0 이하이고 tbl_image_ref 에도 없는 해시 저장소 이미지 삭제 (업로드만 하고 저장하지 않은 이미지)
+ * 3. chunkSize 개씩 트랜잭션을 나누어 행을 삭제하고, 파일은 커밋 이후 ImgFileCleaner 에서 삭제
+ * 게시글, 프로젝트, 업무일지 저장 시 임시 폴더를 비우던 작업을 대신하므로, 저장 요청은 이미지 파일을 다루지 않음
+ * 여러 인스턴스 중 잠금을 획득한 한 곳에서만 실행하고, chunk 마다 잠금이 유효한지 확인
+ */
+@Slf4j
+@Service
+public class ImgGcService {
+
+    private final ImgRepository imgRepository;
+    private final ImgRefRepository imgRefRepository;
+    private final ImgFileCleaner imgFileCleaner;
+    private final ImgStoreProperties imgStoreProperties;
+    private final ImgGcProperties imgGcProperties;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImgGcService(ImgRepository imgRepository,
+                        ImgRefRepository imgRefRepository,
+                        ImgFileCleaner imgFileCleaner,
+                        ImgStoreProperties imgStoreProperties,
+                        ImgGcProperties imgGcProperties,
+                        SchedulerLockService schedulerLockService,
+                        PlatformTransactionManager transactionManager) {
+
+        this.imgRepository = imgRepository;
+        this.imgRefRepository = imgRefRepository;
+        this.imgFileCleaner = imgFileCleaner;
+        this.imgStoreProperties = imgStoreProperties;
+        this.imgGcProperties = imgGcProperties;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * collectOrphanImgs: 매일 새벽 3시 30분에 사용하지 않는 이미지 정리
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void collectOrphanImgs() throws Exception {
+
+        schedulerLockService.runExclusively("collectOrphanImgs", lease -> collectOrphanImgs(LocalDateTime.now(), lease));
+    }
+
+    /**
+     * collectOrphanImgs: now 기준으로 사용하지 않는 이미지를 정리하고, 삭제한 이미지 수 리턴
+     */
+    public int collectOrphanImgs(LocalDateTime now) {
+
+        return collectOrphanImgs(now, null);
+    }
+
+    // ================================== 구분 ================================== //
+
+    private int collectOrphanImgs(LocalDateTime now, SchedulerLockService.Lease lease) {
+
+        LocalDateTime before = now.minusHours(imgGcProperties.getGraceHours());
+
+        int tempFiles = collectTempFiles(before, lease);
+        int storedImgs = collectStoredImgs(before, lease);
+
+        log.info("사용하지 않는 이미지 정리: 임시 폴더 {}건, 해시 저장소 {}건", tempFiles, storedImgs);
+
+        return tempFiles + storedImgs;
+    }
+
+    /**
+     * collectTempFiles: 임시 폴더의 오래된 파일 중 내용에 연결되지 않은 파일과 그 파일을 가리키는 이미지 행 삭제
+     */
+    private int collectTempFiles(LocalDateTime before, SchedulerLockService.Lease lease) {
+
+        Path root = Path.of(imgStoreProperties.getLegacyTempRoot()).toAbsolutePath().normalize();
+
+        if (!Files.isDirectory(root)) {
+
+            return 0;
+        }
+
+        List<Path> files = findFilesModifiedBefore(root, before.atZone(ZoneId.systemDefault()).toInstant());
+        int chunkSize = imgGcProperties.getChunkSize();
+        int deleted = 0;
+
+        for (int from = 0; from < files.size(); from += chunkSize) {
+
+            List<Path> chunk = files.subList(from, Math.min(from + chunkSize, files.size()));
+
+            deleted += inTransaction(lease, () -> {
+
+                List<String> imgNames = chunk.stream().map(file -> file.getFileName().toString()).distinct().toList();
+                Set<String> referenced = new HashSet<>(imgRefRepository.findReferencedImgNames(imgNames));
+
+                Set<String> orphanPaths = new HashSet<>();
+                chunk.stream()
+                        .filter(file -> !referenced.contains(file.getFileName().toString()))
+                        .forEach(file -> orphanPaths.add(file.toString()));
+
+                imgRepository.deleteAllInBatch(imgRepository.findLegacyByImgNameIn(imgNames).stream()
+                        .filter(img -> orphanPaths.contains(normalize(img.getImgPath())))
+                        .toList());
+                imgFileCleaner.deleteAfterCommit(orphanPaths);
+
+                return orphanPaths.size();
+            });
+        }
+
+        return deleted;
+    }
+
+    /**
+     * collectStoredImgs: 업로드 후 어떤 내용에도 포함되지 않은 해시 저장소 이미지를 id 순으로 chunkSize 개씩 삭제
+     * 파일은 커밋 이후에 삭제하며, 그 사이에 같은 이미지를 다시 업로드하면 다른 저장소 키로 등록하므로 새 파일은 지우지 않음
+     */
+    private int collectStoredImgs(LocalDateTime before, SchedulerLockService.Lease lease) {
+
+        int chunkSize = imgGcProperties.getChunkSize();
+        int deleted = 0;
+        long afterId = 0;
+
+        while (true) {
+
+            long fromId = afterId;
+
+            List<Img> orphans = inTransaction(lease, () -> {
+
+                List<Img> imgs = imgRepository.findOrphansForUpdate(before, fromId, PageRequest.of(0, chunkSize));
+
+                imgRepository.deleteAllByIdInBatch(imgs.stream().map(Img::getId).toList());
+                imgFileCleaner.deleteAfterCommit(imgs.stream().map(Img::getImgPath).toList());
+
+                return imgs;
+            });
+
+            deleted += orphans.size();
+
+            if (orphans.size() < chunkSize) {
+
+                return deleted;
+            }
+
+            afterId = orphans.get(orphans.size() - 1).getId();
+        }
+    }
+
+    /**
+     * findFilesModifiedBefore: root 아래 폴더마다 Files.walk 를 walkParallelism 개의 스레드에서 동시에 실행
+     */
+    private List<Path> findFilesModifiedBefore(Path root, Instant before) {
+
+        List<Path> entries;
+
+        try (Stream<Path> paths = Files.list(root)) {
+
+            entries = paths.toList();
+        } catch (IOException e) {
+
+            log.warn("임시 폴더를 조회하지 못했습니다. path={}", root, e);
+
+            return List.of();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(imgGcProperties.getWalkParallelism());
+
+        try {
+
+            return pool.submit(() -> entries.parallelStream()
+                    .flatMap(entry -> walk(entry, before).stream())
+                    .toList()).get();
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+
+            return List.of();
+        } catch (ExecutionException e) {
+
+            log.warn("임시 폴더를 탐색하지 못했습니다. path={}", root, e.getCause());
+
+            return List.of();
+        } finally {
+
+            pool.shutdown();
+        }
+    }
+
+    private List<Path> walk(Path entry, Instant before) {
+
+        try (Stream<Path> paths = Files.walk(entry)) {
+
+            return paths.filter(path -> isFileModifiedBefore(path, before)).toList();
+        } catch (IOException | UncheckedIOException e) {
+
+            log.warn("임시 폴더를 탐색하지 못했습니다. path={}", entry, e);
+
+            return List.of();
+        }
+    }
+
+    private static boolean isFileModifiedBefore(Path path, Instant before) {
+
+        try {
+
+            return Files.isRegularFile(path) && Files.getLastModifiedTime(path).toInstant().isBefore(before);
+        } catch (IOException e) {
+
+            // 탐색 중 사용자가 지운 파일
+            return false;
+        }
+    }
+
+    private static String normalize(String imgPath) {
+
+        try {
+
+            return Path.of(imgPath).toAbsolutePath().normalize().toString();
+        } catch (InvalidPathException e) {
+
+            return imgPath;
+        }
+    }
+
+    private <T> T inTransaction(SchedulerLockService.Lease lease, Supplier<T> work) {
+
+        return transactionTemplate.execute(status -> {
+
+            if (lease != null) {
+
+                schedulerLockService.assertHeld(lease);
+            }
+
+            return work.get();
+        });
+    }
+}
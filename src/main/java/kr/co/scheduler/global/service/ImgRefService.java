@@ -0,0 +1,99 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.global.entity.ImgRef;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.repository.ImgRefRepository;
+import kr.co.scheduler.global.repository.InClauseChunks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ImgRefService: 게시글, 프로젝트, 업무일지 내용과 썸머노트 이미지의 연결(tbl_image_ref) 관리
+ * 1. 등록 시 내용의 이미지를 연결하고, 수정 시 연결된 이미지와 새 내용의 이미지를 비교하여 바뀐 이미지만 처리
+ * 2. 이미지별 참조 수 증감과 참조가 남지 않은 이미지 삭제는 ImgService 에 맡김
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ImgRefService {
+
+    private final ImgService imgService;
+    private final ImgRefRepository imgRefRepository;
+
+    /**
+     * retainImgsInSummernote: 게시글, 프로젝트, 업무일지 등록 시 내용에 포함된 이미지를 연결하고 참조 수 증가
+     */
+    public void retainImgsInSummernote(ImgRefOwner ownerType, Long ownerId, String content) {
+
+        Set<String> imgNames = imgService.extractImgNamesInSummernote(content);
+
+        saveImgRefs(ownerType, ownerId, imgNames);
+        imgService.retainImgs(imgNames);
+    }
+
+    /**
+     * replaceImgsInSummernote: 수정 시 연결된 이미지와 새 내용의 이미지를 비교
+     * 1. 이전 내용은 다시 파싱하지 않고 tbl_image_ref 의 이미지 목록 사용 (연결 기록이 없는 이전 내용만 파싱)
+     * 2. 새로 추가된 이미지는 연결하고 참조 수 증가, 빠진 이미지는 연결을 끊고 참조 수 감소
+     * 3. 두 내용에 모두 있는 이미지는 조회 한 번 외에 DB 와 파일 작업 없음
+     */
+    public void replaceImgsInSummernote(ImgRefOwner ownerType, Long ownerId, String beforeContent, String afterContent) {
+
+        Set<String> linked = new LinkedHashSet<>(imgRefRepository.findImgNamesByOwner(ownerType, ownerId));
+        Set<String> before = linked.isEmpty() ? imgService.extractImgNamesInSummernote(beforeContent) : linked;
+        Set<String> after = imgService.extractImgNamesInSummernote(afterContent);
+
+        Set<String> added = new LinkedHashSet<>(after);
+        added.removeAll(before);
+
+        Set<String> removed = new LinkedHashSet<>(before);
+        removed.removeAll(after);
+
+        Set<String> unlinked = new LinkedHashSet<>(after);
+        unlinked.removeAll(linked);
+
+        Set<String> stale = new LinkedHashSet<>(linked);
+        stale.removeAll(after);
+
+        InClauseChunks.forEach(List.copyOf(stale), imgNames -> imgRefRepository.deleteByOwnerAndImgNameIn(ownerType, ownerId, imgNames));
+        saveImgRefs(ownerType, ownerId, unlinked);
+
+        imgService.retainImgs(added);
+        imgService.releaseImgs(countOnce(removed));
+    }
+
+    /**
+     * releaseImgsInSummernote: 게시글, 프로젝트, 업무일지 삭제 시 이미지 연결을 끊고 참조 수 감소
+     */
+    public void releaseImgsInSummernote(ImgRefOwner ownerType, Long ownerId, String content) {
+
+        Set<String> linked = new LinkedHashSet<>(imgRefRepository.findImgNamesByOwner(ownerType, ownerId));
+
+        imgRefRepository.deleteByOwnerIn(ownerType, List.of(ownerId));
+        imgService.releaseImgs(countOnce(linked.isEmpty() ? imgService.extractImgNamesInSummernote(content) : linked));
+    }
+
+    // ================================== 구분 ================================== //
+
+    private void saveImgRefs(ImgRefOwner ownerType, Long ownerId, Set<String> imgNames) {
+
+        imgRefRepository.saveAll(imgNames.stream()
+                .map(imgName -> ImgRef.builder().ownerType(ownerType).ownerId(ownerId).imgName(imgName).build())
+                .toList());
+    }
+
+    private Map<String, Integer> countOnce(Set<String> imgNames) {
+
+        Map<String, Integer> imgNameCounts = new LinkedHashMap<>();
+        imgNames.forEach(imgName -> imgNameCounts.put(imgName, 1));
+
+        return imgNameCounts;
+    }
+}
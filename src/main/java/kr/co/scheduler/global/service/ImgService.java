@@ -1,31 +1,52 @@
 package kr.co.scheduler.global.service;
 
+import kr.co.scheduler.global.config.img.ImgStore;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.img.SummernoteImgRefs;
+import kr.co.scheduler.global.config.storage.StorageBackend;
 import kr.co.scheduler.global.entity.Img;
+import kr.co.scheduler.global.enums.ImgVariant;
 import kr.co.scheduler.global.repository.ImgRepository;
+import kr.co.scheduler.global.repository.InClauseChunks;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.IOUtils;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ImgService {
 
     private final ImgRepository imgRepository;
+    private final ImgVariants imgVariants;
+    private final ImgStore imgStore;
+    private final ImgStoreProperties imgStoreProperties;
+    private final ImgFileCleaner imgFileCleaner;
+    private final StorageBackend storageBackend;
 
     /**
      * selectImg: Img 객체 리턴
@@ -38,193 +59,229 @@ public class ImgService {
     }
 
     /**
-     * uploadImg: 이미지를 파일시스템에 저장하고, 난수로 구성된 파일명을 리턴
+     * uploadProfileImg: 프로필이미지를 저장소 키 {profilePrefix}/{uuid}_{파일명} 으로 저장하고 키 리턴
+     * 저장한 이미지의 크기별 이미지는 별도 스레드에서 생성
      */
-    public String uploadImg(String uploadFolder, MultipartFile uploadImg){
+    public String uploadProfileImg(MultipartFile uploadImg) throws IOException {
 
-        File uploadPath = new File(uploadFolder);
-
-        if(uploadPath.exists() == false) {
-            uploadPath.mkdirs();
-        }
-
-        String uploadFileName = uploadImg.getOriginalFilename();
-        String uuid = UUID.randomUUID().toString();
-
-        uploadFileName = uuid + "_" + uploadFileName;
-
-        File saveFile = new File(uploadPath, uploadFileName);
+        String uploadFileName = UUID.randomUUID() + "_" + fileName(uploadImg.getOriginalFilename());
+        String key = imgStoreProperties.getProfilePrefix() + "/" + uploadFileName;
+        Path temp = storageBackend.createTempFile();
 
         try {
 
-            uploadImg.transferTo(saveFile);
-        } catch (Exception e) {
+            uploadImg.transferTo(temp);
+            storageBackend.put(key, temp);
+        } finally {
 
-            e.printStackTrace();
+            Files.deleteIfExists(temp);
         }
 
-        return uploadFileName;
+        imgVariants.generateAsync(key, uploadFileName);
+
+        return key;
     }
 
     /**
-     * uploadImgInSummernote: 사용자가 썸머노트에 이미지를 업로드시 파일시스템에 저장
-     * 경로: c:\\upload\\temp\\{email}
+     * uploadImgInSummernote: 사용자가 썸머노트에 업로드한 이미지를 해시 저장소에 저장하고 파일명({해시}.{확장자}) 리턴
+     * 1. 업로드 스트림을 임시 파일로 복사하면서 SHA-256 계산
+     * 2. 같은 해시의 이미지가 있으면 마지막 업로드 시각을 갱신하고, 임시 파일을 지운 뒤 기존 파일명 리턴 (행, 파일을 추가하지 않음)
+     *    편집 중인 이미지를 정리 작업이 지우지 않도록 하며, 갱신 전에 정리 작업이 행을 지웠으면 새로 등록
+     * 3. 없으면 새 저장소 키로 옮기고 참조 수 0 으로 등록 (게시글 등을 저장할 때 참조 수 증가)
+     *    키가 행마다 다르므로 먼저 삭제한 행의 파일 삭제 작업이 나중에 실행되어도 새 파일은 남음
+     * 4. 다른 요청이 같은 이미지를 먼저 등록한 경우(hash 중복) 방금 저장한 파일을 지우고 먼저 등록한 행 사용
+     * 5. 크기별 이미지를 만든 뒤 만든 목록을 행에 저장
+     * 등록 쿼리가 실패한 뒤에도 다시 조회할 수 있도록 트랜잭션 없이 실행
      */
-    @Transactional
-    public String uploadImgInSummernote(MultipartFile uploadImg, String email) throws IOException {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String uploadImgInSummernote(MultipartFile uploadImg) throws IOException {
 
-        String uploadFolder = "C:\\upload\\temp\\" + email;
+        ImgStore.StagedImg staged = imgStore.stage(uploadImg);
+        Img img = imgRepository.findByHash(staged.getHash());
 
-        String uploadFileName = uploadImg(uploadFolder, uploadImg);
+        if (img != null && imgRepository.touchLastUploadedAt(img.getId(), LocalDateTime.now()) == 1) {
 
-        Img img = Img.builder()
-                .imgPath(uploadFolder + "\\" + uploadFileName)
-                .imgName(uploadFileName)
-                .build();
+            imgStore.discard(staged);
 
-        imgRepository.save(img);
+            return img.getImgName();
+        }
 
-        return uploadFileName;
-    }
+        String key = imgStore.commit(staged);
 
-    /**
-     * renameImg: 파일 이동
-     */
-    public void renameImg(String beforeFilePath, String replaceFolder, String fileName) throws IOException {
+        try {
 
-        File replacePath = new File(replaceFolder);
+            img = imgRepository.saveAndFlush(Img.builder()
+                    .imgPath(key)
+                    .imgName(staged.getFileName())
+                    .hash(staged.getHash())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
 
-        if(replacePath.exists() == false) {
-            replacePath.mkdirs();
-        }
+            img = imgRepository.findByHash(staged.getHash());
 
-        try {
-            File file = new File(beforeFilePath);
+            if (img == null) {
+
+                throw e;
+            }
+
+            storageBackend.delete(key);
 
-            file.renameTo(new File(replaceFolder + "\\" + fileName));
-        } catch(Exception e) {
-            e.printStackTrace();
+            return img.getImgName();
         }
-    }
 
-    /**
-     * renameImgInSummernote: 게시글 업로드 또는 수정 시 replaceFolder 폴더로 파일 이동
-     */
-    @Transactional
-    public void renameImgInSummernote(String content, String replaceFolder) throws IOException {
+        Long imgId = img.getId();
 
-        Document doc = Jsoup.parse(content);
-        Elements imgElements = doc.select("img");
+        imgVariants.generateAsync(key, img.getStoredFileName())
+                .thenAccept(variants -> {
 
-        String fileName = null;
-        for (Element imgElement : imgElements) {
+                    if (variants != null) {
 
-            // src 추출
-            String srcValue = imgElement.attr("src");
+                        imgRepository.updateVariants(imgId, variants);
+                    }
+                })
+                .exceptionally(e -> {
 
-            // 파일명 추출
-            String[] parts = srcValue.split("=");
-            if (parts.length == 2) {
-                fileName = parts[1];
+                    log.warn("크기별 이미지 목록을 저장하지 못했습니다. imgId={}", imgId, e);
 
-                Img img = selectImg(fileName);
+                    return null;
+                });
 
-                String beforeFilePath = img.getImgPath();
+        return img.getImgName();
+    }
 
-                img.setImgPath(replaceFolder + "\\" + fileName);
+    /**
+     * retainImgs: 게시글, 프로젝트, 업무일지에 새로 포함된 이미지의 참조 수를 1씩 증가
+     */
+    public void retainImgs(Set<String> imgNames) {
 
-                // 폴더 이동
-                renameImg(beforeFilePath, replaceFolder, fileName);
-            }
-        }
+        addRefCount(List.copyOf(imgNames), 1);
     }
 
     /**
-     * deleteImg: 이미지 경로를 기반으로 이미지 제거
+     * releaseImgs: 이미지 파일명별로 참조 수를 줄이고, 참조가 남지 않은 이미지 삭제
+     * 1. 같은 수만큼 줄이는 이미지끼리 묶어 UPDATE 실행
+     * 2. 참조 수가 0 이하가 된 이미지와 해시 저장소 이전에 업로드한 이미지의 행 삭제
+     * 3. 트랜잭션 커밋 이후 파일과 크기별 이미지 삭제
+     * 리턴: 삭제한 이미지 수
      */
-    public void deleteImg(String imgPath) {
+    public int releaseImgs(Map<String, Integer> imgNameCounts) {
 
-        File file = null;
+        if (imgNameCounts.isEmpty()) {
 
-        try {
+            return 0;
+        }
 
-            file = new File(URLDecoder.decode(imgPath, StandardCharsets.UTF_8));
+        Map<Integer, List<String>> imgNamesByCount = new TreeMap<>();
+        imgNameCounts.forEach((imgName, count) -> imgNamesByCount.computeIfAbsent(count, key -> new ArrayList<>()).add(imgName));
+        imgNamesByCount.forEach((count, imgNames) -> addRefCount(imgNames, -count));
 
-            file.delete();
-        } catch (Exception e) {
+        List<Img> unreferenced = new ArrayList<>();
+        InClauseChunks.forEach(List.copyOf(imgNameCounts.keySet()), imgNames -> {
 
-            e.printStackTrace();
-        }
+            unreferenced.addAll(imgRepository.findUnreferencedForUpdate(imgNames));
+            unreferenced.addAll(imgRepository.findLegacyByImgNameIn(imgNames));
+        });
+
+        InClauseChunks.forEach(unreferenced.stream().map(Img::getId).toList(), imgRepository::deleteAllByIdInBatch);
+        imgFileCleaner.deleteAfterCommit(unreferenced.stream().map(Img::getImgPath).toList());
+
+        return unreferenced.size();
     }
 
     /**
-     * deleteImgInSummernote: 게시글이나 프로젝트 삭제 시 업로드된 이미지 데이터 및 파일 제거
+     * extractImgNamesInSummernote: 썸머노트 내용에 포함된 이미지 파일명 목록 리턴
      */
-    @Transactional
-    public void deleteImgInSummernote(String content) {
+    public Set<String> extractImgNamesInSummernote(String content) {
+
+        return SummernoteImgRefs.extract(content);
+    }
 
-        Document doc = Jsoup.parse(content);
-        Elements imgElements = doc.select("img");
+    /**
+     * deleteImg: 저장소 키 또는 저장소 도입 이전의 로컬 경로로 이미지와 크기별 이미지 제거
+     */
+    public void deleteImg(String imgPath) {
 
-        String fileName = null;
-        for (Element imgElement : imgElements) {
+        try {
 
-            // src 추출
-            String srcValue = imgElement.attr("src");
+            if (StorageBackend.isKey(imgPath)) {
 
-            // 파일명 추출
-            String[] parts = srcValue.split("=");
-            if (parts.length == 2) {
-                fileName = parts[1];
+                storageBackend.delete(imgPath);
+                imgVariants.delete(StringUtils.getFilename(imgPath));
+            } else {
 
-                Img img = selectImg(fileName);
-                imgRepository.delete(img);
+                Path path = Path.of(URLDecoder.decode(imgPath, StandardCharsets.UTF_8));
 
-                deleteImg(img.getImgPath());
+                Files.deleteIfExists(path);
+                imgVariants.delete(path.getFileName().toString());
             }
+        } catch (IOException | InvalidPathException e) {
+
+            log.warn("이미지 파일을 삭제하지 못했습니다. path={}", imgPath, e);
         }
     }
 
     // ================================== 구분 ================================== //
 
     /**
-     * selectProfileImg: 프로필이미지를 뷰로 전송
+     * selectProfileImg: 프로필이미지 리소스 리턴 (프로필이미지가 없으면 기본 이미지)
+     * 파일 내용은 읽지 않고, 응답할 때 스트림으로 전송
      */
-    public byte[] selectProfileImg(String profileImgPath) throws IOException {
+    public Resource selectProfileImg(String profileImgPath) {
 
-        byte[] imageByteArray = null;
+        if (profileImgPath == null) {
 
-        InputStream inputStream = new FileInputStream(profileImgPath);
-        imageByteArray = IOUtils.toByteArray(inputStream);
-        inputStream.close();
+            return new ClassPathResource("static/image/profile-spap.png");
+        }
 
-        return imageByteArray;
+        return resource(profileImgPath);
     }
 
-    // ================================== 구분 ================================== //
+    /**
+     * selectImgVariant: 만들어 둔 크기별 이미지 리소스 리턴 (원본이 작거나 아직 만드는 중이면 null)
+     */
+    public Resource selectImgVariant(String fileName, ImgVariant variant) {
 
-    @Transactional
-    public void clearTempDir(String deletePath) {
+        return variant == null ? null : imgVariants.find(fileName, variant);
+    }
 
-        try {
+    /**
+     * selectImgVariant: 썸머노트 이미지의 크기별 이미지 리소스 리턴 (행에 저장한 목록에 없으면 null)
+     */
+    public Resource selectImgVariant(Img img, ImgVariant variant) {
 
-            File folder = new File(deletePath);
+        return variant == null || img == null ? null : imgVariants.find(img.getStoredFileName(), variant, img.getVariants());
+    }
 
-            if(folder.exists()) {
+    /**
+     * selectImgResource: 썸머노트 이미지 리소스 리턴 (등록되지 않은 이미지면 null)
+     */
+    public Resource selectImgResource(Img img) {
 
-                File[] file_list = folder.listFiles();
-                for(File file : file_list) {
+        return img == null ? null : resource(img.getImgPath());
+    }
 
-                    file.delete();
+    // ================================== 구분 ================================== //
 
-                    Img img = imgRepository.findByImgName(file.getName());
-                    imgRepository.delete(img);
-                }
-            }
+    /**
+     * resource: 저장소 키면 저장소에서, 저장소 도입 이전의 로컬 경로면 파일시스템에서 조회
+     */
+    private Resource resource(String imgPath) {
 
-        } catch(Exception e) {
+        return StorageBackend.isKey(imgPath) ? storageBackend.get(imgPath) : new FileSystemResource(imgPath);
+    }
 
-            e.printStackTrace();
-        }
+    /**
+     * fileName: 원본 파일명에서 폴더와 저장소 키에 쓸 수 없는 문자 제거
+     */
+    private static String fileName(String originalFilename) {
+
+        String fileName = originalFilename == null ? "" : originalFilename.replaceAll("^.*[\\\\/]", "");
+
+        return fileName.replace(':', '_');
+    }
+
+    private void addRefCount(List<String> imgNames, int delta) {
+
+        InClauseChunks.forEach(imgNames, chunk -> imgRepository.addRefCount(chunk, delta));
     }
 }
@@ -0,0 +1,42 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.global.entity.Outbox;
+import kr.co.scheduler.global.repository.OutboxRepository;
+import kr.co.scheduler.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * OutboxService: 알림과 웹 푸시를 바로 보내지 않고, 호출한 쪽의 트랜잭션 안에서 tbl_outbox 에 발송 요청만 저장
+ * 비즈니스 트랜잭션이 롤백되면 발송 요청도 함께 사라지고, 실제 발송은 OutboxDispatcher 가 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * enqueueAlert: 알림 발송 요청 저장
+     */
+    public void enqueueAlert(String content, User user) {
+
+        outboxRepository.save(Outbox.builder()
+                .userId(user.getId())
+                .alertContent(content)
+                .build());
+    }
+
+    /**
+     * enqueueAll: 여러 발송 요청을 한 번에 저장
+     */
+    public void enqueueAll(Collection<Outbox> outboxes) {
+
+        outboxRepository.saveAll(outboxes);
+    }
+}
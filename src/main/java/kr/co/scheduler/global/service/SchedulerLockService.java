@@ -0,0 +1,201 @@
+package kr.co.scheduler.global.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import kr.co.scheduler.global.entity.SchedulerLock;
+import kr.co.scheduler.global.repository.SchedulerLockRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchedulerLockService: tbl_scheduler_lock 기반의 분산 잠금
+ * 1. 잠금 획득, 연장, 해제는 각각 별도의 트랜잭션에서 조건부 UPDATE 한 번으로 처리
+ * 2. 작업이 실행되는 동안 renewIntervalMillis 마다 임대를 연장하고, 인스턴스가 중단되면 임대 만료 후 다른 인스턴스가 가져감
+ * 3. 작업이 끝나도 획득 시각부터 lockAtLeastForMillis 동안은 잠금을 유지하여, 같은 회차를 늦게 시작한 인스턴스가 다시 실행하지 않도록 함
+ * 4. 작업은 assertHeld 로 fencingToken 이 아직 유효한지 확인한 뒤 데이터를 변경 (잠금을 빼앗긴 이전 소유자의 쓰기 차단)
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final SchedulerLockProperties schedulerLockProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService renewal = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("scheduler-lock-renewal-"));
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                SchedulerLockProperties schedulerLockProperties,
+                                PlatformTransactionManager transactionManager) {
+
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.schedulerLockProperties = schedulerLockProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * runExclusively: 잠금을 획득한 경우에만 작업을 실행하고, 실행 여부 리턴
+     * 작업이 끝나면 임대 만료 시각을 lockAtLeastForMillis 하한까지 앞당겨, 다음 회차에는 어느 인스턴스든 가져갈 수 있도록 함
+     */
+    public boolean runExclusively(String name, LockedTask task) throws Exception {
+
+        Optional<Lease> acquired = tryAcquire(name);
+
+        if (acquired.isEmpty()) {
+
+            log.info("다른 인스턴스가 {} 작업을 실행 중이므로 건너뜁니다.", name);
+
+            return false;
+        }
+
+        Lease lease = acquired.get();
+        long interval = schedulerLockProperties.getRenewIntervalMillis();
+
+        ScheduledFuture<?> renewTask = renewal.scheduleAtFixedRate(() -> {
+
+            if (!renew(lease)) {
+
+                log.warn("{} 작업의 잠금을 연장하지 못했습니다. fencingToken={}", name, lease.getFencingToken());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+
+        try {
+
+            task.run(lease);
+
+            return true;
+        } finally {
+
+            renewTask.cancel(false);
+            release(lease);
+        }
+    }
+
+    /**
+     * tryAcquire: 임대가 만료된 경우에만 잠금을 획득하고 증가된 fencingToken 을 담은 Lease 리턴
+     */
+    public Optional<Lease> tryAcquire(String name) {
+
+        createIfAbsent(name);
+
+        String owner = schedulerLockProperties.getNodeId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(schedulerLockProperties.getLeaseMillis()));
+
+        return transactionTemplate.execute(status -> {
+
+            if (schedulerLockRepository.acquire(name, owner, now, until) == 0) {
+
+                return Optional.empty();
+            }
+
+            return Optional.of(new Lease(name, owner, schedulerLockRepository.findFencingToken(name, owner), now));
+        });
+    }
+
+    /**
+     * renew: 임대 연장, 이미 다른 인스턴스가 잠금을 가져간 경우 false 리턴
+     */
+    public boolean renew(Lease lease) {
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(schedulerLockProperties.getLeaseMillis()));
+
+        return transactionTemplate.execute(status ->
+                schedulerLockRepository.renew(lease.getName(), lease.getFencingToken(), now, until) == 1);
+    }
+
+    /**
+     * release: 임대 만료 시각을 max(현재 시각, 획득 시각 + lockAtLeastForMillis) 로 앞당김
+     * 잠금을 즉시 비우지 않으므로, 작업이 빨리 끝나도 하한까지는 다른 인스턴스가 같은 작업을 실행하지 못함
+     */
+    public void release(Lease lease) {
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime floor = lease.getAcquiredAt().plusNanos(TimeUnit.MILLISECONDS.toNanos(schedulerLockProperties.getLockAtLeastForMillis()));
+        LocalDateTime until = floor.isAfter(now) ? floor : now;
+
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLockRepository.release(lease.getName(), lease.getFencingToken(), until));
+    }
+
+    /**
+     * isHeld: fencingToken 이 아직 유효한지(다른 인스턴스가 잠금을 가져가지 않았고 임대가 남아있는지) 확인
+     * 호출한 쪽의 트랜잭션 안에서 조회
+     */
+    public boolean isHeld(String name, Long fencingToken) {
+
+        return schedulerLockRepository.countHeld(name, fencingToken, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * assertHeld: 데이터를 변경하기 전에 호출하여, 잠금을 다른 인스턴스가 가져갔으면 IllegalStateException 을 던져 트랜잭션 롤백
+     */
+    public void assertHeld(Lease lease) {
+
+        assertHeld(lease.getName(), lease.getFencingToken());
+    }
+
+    public void assertHeld(String name, Long fencingToken) {
+
+        if (!isHeld(name, fencingToken)) {
+
+            throw new IllegalStateException(name + " 작업의 잠금을 다른 인스턴스가 가져갔습니다. fencingToken=" + fencingToken);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+
+        renewal.shutdownNow();
+    }
+
+    // ================================== 구분 ================================== //
+
+    private void createIfAbsent(String name) {
+
+        if (schedulerLockRepository.existsById(name)) {
+
+            return;
+        }
+
+        try {
+
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.saveAndFlush(new SchedulerLock(name, LocalDateTime.now())));
+        } catch (DataIntegrityViolationException e) {
+
+            // 다른 인스턴스가 먼저 생성한 경우
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Lease {
+
+        private String name;
+        private String owner;
+        private Long fencingToken;
+        private LocalDateTime acquiredAt;
+    }
+
+    @FunctionalInterface
+    public interface LockedTask {
+
+        void run(Lease lease) throws Exception;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.co.scheduler.scheduler.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ProjectDeadlineResDTO: 마감일이 다가온 프로젝트와 작성자 정보, 마감일까지 남은 날짜(dDay)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectDeadlineResDTO {
+
+    private Long projectId;
+    private String title;
+    private Long userId;
+    private String userName;
+    private String targetToken;
+    private Long dDay;
+
+    public String getAlertBody() {
+
+        return userName + "님의 플래너 " + title + " 만기일이 " + dDay + "일 남았습니다.";
+    }
+}
@@ -1,11 +1,17 @@
 package kr.co.scheduler.scheduler.repository;
 
+import kr.co.scheduler.scheduler.dtos.ProjectDeadlineResDTO;
 import kr.co.scheduler.scheduler.entity.Project;
 import kr.co.scheduler.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -18,7 +24,37 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     Long countByUserAndCompleteYn(User user, String complete_yn);
 
-    List<Project> findByActiveYn(String active_yn);
-
-    List<Project> findByCompleteYn(String complete_yn);
+    @Query("SELECT p.id FROM Project p WHERE p.user.id IN :userIds")
+    List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT p.description FROM Project p WHERE p.id IN :ids")
+    List<String> findDescriptionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(p.id) FROM Project p")
+    Long findMinId();
+
+    @Query("SELECT MAX(p.id) FROM Project p")
+    Long findMaxId();
+
+    /**
+     * completeOverTheDeadline: project_id 가 [fromId, toId] 범위인 프로젝트 중 마감일이 지난 미완료 프로젝트를 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.completeYn = 'Y', p.activeYn = 'N' " +
+            "WHERE p.completeYn = 'N' AND p.endPRJ < :today AND p.id BETWEEN :fromId AND :toId")
+    int completeOverTheDeadline(@Param("today") LocalDate today, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * findDeadlineAfterId: project_id 기준 Keyset 페이징 조회
+     * lastId 이후의 활성화된 프로젝트 중 마감일이 [today, until] 인 프로젝트를 마감일까지 남은 날짜와 함께 조회
+     * 웹 푸시 토큰이 없는 사용자의 프로젝트도 조회하여 알림만 저장 (targetToken 은 null)
+     */
+    @Query("SELECT new kr.co.scheduler.scheduler.dtos.ProjectDeadlineResDTO(p.id, p.title, u.id, u.name, u.targetToken, (p.endPRJ - :today) by day) " +
+            "FROM Project p JOIN p.user u " +
+            "WHERE p.id > :lastId AND p.activeYn = 'Y' AND p.endPRJ BETWEEN :today AND :until " +
+            "ORDER BY p.id ASC")
+    List<ProjectDeadlineResDTO> findDeadlineAfterId(@Param("today") LocalDate today,
+                                                   @Param("until") LocalDate until,
+                                                   @Param("lastId") Long lastId,
+                                                   Pageable pageable);
 }
@@ -7,9 +7,15 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface SubTaskRepository extends JpaRepository<SubTask, Long> {
 
     @Modifying
     @Query("UPDATE SubTask s SET s.check_yn = :checkYn WHERE s.id = :taskId")
     void updateSubTaskStatus(@Param("taskId") Long taskId, @Param("checkYn") String checkYn);
+
+    @Query("SELECT s.id FROM SubTask s WHERE s.task.id IN :taskIds")
+    List<Long> findIdsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -5,7 +5,18 @@ import kr.co.scheduler.scheduler.entity.TaskLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 public interface TaskLogRepository extends JpaRepository<TaskLog, Long> {
 
     Page<TaskLog> findByProject(Pageable pageable, Project project);
+
+    @Query("SELECT t.id FROM TaskLog t WHERE t.project.id IN :projectIds")
+    List<Long> findIdsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT t.content FROM TaskLog t WHERE t.id IN :ids")
+    List<String> findContentsByIdIn(@Param("ids") Collection<Long> ids);
 }
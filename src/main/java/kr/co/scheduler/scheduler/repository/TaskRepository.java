@@ -6,9 +6,15 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     @Modifying
     @Query("UPDATE Task t SET t.check_yn = :checkYn WHERE t.id = :taskId")
     void updateTaskStatus(@Param("taskId") Long taskId, @Param("checkYn") String checkYn);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id IN :projectIds")
+    List<Long> findIdsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
 }
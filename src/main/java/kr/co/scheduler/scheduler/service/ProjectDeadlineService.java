@@ -0,0 +1,70 @@
+package kr.co.scheduler.scheduler.service;
+
+import kr.co.scheduler.global.config.batch.ProjectDeadlineProperties;
+import kr.co.scheduler.global.service.IdRangeTransactions;
+import kr.co.scheduler.global.service.SchedulerLockService;
+import kr.co.scheduler.scheduler.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * ProjectDeadlineService: 마감일이 지난 프로젝트를 완료 상태로 전환
+ * 프로젝트를 하나씩 조회하지 않고, project_id 범위마다 UPDATE 문 하나로 처리
+ * 범위마다 트랜잭션을 나누어 한 번에 많은 행이 잠기지 않도록 함
+ * 여러 인스턴스 중 잠금을 획득한 한 곳에서만 실행하고, 범위마다 잠금이 유효한지 확인
+ */
+@Slf4j
+@Service
+public class ProjectDeadlineService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectDeadlineProperties projectDeadlineProperties;
+    private final SchedulerLockService schedulerLockService;
+    private final IdRangeTransactions idRangeTransactions;
+
+    public ProjectDeadlineService(ProjectRepository projectRepository,
+                                  ProjectDeadlineProperties projectDeadlineProperties,
+                                  SchedulerLockService schedulerLockService,
+                                  IdRangeTransactions idRangeTransactions) {
+
+        this.projectRepository = projectRepository;
+        this.projectDeadlineProperties = projectDeadlineProperties;
+        this.schedulerLockService = schedulerLockService;
+        this.idRangeTransactions = idRangeTransactions;
+    }
+
+    /**
+     * completePRJOverTheDeadline: 매일 0시 정각에 마감일이 지난 프로젝트를 완료 처리
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void completePRJOverTheDeadline() throws Exception {
+
+        schedulerLockService.runExclusively("completePRJOverTheDeadline", lease -> {
+
+            int completed = completePRJOverTheDeadline(LocalDate.now(), lease);
+
+            log.info("마감일이 지난 프로젝트 {}건을 완료 처리했습니다.", completed);
+        });
+    }
+
+    /**
+     * completePRJOverTheDeadline: 마감일(endPRJ)이 today 이전인 미완료 프로젝트를 완료 및 비활성화 처리하고, 처리한 건수 리턴
+     */
+    public int completePRJOverTheDeadline(LocalDate today) {
+
+        return completePRJOverTheDeadline(today, null);
+    }
+
+    /**
+     * completePRJOverTheDeadline: lease 가 있는 경우 범위마다 같은 트랜잭션 안에서 잠금이 유효한지 확인한 뒤 UPDATE
+     */
+    private int completePRJOverTheDeadline(LocalDate today, SchedulerLockService.Lease lease) {
+
+        return idRangeTransactions.execute(projectRepository.findMinId(), projectRepository.findMaxId(),
+                projectDeadlineProperties.getCompleteChunkSize(), lease,
+                (fromId, toId) -> projectRepository.completeOverTheDeadline(today, fromId, toId));
+    }
+}
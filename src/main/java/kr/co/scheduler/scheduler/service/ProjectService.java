@@ -1,8 +1,7 @@
 package kr.co.scheduler.scheduler.service;
 
-import kr.co.scheduler.global.service.AlertService;
-import kr.co.scheduler.global.service.FCMService;
-import kr.co.scheduler.global.service.ImgService;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.service.ImgRefService;
 import kr.co.scheduler.scheduler.dtos.ProjectReqDTO;
 import kr.co.scheduler.scheduler.dtos.TaskReqDTO;
 import kr.co.scheduler.scheduler.entity.Project;
@@ -17,7 +16,6 @@ import kr.co.scheduler.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,9 +32,7 @@ public class ProjectService {
 
     private final UserService userService;
     private final TaskService taskService;
-    private final FCMService fcmService;
-    private final AlertService alertService;
-    private final ImgService imgService;
+    private final ImgRefService imgRefService;
     private final TaskLogService taskLogService;
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
@@ -64,8 +60,6 @@ public class ProjectService {
 
         if (user != null) {
 
-            imgService.renameImgInSummernote(create.getDescription(), "C:\\upload\\project\\" + email);
-
             Project project = Project.builder()
                     .title(create.getTitle())
                     .description(create.getDescription())
@@ -88,6 +82,8 @@ public class ProjectService {
 
             project.setTasks(tasks);
             projectRepository.save(project);
+
+            imgRefService.retainImgsInSummernote(ImgRefOwner.PROJECT, project.getId(), create.getDescription());
         }
     }
 
@@ -100,12 +96,7 @@ public class ProjectService {
 
         if (project != null) {
 
-            imgService.renameImgInSummernote(project.getDescription(), "C:\\upload\\temp\\" + email);
-            imgService.renameImgInSummernote(update.getDescription(), "C:\\upload\\project\\" + email);
-
-            // temp 폴더 비우기
-            String deletePath = "C:\\upload\\temp\\" + email;
-            imgService.clearTempDir(deletePath);
+            imgRefService.replaceImgsInSummernote(ImgRefOwner.PROJECT, project.getId(), project.getDescription(), update.getDescription());
 
             project.updateProject(update.getTitle(), update.getDescription(), update.getGoal(), update.getStartPRJ(), update.getEndPRJ());
 
@@ -135,7 +126,7 @@ public class ProjectService {
             Project project = projectRepository.findById(id).orElse(null);
             if (project != null) {
 
-                imgService.deleteImgInSummernote(project.getDescription());
+                imgRefService.releaseImgsInSummernote(ImgRefOwner.PROJECT, project.getId(), project.getDescription());
 
                 List<TaskLog> taskLogs = project.getTaskLogs();
                 for (TaskLog taskLog : taskLogs) {
@@ -321,64 +312,4 @@ public class ProjectService {
             throw new IllegalArgumentException("D-Day 를 계산할 수 없습니다.");
         }
     }
-
-    // ================================== 구분 ================================== //
-
-    /**
-     * completePRJOverTheDeadline: 마감일이 지난 프로젝트를 완료된 상태로 전환
-     */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void completePRJOverTheDeadline() {
-
-        List<Project> projects1 = projectRepository.findByCompleteYn(Character.toString('N'));
-
-        for (Project project : projects1) {
-
-            Long D_day = countD_day(project.getId());
-            if (D_day != null) {
-
-                if (D_day < 0) {
-
-                    project.setCompleteYn(Character.toString('Y'));
-                }
-            }
-        }
-    }
-
-    /**
-     * sendFCMMessageToWriter: 스케줄러를 통해 매일 0시 정각에 마감일이 다가온 프로젝트 사용자에게 웹 푸시 전달
-     * 고려사항: 데이터가 비대해질 경우 스프링 배치 적용하는 것이 좋음
-     */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void sendFCMMessageAndAlertToWriter() {
-
-        List<Project> projects2 = projectRepository.findByActiveYn(Character.toString('Y'));
-
-        for (Project project : projects2) {
-
-            Long D_day = countD_day(project.getId());
-            if (D_day != null) {
-
-                if (D_day <= 7) {
-
-                    String targetToken = project.getUser().getTargetToken();
-                    String body = project.getUser().getName()
-                            + "님의 플래너 "
-                            + project.getTitle()
-                            + " 만기일이 "
-                            + D_day
-                            + "일 남았습니다.";
-
-                    if (targetToken != null) {
-
-                        fcmService.sendFCMMessage(targetToken, "SPAP 스케줄러", body);
-                    }
-
-                User user = project.getUser();
-
-                alertService.createAlert(body, user);
-                }
-            }
-        }
-    }
 }
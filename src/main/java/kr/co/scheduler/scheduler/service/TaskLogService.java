@@ -1,6 +1,7 @@
 package kr.co.scheduler.scheduler.service;
 
-import kr.co.scheduler.global.service.ImgService;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.service.ImgRefService;
 import kr.co.scheduler.scheduler.dtos.TaskLogReqDTO;
 import kr.co.scheduler.scheduler.entity.Project;
 import kr.co.scheduler.scheduler.entity.TaskLog;
@@ -23,7 +24,7 @@ import java.util.Objects;
 public class TaskLogService {
 
     private final UserService userService;
-    private final ImgService imgService;
+    private final ImgRefService imgRefService;
     private final ProjectRepository projectRepository;
     private final TaskLogRepository taskLogRepository;
 
@@ -72,8 +73,6 @@ public class TaskLogService {
                 throw new IllegalArgumentException("이미 완료된 프로젝트입니다.");
             }
 
-            imgService.renameImgInSummernote(taskLogReqDTO.getContent(), "C:\\upload\\taskLog\\" + email);
-
             TaskLog taskLog = TaskLog
                     .builder()
                     .title(taskLogReqDTO.getTitle())
@@ -88,6 +87,8 @@ public class TaskLogService {
             project.setTaskLogs(temp);
 
             taskLogRepository.save(taskLog);
+
+            imgRefService.retainImgsInSummernote(ImgRefOwner.TASK_LOG, taskLog.getId(), taskLogReqDTO.getContent());
         }
     }
 
@@ -104,12 +105,7 @@ public class TaskLogService {
 
             if (taskLog != null) {
 
-                imgService.renameImgInSummernote(taskLog.getContent(), "C:\\upload\\temp\\" + email);
-                imgService.renameImgInSummernote(taskLogReqDTO.getContent(), "C:\\upload\\taskLog\\" + email);
-
-                // temp 폴더 비우기
-                String deletePath = "C:\\upload\\temp\\" + email;
-                imgService.clearTempDir(deletePath);
+                imgRefService.replaceImgsInSummernote(ImgRefOwner.TASK_LOG, taskLog.getId(), taskLog.getContent(), taskLogReqDTO.getContent());
 
                 taskLog.updateTaskLog(taskLogReqDTO.getTitle(), taskLogReqDTO.getContent(), taskLogReqDTO.getTaskCategory(), taskLogReqDTO.getSubTaskCategory());
             }
@@ -132,7 +128,7 @@ public class TaskLogService {
 
                 if (taskLog != null) {
 
-                    imgService.deleteImgInSummernote(taskLog.getContent());
+                    imgRefService.releaseImgsInSummernote(ImgRefOwner.TASK_LOG, taskLog.getId(), taskLog.getContent());
 
                     taskLogRepository.delete(taskLog);
                 }
@@ -1,9 +1,14 @@
 package kr.co.scheduler.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import kr.co.scheduler.global.config.mail.CertificationMail;
+import kr.co.scheduler.global.config.security.PrincipalDetails;
+import kr.co.scheduler.global.config.sse.AlertEmitterRegistry;
+import kr.co.scheduler.global.config.verification.ClientIpResolver;
 import kr.co.scheduler.global.dtos.ResponseDto;
 import kr.co.scheduler.global.dtos.TargetTokenReqDTO;
+import kr.co.scheduler.global.enums.VerificationResult;
+import kr.co.scheduler.global.service.EmailVerificationService;
 import kr.co.scheduler.global.service.ImgService;
 import kr.co.scheduler.user.dtos.UserReqDTO;
 import kr.co.scheduler.user.entity.User;
@@ -11,12 +16,15 @@ import kr.co.scheduler.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.security.Principal;
@@ -29,14 +37,17 @@ public class UserApiController {
 
     private final UserService userService;
     private final ImgService imgService;
-    private final CertificationMail certificationMail;
+    private final EmailVerificationService emailVerificationService;
+    private final AlertEmitterRegistry alertEmitterRegistry;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * signUp: 회원가입
      * 1. 입력 데이터에 문제 있을 경우 ValidateResult 리턴
      * 2. 비밀번호와 확인용 비밀번호 일치 여부 확인
      * 3. 이미 가입된 회원인지 확인
-     * 4. 회원 데이터 저장
+     * 4. 이메일 인증을 완료했는지 확인
+     * 5. 회원 데이터 저장
      */
     @PostMapping("/signUp")
     public ResponseDto<Object> signUp(@Valid @RequestBody UserReqDTO.CREATE create, BindingResult bindingResult) {
@@ -73,8 +84,17 @@ public class UserApiController {
                     "이미 가입된 회원입니다.");
         }
 
+        // 이메일 인증을 완료했는지 확인
+        if (!emailVerificationService.isVerified(create.getEmail())) {
+
+            return ResponseDto.ofFailMessage(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "이메일 인증을 완료해주세요.");
+        }
+
         // 회원 데이터 저장
         userService.signUp(create);
+        emailVerificationService.complete(create.getEmail());
 
         return ResponseDto.ofSuccessData(
                 "회원정보가 성공적으로 등록되었습니다.",
@@ -238,16 +258,41 @@ public class UserApiController {
     // ================================== 구분 ================================== //
 
     /**
-     * emailCode: 회원가입시 이메일 인증 registerMail 로 이메일 코드 전송
+     * emailCode: 회원가입시 이메일로 인증코드 전송
+     * 인증코드는 응답하지 않고, 메일을 발송 대기열에 등록하면 바로 응답
+     * 프록시 뒤에서는 신뢰하는 프록시가 넘긴 X-Forwarded-For 로 클라이언트 IP 를 구해 IP 별 요청 횟수를 셈
      */
     @PostMapping("/api/user/emailCode")
-    @ResponseBody
-    String emailCode(@RequestParam("email") String email) throws Exception {
+    public ResponseDto<?> emailCode(@RequestParam("email") String email, HttpServletRequest request) throws Exception {
 
-        String code = certificationMail.sendMessage(email);
-        System.out.println("인증코드 : " + code);
+        VerificationResult result = emailVerificationService.sendCode(email, clientIpResolver.resolve(request));
+
+        if (!result.isSuccess()) {
+
+            return ResponseDto.ofFailMessage(
+                    HttpStatus.TOO_MANY_REQUESTS.value(),
+                    result.getMessage());
+        }
 
-        return code;
+        return ResponseDto.ofSuccessMessage(result.getMessage());
+    }
+
+    /**
+     * verifyEmailCode: 회원가입시 입력한 이메일 인증코드 확인
+     */
+    @PostMapping("/api/user/emailCode/verify")
+    public ResponseDto<?> verifyEmailCode(@RequestParam("email") String email, @RequestParam("code") String code) {
+
+        VerificationResult result = emailVerificationService.verifyCode(email, code);
+
+        if (!result.isSuccess()) {
+
+            return ResponseDto.ofFailMessage(
+                    HttpStatus.BAD_REQUEST.value(),
+                    result.getMessage());
+        }
+
+        return ResponseDto.ofSuccessMessage(result.getMessage());
     }
 
     // ================================== 구분 ================================== //
@@ -289,6 +334,35 @@ public class UserApiController {
 
     // ================================== 구분 ================================== //
 
+    /**
+     * subscribeAlert: 실시간 알림(SSE) 구독
+     * 새 알림이 저장되면 alert 이벤트로 알림 내용을 전송
+     */
+    @GetMapping(value = "/api/user/alert/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAlert(Principal principal) {
+
+        return alertEmitterRegistry.register(userService.selectUser(principal.getName()).getId());
+    }
+
+    /**
+     * countAlert: 읽지 않은 알림 수 조회
+     * 로그인 정보의 회원 id 와 캐시를 사용하므로, 캐시된 회원은 DB 를 조회하지 않음
+     */
+    @GetMapping("/api/user/alert/count")
+    public ResponseDto<Long> countAlert(@AuthenticationPrincipal PrincipalDetails principalDetails) {
+
+        return ResponseDto.ofSuccessData("읽지 않은 알림 수", userService.countUnreadAlert(principalDetails.getUser().getId()));
+    }
+
+    /**
+     * readAllAlert: 알림 모두 읽음 처리
+     */
+    @PutMapping("/api/user/allAlert")
+    public void readAllAlert(Principal principal) {
+
+        userService.readAllAlert(principal.getName());
+    }
+
     /**
      * deleteAlert: 알림 제거
      */
@@ -88,4 +88,20 @@ public class User extends BaseTimeEntity {
         this.name = name;
         this.phone = phone;
     }
+
+    /**
+     * getProfileImgVersion: 프로필이미지 URL 에 붙이는 버전 (업로드한 파일명의 UUID, 프로필이미지가 없으면 0)
+     * 새 이미지를 업로드하면 URL 이 바뀌므로 브라우저가 캐시한 이전 이미지를 쓰지 않음
+     */
+    public String getProfileImgVersion() {
+
+        if (profileImgName == null) {
+
+            return "0";
+        }
+
+        int separator = profileImgName.indexOf('_');
+
+        return separator > 0 ? profileImgName.substring(0, separator) : Integer.toHexString(profileImgName.hashCode());
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package kr.co.scheduler.user.repository;
 
 import kr.co.scheduler.user.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +20,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findById(Long userId);
 
-    Page<User> findByLastLoggedDay(LocalDate date, PageRequest pageRequest);
+    /**
+     * findByLastLoggedDayRangeAfterId: user_id 기준 Keyset 페이징 조회
+     * lastId 이후의 사용자 중 마지막 로그인 날짜가 [from, to) 인 사용자를 user_id 순으로 pageable 크기만큼 조회 (OFFSET 없음)
+     */
+    @Query("SELECT u FROM User u " +
+            "WHERE u.id > :lastId AND u.id <= :maxId " +
+            "AND u.lastLoggedDay >= :from AND u.lastLoggedDay < :to " +
+            "ORDER BY u.id ASC")
+    List<User> findByLastLoggedDayRangeAfterId(@Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               @Param("lastId") Long lastId,
+                                               @Param("maxId") Long maxId,
+                                               Pageable pageable);
+
+    @Query("SELECT MIN(u.id) FROM User u")
+    Long findMinId();
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.profileImgPath FROM User u WHERE u.id IN :ids AND u.profileImgPath IS NOT NULL")
+    List<String> findProfileImgPathsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * clearTargetTokens: FCM 에서 영구적으로 실패한 토큰을 일괄로 비움
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.targetToken = NULL WHERE u.targetToken IN :targetTokens")
+    int clearTargetTokens(@Param("targetTokens") Collection<String> targetTokens);
 }
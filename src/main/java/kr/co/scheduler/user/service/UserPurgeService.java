@@ -0,0 +1,157 @@
+package kr.co.scheduler.user.service;
+
+import kr.co.scheduler.community.repository.CommentRepository;
+import kr.co.scheduler.community.repository.PostRepository;
+import kr.co.scheduler.community.repository.ReplyRepository;
+import kr.co.scheduler.global.entity.ImgRef;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.repository.AlertRepository;
+import kr.co.scheduler.global.repository.AlertUserRepository;
+import kr.co.scheduler.global.repository.ImgRefRepository;
+import kr.co.scheduler.global.repository.InClauseChunks;
+import kr.co.scheduler.global.service.ImgFileCleaner;
+import kr.co.scheduler.global.service.ImgService;
+import kr.co.scheduler.scheduler.repository.ProjectRepository;
+import kr.co.scheduler.scheduler.repository.SubTaskRepository;
+import kr.co.scheduler.scheduler.repository.TaskLogRepository;
+import kr.co.scheduler.scheduler.repository.TaskRepository;
+import kr.co.scheduler.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * UserPurgeService: 회원과 회원이 작성한 모든 데이터를 일괄 삭제
+ * 엔티티를 하나씩 조회하여 삭제하는 대신, 삭제 대상 id 를 먼저 모은 뒤 테이블마다 IN 절 삭제 쿼리를 실행
+ * IN 절에 들어가는 id 는 InClauseChunks.SIZE 개씩 나누어 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserPurgeService {
+
+    private final ImgService imgService;
+    private final ImgFileCleaner imgFileCleaner;
+    private final ImgRefRepository imgRefRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final SubTaskRepository subTaskRepository;
+    private final TaskLogRepository taskLogRepository;
+    private final AlertRepository alertRepository;
+    private final AlertUserRepository alertUserRepository;
+
+    /**
+     * purgeUsers: 회원 일괄 삭제
+     * 1. 게시글, 프로젝트, 업무, 업무일지, 댓글, 대댓글, 알림의 id 조회
+     * 2. 게시글, 프로젝트, 업무일지의 이미지 연결(tbl_image_ref)로 이미지별 참조 수를 세고, 프로필이미지 경로 조회
+     * 3. 외래키 참조 순서대로 대댓글 → 댓글 → 하위업무 → 업무 → 업무일지 → 프로젝트 → 게시글 → 이미지 연결 → 알림 → 회원 삭제
+     * 4. 이미지는 삭제한 내용의 참조 수만큼 참조 수를 줄이고, 다른 회원의 내용에서 참조하지 않는 이미지만 삭제
+     * 5. 트랜잭션 커밋 이후 이미지 파일 삭제
+     */
+    public void purgeUsers(Collection<Long> userIds) {
+
+        if (userIds.isEmpty()) {
+
+            return;
+        }
+
+        List<Long> users = List.copyOf(userIds);
+
+        List<Long> posts = InClauseChunks.select(users, postRepository::findIdsByUserIdIn);
+        List<Long> projects = InClauseChunks.select(users, projectRepository::findIdsByUserIdIn);
+        List<Long> tasks = InClauseChunks.select(projects, taskRepository::findIdsByProjectIdIn);
+        List<Long> subTasks = InClauseChunks.select(tasks, subTaskRepository::findIdsByTaskIdIn);
+        List<Long> taskLogs = InClauseChunks.select(projects, taskLogRepository::findIdsByProjectIdIn);
+        List<Long> alertUsers = InClauseChunks.select(users, alertUserRepository::findIdsByUserIdIn);
+        List<Long> alerts = InClauseChunks.select(users, alertUserRepository::findAlertIdsByUserIdIn);
+
+        // 댓글은 삭제 대상 회원이 작성했거나 삭제 대상 게시글에 달린 것, 대댓글은 삭제 대상 회원이 작성했거나 삭제 대상 댓글에 달린 것
+        List<Long> comments = union(InClauseChunks.select(users, commentRepository::findIdsByUserIdIn),
+                InClauseChunks.select(posts, commentRepository::findIdsByPostIdIn));
+        List<Long> replies = union(InClauseChunks.select(users, replyRepository::findIdsByUserIdIn),
+                InClauseChunks.select(comments, replyRepository::findIdsByCommentIdIn));
+
+        Map<String, Integer> imgNameCounts = countImgsInContents(posts, projects, taskLogs);
+        List<String> profileImgPaths = InClauseChunks.select(users, userRepository::findProfileImgPathsByIdIn);
+
+        // 삭제 대상이 아닌 대댓글이 삭제 대상 대댓글을 부모로 참조하는 경우 참조를 끊음
+        InClauseChunks.forEach(replies, replyRepository::detachChildReplies);
+        InClauseChunks.forEach(replies, replyRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(comments, commentRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(subTasks, subTaskRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(tasks, taskRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(taskLogs, taskLogRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(projects, projectRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(posts, postRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(posts, ids -> imgRefRepository.deleteByOwnerIn(ImgRefOwner.POST, ids));
+        InClauseChunks.forEach(projects, ids -> imgRefRepository.deleteByOwnerIn(ImgRefOwner.PROJECT, ids));
+        InClauseChunks.forEach(taskLogs, ids -> imgRefRepository.deleteByOwnerIn(ImgRefOwner.TASK_LOG, ids));
+        InClauseChunks.forEach(alertUsers, alertUserRepository::deleteAllByIdInBatch);
+        InClauseChunks.forEach(alerts, alertRepository::deleteOrphansByIdIn);
+        InClauseChunks.forEach(users, userRepository::deleteAllByIdInBatch);
+
+        int imgs = imgService.releaseImgs(imgNameCounts);
+        imgFileCleaner.deleteAfterCommit(profileImgPaths);
+
+        log.info("회원 {}명 삭제: 게시글 {}, 프로젝트 {}, 업무 {}, 하위업무 {}, 업무일지 {}, 댓글 {}, 대댓글 {}, 알림 {}, 이미지 {}",
+                users.size(), posts.size(), projects.size(), tasks.size(), subTasks.size(), taskLogs.size(),
+                comments.size(), replies.size(), alertUsers.size(), imgs + profileImgPaths.size());
+    }
+
+    // ================================== 구분 ================================== //
+
+    /**
+     * countImgsInContents: 게시글, 프로젝트 설명, 업무일지 내용에 포함된 이미지 파일명별 참조 수 (내용 하나에 여러 번 포함되어도 1)
+     * 연결 삭제 전에 tbl_image_ref 의 이미지 목록으로 세고, 연결 기록이 없는 내용만 조회하여 파싱
+     */
+    private Map<String, Integer> countImgsInContents(List<Long> posts, List<Long> projects, List<Long> taskLogs) {
+
+        Map<String, Integer> imgNameCounts = new LinkedHashMap<>();
+
+        countImgs(ImgRefOwner.POST, posts, postRepository::findContentsByIdIn, imgNameCounts);
+        countImgs(ImgRefOwner.PROJECT, projects, projectRepository::findDescriptionsByIdIn, imgNameCounts);
+        countImgs(ImgRefOwner.TASK_LOG, taskLogs, taskLogRepository::findContentsByIdIn, imgNameCounts);
+
+        return imgNameCounts;
+    }
+
+    private void countImgs(ImgRefOwner ownerType, List<Long> ownerIds, Function<List<Long>, List<String>> findContents,
+                           Map<String, Integer> imgNameCounts) {
+
+        Set<Long> linked = new HashSet<>();
+
+        for (ImgRef imgRef : InClauseChunks.select(ownerIds, ids -> imgRefRepository.findByOwnerIn(ownerType, ids))) {
+
+            linked.add(imgRef.getOwnerId());
+            imgNameCounts.merge(imgRef.getImgName(), 1, Integer::sum);
+        }
+
+        List<Long> unlinked = ownerIds.stream().filter(id -> !linked.contains(id)).toList();
+
+        InClauseChunks.select(unlinked, findContents).forEach(content -> imgService.extractImgNamesInSummernote(content)
+                .forEach(imgName -> imgNameCounts.merge(imgName, 1, Integer::sum)));
+    }
+
+    private List<Long> union(List<Long> first, List<Long> second) {
+
+        Set<Long> ids = new LinkedHashSet<>(first);
+        ids.addAll(second);
+
+        return List.copyOf(ids);
+    }
+}
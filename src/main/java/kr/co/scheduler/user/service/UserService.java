@@ -4,12 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import kr.co.scheduler.global.config.img.ProfileImgCache;
+import kr.co.scheduler.global.config.transaction.AfterCommit;
 import kr.co.scheduler.global.entity.AlertUser;
 import kr.co.scheduler.global.dtos.kakao.KaKaoOAuthToken;
 import kr.co.scheduler.global.dtos.kakao.KakaoProfile;
 import kr.co.scheduler.global.dtos.naver.NaverProfile;
 import kr.co.scheduler.global.dtos.naver.NaverOAuthToken;
 import kr.co.scheduler.global.repository.AlertUserRepository;
+import kr.co.scheduler.global.service.AlertService;
 import kr.co.scheduler.global.service.ImgService;
 import kr.co.scheduler.user.dtos.UserReqDTO;
 import kr.co.scheduler.user.dtos.UserResDTO;
@@ -34,14 +37,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -51,8 +53,10 @@ import java.util.*;
 public class UserService {
 
     private final ImgService imgService;
+    private final ProfileImgCache profileImgCache;
     private final UserRepository userRepository;
     private final AlertUserRepository alertUserRepository;
+    private final AlertService alertService;
     private final BCryptPasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
 
@@ -434,19 +438,19 @@ public class UserService {
      * uploadProfileImg : 프로필이미지 등록 및 수정
      */
     @Transactional
-    public void uploadProfileImg(String email, MultipartFile uploadImg) {
+    public void uploadProfileImg(String email, MultipartFile uploadImg) throws IOException {
 
-        String uploadFolder = "C:\\upload\\profile";
-
-        String uploadFileName = imgService.uploadImg(uploadFolder, uploadImg);
+        String profileImgPath = imgService.uploadProfileImg(uploadImg);
 
         User user = userRepository.findOptionalByEmail(email)
                 .orElseThrow(()->{
                     return new IllegalArgumentException("가입된 회원이 아닙니다.");
                 });
 
-        user.setProfileImgName(uploadFileName);
-        user.setProfileImgPath(uploadFolder + "\\" + uploadFileName);
+        user.setProfileImgName(StringUtils.getFilename(profileImgPath));
+        user.setProfileImgPath(profileImgPath);
+
+        evictProfileImgAfterCommit(email);
     }
 
     /**
@@ -461,22 +465,25 @@ public class UserService {
 
         if (user != null) {
 
-            File file = null;
-
-            try {
-
-                file = new File(URLDecoder.decode(user.getProfileImgPath(), StandardCharsets.UTF_8));
-                file.delete();
-            } catch(Exception e) {
-
-                e.printStackTrace();
-            }
+            // 파일과 크기별 이미지 삭제
+            imgService.deleteImg(user.getProfileImgPath());
 
             user.setProfileImgName(null);
             user.setProfileImgPath(null);
+
+            evictProfileImgAfterCommit(email);
         }
     }
 
+    /**
+     * evictProfileImgAfterCommit: 커밋 이후 캐시한 프로필이미지 제거
+     * 커밋 전에 제거하면 그 사이 요청이 이전 이미지를 다시 캐시할 수 있음
+     */
+    private void evictProfileImgAfterCommit(String email) {
+
+        AfterCommit.run(() -> profileImgCache.evict(email));
+    }
+
     // ================================== 구분 ================================== //
 
     /**
@@ -506,17 +513,28 @@ public class UserService {
         return alertUser;
     }
 
+    /**
+     * countUnreadAlert: 읽지 않은 알림 수 조회
+     */
+    public long countUnreadAlert(Long userId) {
+
+        return alertService.countUnreadAlert(userId);
+    }
+
+    /**
+     * readAllAlert: 알림 모두 읽음 처리
+     */
+    public void readAllAlert(String email) {
+
+        alertService.readAllAlert(selectUser(email).getId());
+    }
+
     /**
      * deleteAlert: 알림 제거
      */
     public void deleteAlert(Long id) {
 
-        AlertUser alertUser = alertUserRepository.findById(id)
-                .orElseThrow(()->{
-                    return new IllegalArgumentException("해당 알림을 찾을 수 없습니다.");
-        });
-
-        alertUserRepository.delete(alertUser);
+        alertService.deleteAlert(id);
     }
 
     /**
@@ -526,16 +544,10 @@ public class UserService {
     public void deleteAllAlert(String email) {
 
         User user = selectUser(email);
-        List<AlertUser> alertUsers = null;
 
         if (user != null) {
 
-            alertUsers = alertUserRepository.findListByUser(user);
-
-            for (AlertUser alertUser : alertUsers) {
-
-                alertUserRepository.delete(alertUser);
-            }
+            alertService.deleteAllAlert(user.getId());
         }
     }
 
@@ -17,7 +17,8 @@ let index = {
         });
         window.addEventListener("load", ()=>{
             this.selectProfileImg();
-            this.selectAlert();
+            this.selectAlertCount();
+            this.subscribeAlert();
             $(document).on('click', 'tr', function () {
               var dataAlertValue = $(this).data('alert');
 
@@ -29,6 +30,10 @@ let index = {
               });
             });
         });
+        $(document).on("show.bs.modal", "#myModal", () => {
+            this.selectAlert();
+            this.readAllAlert();
+        });
         $(document).on("click", "#btn-deleteAllAlert", () => {
             this.deleteAllAlert();
         });
@@ -41,6 +46,9 @@ let index = {
         $("#checkEmail").on("click", ()=>{
             this.checkEmail();
         });
+        $("#emailCertify").on("keyup", ()=>{
+            this.verifyEmailCode();
+        });
     },
 
     signUp: function() {
@@ -188,7 +196,9 @@ let index = {
             type: "GET",
             url: "/user/info"
         }).done(function(resp) {
-            $("#navbar-interceptor").load(location.href+" #navbar-interceptor");
+            $("#navbar-interceptor").load(location.href+" #navbar-interceptor", function() {
+                index.showAlertCount();
+            });
         });
     },
 
@@ -198,8 +208,56 @@ let index = {
             url: "/user/alert",
             dataType: "text"
         }).done(function(result) {
-            $("#navbar-interceptor").load(location.href+" #navbar-interceptor");
-            $("#alertList").load(location.href+" #alertList");
+            $("#myModal .modal-content").load(location.href+" #myModal .modal-content > *");
+        });
+    },
+
+    selectAlertCount: function() {
+
+        $.ajax({
+            type: "GET",
+            url: "/api/user/alert/count",
+            dataType: "json"
+        }).done(function(resp) {
+            window.alertCount = resp.data;
+            index.showAlertCount();
+        });
+    },
+
+    showAlertCount: function() {
+
+        // 프로필 이미지를 바꾸면서 헤더를 다시 그려도 마지막으로 조회한 알림 수를 표시
+        if (window.alertCount > 0) {
+            $("#btn-alert").text("🔔❗" + window.alertCount).addClass("btn-secondary");
+        } else {
+            $("#btn-alert").text("🔔").removeClass("btn-secondary");
+        }
+    },
+
+    readAllAlert: function() {
+
+        $.ajax({
+            type: "PUT",
+            url: "/api/user/allAlert"
+        }).done(function(resp) {
+            index.selectAlertCount();
+        });
+    },
+
+    subscribeAlert: function() {
+
+        // 로그인한 사용자의 헤더에만 알림 창이 있음
+        if (!window.EventSource || $("#myModal").length == 0 || window.alertSource) {
+            return;
+        }
+
+        window.alertSource = new EventSource("/api/user/alert/subscribe");
+        window.alertSource.addEventListener("alert", () => {
+            this.selectAlertCount();
+
+            if ($("#myModal").hasClass("show")) {
+                this.selectAlert();
+            }
         });
     },
 
@@ -246,33 +304,44 @@ let index = {
 
     checkEmail: function() {
 
-        alert("해당 이메일로 인증번호가 발송되었습니다.")
-        let emailCertify = $("#emailCertify").val();
+        emailCertifyChk = false;
 
         $.ajax({
-              type : "POST",
-              url : "/api/user/emailCode",
-              data : {
-                 "email" : $("#email").val()
-              },
-              success : function(data){
-                 chkEmailCertify(data, emailCertify);
-              }
-           });
-
-            function chkEmailCertify(data, emailCertify){
-                $('#emailCertify').on("keyup", function() {
-                if (data != $('#emailCertify').val()) {
-                    emailCertifyChk = false;
-                    $('#emailCertifyTxt').text("인증번호가 일치하지 않습니다.");
-                    $('#emailCertifyTxt').css('color', 'red');
-                } else {
-                    emailCertifyChk = true;
-                    $('#emailCertifyTxt').text('인증번호 확인 완료');
-                    $('#emailCertifyTxt').css('color', 'red');
-                }
-            })
+            type: "POST",
+            url: "/api/user/emailCode",
+            data: {
+                "email": $("#email").val()
+            },
+            dataType: "json"
+        }).done(function(resp) {
+            alert(resp.message);
+        }).fail(function(error) {
+            alert(JSON.stringify(error));
+        });
+    },
+
+    verifyEmailCode: function() {
+
+        // 인증코드는 서버에만 있으므로 8자리를 모두 입력하면 서버에서 확인
+        if ($("#emailCertify").val().length != 8) {
+            emailCertifyChk = false;
+            $('#emailCertifyTxt').text('');
+            return;
         }
+
+        $.ajax({
+            type: "POST",
+            url: "/api/user/emailCode/verify",
+            data: {
+                "email": $("#email").val(),
+                "code": $("#emailCertify").val()
+            },
+            dataType: "json"
+        }).done(function(resp) {
+            emailCertifyChk = resp.statusCode == 200;
+            $('#emailCertifyTxt').text(resp.message);
+            $('#emailCertifyTxt').css('color', 'red');
+        });
     },
 
     deleteAllAlert: function() {
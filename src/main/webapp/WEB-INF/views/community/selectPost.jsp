@@ -9,7 +9,7 @@
   <input type="text" class="form-control" value="${info.name}" id="principal_name" hidden>
   <span><h1>${post.title}</h1></span>
   <div id="image_wrapper" style="position: relative; display:inline-block; width: 40px; height: 40px; border-radius: 70%; overflow: hidden;">
-      <img id="profileImg" src="/api/profileImg/${post.user.email}" style="position: absolute; width: 100%; height: 100%; object-fit: cover;">
+      <img id="profileImg" src="/api/profileImg/${post.user.email}?v=${post.user.profileImgVersion}&size=avatar" style="position: absolute; width: 100%; height: 100%; object-fit: cover;">
   </div>
   <div style="display:inline-block;">
   ${post.user.name}
@@ -35,7 +35,7 @@
 
       <div style="height:100%; position: relative; display:inline-block;">
           <div id="image_wrapper" style="position: relative; display:inline-block; width: 45px; height: 45px; border-radius: 70%; overflow: hidden;">
-            <img id="profileImg" src="/api/profileImg/${comment.user.email}" style="position: absolute; right: 0%; width: 100%; height: 100%; object-fit: cover;">
+            <img id="profileImg" src="/api/profileImg/${comment.user.email}?v=${comment.user.profileImgVersion}&size=avatar" style="position: absolute; right: 0%; width: 100%; height: 100%; object-fit: cover;">
           </div>
       </div>
 
@@ -80,7 +80,7 @@
                       <div class="reply" style="position: relative; left:1%;">
                       <a style="display: inline-block; color:gray;">└>&nbsp;<div style="height:100%; position: relative; display:inline-block;">
                           <div id="image_wrapper" style="position: relative; display:inline-block; width: 45px; height: 45px; border-radius: 70%; overflow: hidden;">
-                            <img id="profileImg" src="/api/profileImg/${reply.user.email}" style="position: absolute; right: 0%; width: 100%; height: 100%; object-fit: cover;">
+                            <img id="profileImg" src="/api/profileImg/${reply.user.email}?v=${reply.user.profileImgVersion}&size=avatar" style="position: absolute; right: 0%; width: 100%; height: 100%; object-fit: cover;">
                           </div>
                       </div>
 
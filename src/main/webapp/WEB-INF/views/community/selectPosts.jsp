@@ -34,7 +34,7 @@
             <td><a href="/community/selectPost/${post.id}">${post.title}</a></td>
             <td>
                 <div id="image_wrapper" style="position: relative; display:inline-block; width: 25px; height: 25px; border-radius: 70%; overflow: hidden;">
-                  <img id="profileImg" src="/api/profileImg/${post.user.email}" style="position: absolute; right: 0%; width: 100%; height: 100%; object-fit: cover;">
+                  <img id="profileImg" src="/api/profileImg/${post.user.email}?v=${post.user.profileImgVersion}&size=avatar" style="position: absolute; right: 0%; width: 100%; height: 100%; object-fit: cover;">
                 </div>
                 <a style="bottom:10%;">${post.user.name}</a>
             </td>
@@ -67,24 +67,15 @@
           <c:otherwise>
             <li class="nav-item">
               <div id="navbar_image_wrapper" style="position: relative; width: 40px; height: 40px; left: 20px; border-radius: 70%; overflow: hidden; border: 3px solid white;">
-                <img id="profileImg" src="/api/profileImg" style="position: absolute; width: 100%; height: 100%; object-fit: cover;">
+                <img id="profileImg" src="/api/profileImg?v=${img.profileImgVersion}&size=avatar" style="position: absolute; width: 100%; height: 100%; object-fit: cover;">
               </div>
             </li>
           </c:otherwise>
         </c:choose>
 
-        <c:choose>
-        <c:when test="${empty alerts.content}" >
-        <div style="position: relative; left: 8%; height: 20px; bottom: 3px;">
-            <button type="button" style="width: 75px; display: inline-block; position: relative; background-color: #7a46c5;" class="btn btn btn-lg" data-toggle="modal" data-target="#myModal">🔔</button>
-        </div>
-        </c:when>
-        <c:otherwise>
         <div style="position: relative; left: 8%; height: 20px; bottom: 3px;">
-            <button type="button" style="width: 75px; display: inline-block; position: relative; background-color: #7a46c5;" class="btn btn-secondary btn-lg" data-toggle="modal" data-target="#myModal">🔔❗</button>
+            <button type="button" id="btn-alert" style="width: 75px; display: inline-block; position: relative; background-color: #7a46c5;" class="btn btn btn-lg" data-toggle="modal" data-target="#myModal">🔔</button>
         </div>
-        </c:otherwise>
-        </c:choose>
         <!-- Modal -->
         <div id="myModal" class="modal fade" role="dialog" style="z-index: 1050;">
           <div class="modal-dialog">
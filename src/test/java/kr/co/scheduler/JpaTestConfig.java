@@ -0,0 +1,17 @@
+package kr.co.scheduler;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JpaTestConfig: 서비스, 배치 테스트에서 함께 사용하는 JPA 설정
+ * 전체 애플리케이션을 띄우지 않고, 테스트마다 @SpringBootTest(classes = {JpaTestConfig.class, ...}) 로 필요한 빈만 등록
+ */
+@Configuration
+@EnableAutoConfiguration
+@EntityScan(basePackages = "kr.co.scheduler")
+@EnableJpaRepositories(basePackages = "kr.co.scheduler")
+public class JpaTestConfig {
+}
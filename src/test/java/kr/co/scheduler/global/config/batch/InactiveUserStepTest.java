@@ -0,0 +1,166 @@
+package kr.co.scheduler.global.config.batch;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.img.ImgStore;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.config.img.ImgVariantProperties;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.storage.LocalStorageBackend;
+import kr.co.scheduler.global.config.storage.StorageProperties;
+import kr.co.scheduler.global.config.lock.FencingTokenChunkListener;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import kr.co.scheduler.global.config.mail.AlertFiredMail;
+import kr.co.scheduler.global.config.mail.AlertInactiveMail;
+import kr.co.scheduler.global.service.ImgFileCleaner;
+import kr.co.scheduler.global.service.ImgService;
+import kr.co.scheduler.global.service.SchedulerLockService;
+import kr.co.scheduler.user.service.UserPurgeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * InactiveUserStepTest: 미접속 사용자 Step 을 파티셔닝 모드로 실행해도 단일 스레드 모드와 같은 사용자를 처리하는지 확인
+ * 메일 발송은 Mock 으로 대체
+ */
+@SpringBootTest(classes = {JpaTestConfig.class, InactiveUserStepTest.TestConfig.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:inactive-user-step;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.schema-locations=classpath:org/springframework/batch/core/schema-h2.sql",
+        "batch.inactive-user.chunk-size=500",
+        "batch.inactive-user.grid-size=4",
+        "batch.inactive-user.pool-size=4"
+})
+class InactiveUserStepTest {
+
+    private static final int USERS = 2_000;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("processNotLoggedFor10DaysUsersStep")
+    private Step step10Days;
+
+    @Autowired
+    @Qualifier("processNotLoggedFor30DaysUsersStep")
+    private Step step30Days;
+
+    @Autowired
+    @Qualifier("processNotLoggedFor10DaysUsersPartitionStep")
+    private Step partitionStep10Days;
+
+    @Autowired
+    @Qualifier("processNotLoggedFor30DaysUsersPartitionStep")
+    private Step partitionStep30Days;
+
+    @MockBean
+    private AlertInactiveMail alertInactiveMail;
+
+    @MockBean
+    private AlertFiredMail alertFiredMail;
+
+    @Test
+    void partitionedStepsProcessSameUsersAsSingleThreaded() throws Exception {
+
+        assertThat(run("single", step10Days, step30Days)).containsExactly(USERS / 2L, USERS / 2L);
+        assertThat(run("partitioned", partitionStep10Days, partitionStep30Days)).containsExactly(USERS / 2L, USERS / 2L);
+    }
+
+    /**
+     * run: 15일 전 사용자에게는 안내 메일을 보내고 30일 전 사용자는 삭제하는지 확인하고, Step 별 조회 건수 리턴
+     */
+    private List<Long> run(String mode, Step first, Step second) throws Exception {
+
+        seedUsers(USERS);
+        clearInvocations(alertInactiveMail, alertFiredMail);
+
+        Job job = new JobBuilder("inactiveUserStep-" + mode, jobRepository)
+                .start(first)
+                .next(second)
+                .build();
+
+        JobExecution jobExecution = jobLauncher.run(job, new JobParametersBuilder()
+                .addLocalDate("jobStartTime", LocalDate.now())
+                .addLong("run.id", System.nanoTime())
+                .toJobParameters());
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        verify(alertInactiveMail, times(USERS / 2)).sendMessage(any());
+        verify(alertFiredMail, times(USERS / 2)).sendMessage(any());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_user", Long.class)).isEqualTo(USERS / 2L);
+
+        // 파티션 워커는 매니저 Step 에 합산됨
+        return jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> !stepExecution.getStepName().contains(":"))
+                .map(StepExecution::getReadCount)
+                .toList();
+    }
+
+    /**
+     * seedUsers: 절반은 15일 전, 나머지 절반은 30일 전에 마지막으로 로그인한 사용자로 채움
+     */
+    private void seedUsers(int size) {
+
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.execute("TRUNCATE TABLE tbl_user RESTART IDENTITY");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        Date daysAgo15 = Date.valueOf(LocalDate.now().minusDays(15));
+        Date daysAgo30 = Date.valueOf(LocalDate.now().minusDays(30));
+        int batchSize = 10_000;
+
+        for (int from = 0; from < size; from += batchSize) {
+
+            List<Object[]> args = new ArrayList<>();
+
+            for (int i = from; i < Math.min(from + batchSize, size); i++) {
+
+                args.add(new Object[]{"user" + i + "@scheduler.co.kr", "user" + i, "USER", i % 2 == 0 ? daysAgo15 : daysAgo30});
+            }
+
+            jdbcTemplate.batchUpdate("INSERT INTO tbl_user (email, name, role, last_logged_day) VALUES (?, ?, ?, ?)", args);
+        }
+    }
+
+    @Configuration
+    @EnableBatchProcessing
+    @Import({BatchJob.class, InactiveUserBatchProperties.class, UserPurgeService.class, ImgService.class, ImgFileCleaner.class,
+            ImgVariants.class, ImgVariantProperties.class, ImgStore.class, ImgStoreProperties.class,
+            LocalStorageBackend.class, StorageProperties.class,
+            FencingTokenChunkListener.class, SchedulerLockService.class, SchedulerLockProperties.class})
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,117 @@
+package kr.co.scheduler.global.config.batch;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.lock.FencingTokenChunkListener;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import kr.co.scheduler.global.service.OutboxService;
+import kr.co.scheduler.global.service.SchedulerLockService;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, ProjectDeadlineBatchJobTest.TestConfig.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-deadline-batch;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.schema-locations=classpath:org/springframework/batch/core/schema-h2.sql",
+        "batch.project-deadline.alert-chunk-size=5"
+})
+class ProjectDeadlineBatchJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 7, 31);
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private Job sendProjectDeadlineAlertJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void restartResumesAfterLastCommittedChunk() throws Exception {
+
+        jdbcTemplate.update("INSERT INTO tbl_user (email, name, role, target_token) VALUES ('writer@scheduler.co.kr', '작성자', 'USER', 'token')");
+        Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM tbl_user WHERE email = 'writer@scheduler.co.kr'", Long.class);
+
+        // 마감일이 0 ~ 9일 남은 활성화 프로젝트 30개 중 7일 이내인 24개와, 비활성화 프로젝트 10개
+        for (int i = 0; i < 30; i++) {
+
+            insertProject("project" + i, TODAY.plusDays(i % 10), "Y", userId);
+        }
+
+        for (int i = 0; i < 10; i++) {
+
+            insertProject("inactive" + i, TODAY.plusDays(1), "N", userId);
+        }
+
+        // 웹 푸시 토큰이 없는 사용자의 프로젝트 5개는 웹 푸시 없이 알림만 저장
+        jdbcTemplate.update("INSERT INTO tbl_user (email, name, role) VALUES ('tokenless@scheduler.co.kr', '토큰없음', 'USER')");
+        Long tokenlessId = jdbcTemplate.queryForObject("SELECT user_id FROM tbl_user WHERE email = 'tokenless@scheduler.co.kr'", Long.class);
+
+        for (int i = 0; i < 5; i++) {
+
+            insertProject("tokenless" + i, TODAY.plusDays(1), "Y", tokenlessId);
+        }
+
+        // 세 번째 청크의 첫 프로젝트(project12)는 알림 내용이 컬럼 길이를 넘어 발송 요청을 저장하지 못하는 상황
+        jdbcTemplate.update("UPDATE tbl_project SET title = ? WHERE title = 'project12'", "project12" + "-".repeat(240));
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLocalDate("jobStartTime", TODAY)
+                .toJobParameters();
+
+        JobExecution failed = jobLauncher.run(sendProjectDeadlineAlertJob, jobParameters);
+
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(countOutboxes()).isEqualTo(10);
+
+        jdbcTemplate.update("UPDATE tbl_project SET title = 'project12' WHERE title LIKE 'project12-%'");
+
+        JobExecution restarted = jobLauncher.run(sendProjectDeadlineAlertJob, jobParameters);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(restarted.getStepExecutions().iterator().next().getReadCount()).isEqualTo(19);
+        assertThat(countOutboxes()).isEqualTo(29);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT alert_content) FROM tbl_outbox", Long.class)).isEqualTo(29);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_outbox WHERE push_token IS NULL", Long.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_outbox WHERE alert_content = ? AND push_token = 'token'",
+                Long.class, "작성자님의 플래너 project3 만기일이 3일 남았습니다.")).isOne();
+
+        // 알림과 웹 푸시는 OutboxDispatcher 가 처리하므로 배치에서는 저장하지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert_user", Long.class)).isZero();
+    }
+
+    private void insertProject(String title, LocalDate endPRJ, String activeYn, Long userId) {
+
+        jdbcTemplate.update("INSERT INTO tbl_project (title, description, endprj, active_yn, complete_yn, user_id) VALUES (?, '', ?, ?, 'N', ?)",
+                title, Date.valueOf(endPRJ), activeYn, userId);
+    }
+
+    private Long countOutboxes() {
+
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_outbox", Long.class);
+    }
+
+    @Configuration
+    @EnableBatchProcessing
+    @Import({ProjectDeadlineBatchJob.class, ProjectDeadlineProperties.class, OutboxService.class,
+            FencingTokenChunkListener.class, SchedulerLockService.class, SchedulerLockProperties.class})
+    static class TestConfig {
+    }
+}
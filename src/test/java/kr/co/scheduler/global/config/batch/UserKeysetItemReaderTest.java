@@ -0,0 +1,100 @@
+package kr.co.scheduler.global.config.batch;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = JpaTestConfig.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-keyset-reader;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserKeysetItemReaderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 7, 31);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        jdbcTemplate.execute("DELETE FROM tbl_user");
+
+        // 홀수 번째는 40일 전, 짝수 번째는 어제 로그인한 사용자
+        for (int i = 0; i < 25; i++) {
+
+            LocalDate lastLoggedDay = i % 2 == 0 ? TODAY.minusDays(40) : TODAY.minusDays(1);
+
+            jdbcTemplate.update("INSERT INTO tbl_user (email, name, role, last_logged_day) VALUES (?, ?, 'USER', ?)",
+                    "user" + i + "@scheduler.co.kr", "user" + i, Date.valueOf(lastLoggedDay));
+        }
+    }
+
+    @Test
+    void readsEveryMatchingUserWhileReadUsersAreDeleted() {
+
+        UserKeysetItemReader reader = reader(0, Long.MAX_VALUE);
+        reader.open(new ExecutionContext());
+
+        List<String> emails = new ArrayList<>();
+        User user;
+
+        while ((user = reader.read()) != null) {
+
+            emails.add(user.getEmail());
+            userRepository.deleteById(user.getId()); // Writer 가 읽은 사용자를 바로 삭제하는 상황
+        }
+
+        assertThat(emails).hasSize(13);
+        assertThat(userRepository.count()).isEqualTo(12);
+    }
+
+    @Test
+    void resumesFromLastIdStoredInExecutionContext() {
+
+        ExecutionContext executionContext = new ExecutionContext();
+
+        UserKeysetItemReader first = reader(0, Long.MAX_VALUE);
+        first.open(executionContext);
+
+        for (int i = 0; i < 5; i++) {
+
+            first.read();
+        }
+
+        first.update(executionContext);
+
+        UserKeysetItemReader restarted = reader(0, Long.MAX_VALUE);
+        restarted.open(executionContext);
+
+        int count = 0;
+
+        while (restarted.read() != null) {
+
+            count++;
+        }
+
+        assertThat(count).isEqualTo(8);
+    }
+
+    private UserKeysetItemReader reader(long minId, long maxId) {
+
+        return new UserKeysetItemReader("reader", userRepository, LocalDate.EPOCH, TODAY.minusDays(29), minId, maxId, 4);
+    }
+}
@@ -0,0 +1,58 @@
+package kr.co.scheduler.global.config.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedByWeight() {
+
+        LocalCache<String, String> cache = new LocalCache<>(30, 60_000);
+
+        cache.put("a", "A", 10);
+        cache.put("b", "B", 10);
+        cache.put("c", "C", 10);
+        cache.get("a");
+        cache.put("d", "D", 10);
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.weight()).isEqualTo(30);
+        assertThat(cache.evictions()).isOne();
+
+        // 같은 키에 다시 저장하면 이전 무게를 빼고 계산
+        cache.put("a", "A2", 20);
+
+        assertThat(cache.weight()).isEqualTo(30);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictions()).isEqualTo(2);
+
+        cache.remove("a");
+        assertThat(cache.weight()).isEqualTo(10);
+
+        cache.clear();
+        assertThat(cache.weight()).isZero();
+        assertThat(cache.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void expiresAfterTtlAndUpdatesOnlyPresentKeys() throws Exception {
+
+        LocalCache<Long, Long> cache = new LocalCache<>(10, 100);
+
+        cache.put(1L, 5L, 1);
+        cache.update(1L, count -> count + 1);
+        cache.update(2L, count -> count + 1);
+
+        assertThat(cache.get(1L)).isEqualTo(6L);
+        assertThat(cache.get(2L)).isNull();
+
+        Thread.sleep(150);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+    }
+}
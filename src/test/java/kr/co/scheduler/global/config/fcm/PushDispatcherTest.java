@@ -0,0 +1,104 @@
+package kr.co.scheduler.global.config.fcm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PushDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PushProperties properties;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        properties = new PushProperties();
+        properties.setTransport("loopback");
+        properties.setBatchesPerSecond(1000);
+    }
+
+    @Test
+    void sendsInBatchesOfAtMostFiveHundredAndKeepsOrder() throws Exception {
+
+        properties.setBatchSize(1000); // FCM 제한인 500으로 줄어듦
+
+        LoopbackPushTransport transport = new LoopbackPushTransport(properties);
+        PushDispatcher pushDispatcher = new PushDispatcher(transport, properties, meterRegistry);
+
+        List<PushResult> results = pushDispatcher.dispatch(messages(1250)).join();
+
+        pushDispatcher.stop();
+
+        assertThat(results).extracting(PushResult::getTargetToken)
+                .containsExactlyElementsOf(IntStream.range(0, 1250).mapToObj(i -> "token" + i).toList());
+        assertThat(results).allMatch(PushResult::isSuccess);
+        assertThat(transport.getBatches()).isEqualTo(3); // 500 + 500 + 250
+        assertThat(meterRegistry.get("fcm.push.send.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void limitsBatchesPerSecond() throws Exception {
+
+        properties.setBatchSize(10);
+        properties.setBatchesPerSecond(10);
+
+        PushDispatcher pushDispatcher = new PushDispatcher(new LoopbackPushTransport(properties), properties, meterRegistry);
+
+        long start = System.nanoTime();
+        pushDispatcher.dispatch(messages(110)).join();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        pushDispatcher.stop();
+
+        // 11개 묶음 중 첫 묶음은 바로, 나머지는 100ms 간격으로 전송
+        assertThat(millis).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    void completesExceptionallyWhenBatchCannotBeSent() throws Exception {
+
+        properties.setBatchSize(2);
+
+        PushTransport failing = messages -> {
+
+            if (messages.get(0).getTargetToken().equals("token2")) {
+
+                throw new IllegalStateException("FCM 서버 오류");
+            }
+
+            return messages.stream().map(message -> PushResult.success(message.getTargetToken(), "id")).toList();
+        };
+
+        PushDispatcher pushDispatcher = new PushDispatcher(failing, properties, meterRegistry);
+        CompletableFuture<List<PushResult>> future = pushDispatcher.dispatch(messages(5));
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("FCM 서버 오류");
+
+        pushDispatcher.stop();
+    }
+
+    private List<PushMessage> messages(int size) {
+
+        List<PushMessage> messages = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            messages.add(new PushMessage("token" + i, "SPAP 스케줄러", "알림 " + i));
+        }
+
+        return messages;
+    }
+}
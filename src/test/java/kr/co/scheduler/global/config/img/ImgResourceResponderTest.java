@@ -0,0 +1,243 @@
+package kr.co.scheduler.global.config.img;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = ImgResourceResponderTest.TestConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:img-resource;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+class ImgResourceResponderTest {
+
+    private static Path dir;
+    private static byte[] large;
+    private static byte[] small;
+
+    private static volatile boolean sentWithSendfile;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void createImages() throws IOException {
+
+        dir = Files.createTempDirectory("img-resource");
+        large = randomBytes(2 * 1024 * 1024);
+        small = randomBytes(1024);
+
+        Files.write(dir.resolve("large.png"), large);
+        Files.write(dir.resolve("small.jpg"), small);
+    }
+
+    @Test
+    void sendsWholeLargeImageWithSendfile() throws Exception {
+
+        HttpResponse<byte[]> response = get("/img/large.png", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("image/png");
+        assertThat(response.headers().firstValueAsLong("Content-Length")).hasValue(large.length);
+        assertThat(response.headers().firstValue("Accept-Ranges")).hasValue("bytes");
+        assertThat(response.body()).isEqualTo(large);
+        assertThat(sentWithSendfile).isTrue();
+    }
+
+    @Test
+    void streamsSmallImageAndRanges() throws Exception {
+
+        HttpResponse<byte[]> whole = get("/img/small.jpg", null);
+
+        assertThat(whole.statusCode()).isEqualTo(200);
+        assertThat(whole.headers().firstValue("Content-Type")).hasValue("image/jpeg");
+        assertThat(whole.headers().firstValueAsLong("Content-Length")).hasValue(small.length);
+        assertThat(whole.body()).isEqualTo(small);
+        assertThat(sentWithSendfile).isFalse();
+
+        HttpResponse<byte[]> range = get("/img/large.png", "bytes=1000-1999");
+
+        assertThat(range.statusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(range.headers().firstValue("Content-Range")).hasValue("bytes 1000-1999/" + large.length);
+        assertThat(range.headers().firstValueAsLong("Content-Length")).hasValue(1000);
+        assertThat(range.body()).isEqualTo(Arrays.copyOfRange(large, 1000, 2000));
+        assertThat(sentWithSendfile).isFalse();
+
+        HttpResponse<byte[]> suffix = get("/img/large.png", "bytes=-10");
+
+        assertThat(suffix.statusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(suffix.body()).isEqualTo(Arrays.copyOfRange(large, large.length - 10, large.length));
+    }
+
+    @Test
+    void answersNotModifiedForMatchingValidators() throws Exception {
+
+        HttpResponse<byte[]> first = get("/img/large.png", null);
+        String eTag = first.headers().firstValue("ETag").orElseThrow();
+        String lastModified = first.headers().firstValue("Last-Modified").orElseThrow();
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        assertThat(first.headers().firstValue("Cache-Control")).hasValue("max-age=31536000, immutable");
+
+        HttpResponse<byte[]> byETag = send(HttpRequest.newBuilder(uri("/img/large.png")).header("If-None-Match", eTag));
+
+        assertThat(byETag.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(byETag.body()).isEmpty();
+        assertThat(byETag.headers().firstValue("ETag")).hasValue(eTag);
+        assertThat(byETag.headers().firstValue("Cache-Control")).hasValue("max-age=31536000, immutable");
+        assertThat(sentWithSendfile).isFalse();
+
+        HttpResponse<byte[]> byDate = send(HttpRequest.newBuilder(uri("/img/large.png")).header("If-Modified-Since", lastModified));
+
+        assertThat(byDate.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // 다른 파일의 ETag 로 요청하면 전체 응답
+        HttpResponse<byte[]> changed = send(HttpRequest.newBuilder(uri("/img/large.png")).header("If-None-Match", "\"other\""));
+
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.body()).isEqualTo(large);
+    }
+
+    @Test
+    void respondsNotFoundForMissingImage() throws Exception {
+
+        assertThat(get("/img/missing.png", null).statusCode()).isEqualTo(404);
+    }
+
+    /**
+     * 기존 방식(파일 전체를 byte[] 로 읽어 응답)은 요청마다 이미지 크기 이상을 할당하고, Resource 응답은 이미지 크기와 무관하게 할당
+     */
+    @Test
+    void heapPerRequestDoesNotGrowWithImageSize() throws Exception {
+
+        int requests = 50;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < 20; i++) {
+
+            get("/legacy/large.png", null);
+            get("/img/large.png", null);
+        }
+
+        long legacyBytes = serverAllocatedBytes(threads);
+
+        for (int i = 0; i < requests; i++) {
+
+            get("/legacy/large.png", null);
+        }
+
+        legacyBytes = serverAllocatedBytes(threads) - legacyBytes;
+
+        long resourceBytes = serverAllocatedBytes(threads);
+
+        for (int i = 0; i < requests; i++) {
+
+            get("/img/large.png", null);
+        }
+
+        resourceBytes = serverAllocatedBytes(threads) - resourceBytes;
+
+        assertThat(legacyBytes / requests).isGreaterThanOrEqualTo(large.length);
+        assertThat(resourceBytes / requests).isLessThan(large.length / 10);
+    }
+
+    private HttpResponse<byte[]> get(String path, String range) throws Exception {
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path));
+
+        if (range != null) {
+
+            builder.header("Range", range);
+        }
+
+        return send(builder);
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder builder) throws Exception {
+
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long serverAllocatedBytes(com.sun.management.ThreadMXBean threads) {
+
+        long[] ids = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("http-nio-"))
+                .mapToLong(Thread::getId)
+                .toArray();
+
+        return Arrays.stream(threads.getThreadAllocatedBytes(ids)).filter(bytes -> bytes > 0).sum();
+    }
+
+    private static byte[] randomBytes(int size) {
+
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+
+        return bytes;
+    }
+
+    @Configuration
+    @EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, ManagementWebSecurityAutoConfiguration.class})
+    @Import({ImgResourceResponder.class, TestConfig.ImgController.class})
+    static class TestConfig {
+
+        @RestController
+        static class ImgController {
+
+            private final ImgResourceResponder imgResourceResponder;
+
+            ImgController(ImgResourceResponder imgResourceResponder) {
+
+                this.imgResourceResponder = imgResourceResponder;
+            }
+
+            @GetMapping("/img/{name}")
+            ResponseEntity<Resource> img(@PathVariable String name, HttpServletRequest request) throws IOException {
+
+                ResponseEntity<Resource> response = imgResourceResponder.respond(new FileSystemResource(dir.resolve(name)), request,
+                        ImgResourceResponder.immutable());
+                sentWithSendfile = request.getAttribute("org.apache.tomcat.sendfile.filename") != null;
+
+                return response;
+            }
+
+            @GetMapping("/legacy/{name}")
+            ResponseEntity<byte[]> legacy(@PathVariable String name) throws IOException {
+
+                return new ResponseEntity<>(Files.readAllBytes(dir.resolve(name)), HttpStatus.OK);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package kr.co.scheduler.global.config.img;
+
+import kr.co.scheduler.global.config.storage.LocalStorageBackend;
+import kr.co.scheduler.global.config.storage.StorageProperties;
+import kr.co.scheduler.global.enums.ImgVariant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImgVariantsTest {
+
+    @TempDir
+    Path dir;
+
+    private LocalStorageBackend storageBackend;
+
+    private ImgVariants imgVariants;
+
+    @BeforeEach
+    void setUp() {
+
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.getLocal().setRoot(dir.resolve("storage").toString());
+        storageProperties.getLocal().setTempDir(dir.resolve("tmp").toString());
+
+        storageBackend = new LocalStorageBackend(storageProperties);
+        imgVariants = new ImgVariants(storageBackend, new ImgVariantProperties());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+
+        imgVariants.stop();
+        storageBackend.stop();
+    }
+
+    @Test
+    void generatesVariantsKeepingAspectRatio() throws Exception {
+
+        String original = write("uuid_photo.jpg", image(3000, 2000, false), "jpg");
+
+        assertThat(imgVariants.generateAsync(original, "uuid_photo.jpg").get(10, TimeUnit.SECONDS)).isEqualTo("content.jpg,avatar.jpg");
+
+        BufferedImage content = ImageIO.read(imgVariants.find("uuid_photo.jpg", ImgVariant.CONTENT).getFile());
+        BufferedImage avatar = ImageIO.read(imgVariants.find("uuid_photo.jpg", ImgVariant.AVATAR).getFile());
+
+        assertThat(content.getWidth()).isEqualTo(1024);
+        assertThat(content.getHeight()).isEqualTo(683);
+        assertThat(avatar.getWidth()).isEqualTo(64);
+        assertThat(avatar.getHeight()).isEqualTo(43);
+        assertThat(imgVariants.find("uuid_photo.jpg", ImgVariant.CONTENT).getFilename()).endsWith(".jpg");
+        assertThat(storageBackend.exists("variant/content/uuid_photo.jpg.jpg")).isTrue();
+
+        // 만든 목록을 넘기면 저장소를 확인하지 않고 키로 조회
+        assertThat(imgVariants.find("uuid_photo.jpg", ImgVariant.AVATAR, "content.jpg,avatar.jpg").getFilename()).isEqualTo("uuid_photo.jpg.jpg");
+        assertThat(imgVariants.find("uuid_photo.jpg", ImgVariant.AVATAR, "")).isNull();
+
+        imgVariants.delete("uuid_photo.jpg").join();
+
+        assertThat(imgVariants.find("uuid_photo.jpg", ImgVariant.CONTENT)).isNull();
+        assertThat(imgVariants.find("uuid_photo.jpg", ImgVariant.AVATAR)).isNull();
+    }
+
+    @Test
+    void keepsTransparencyAndSkipsSmallImages() throws Exception {
+
+        String transparent = write("uuid_logo.png", image(200, 200, true), "png");
+        String small = write("uuid_small.png", image(50, 30, false), "png");
+
+        assertThat(imgVariants.generateAsync(transparent, "uuid_logo.png").get(10, TimeUnit.SECONDS)).isEqualTo("avatar.png");
+        assertThat(imgVariants.generateAsync(small, "uuid_small.png").get(10, TimeUnit.SECONDS)).isEmpty();
+
+        // 1024 보다 작으므로 본문용은 만들지 않고, 투명도를 유지하도록 PNG 로 저장
+        assertThat(imgVariants.find("uuid_logo.png", ImgVariant.CONTENT)).isNull();
+        Resource avatar = imgVariants.find("uuid_logo.png", ImgVariant.AVATAR);
+        assertThat(avatar.getFilename()).endsWith(".png");
+        assertThat(ImageIO.read(avatar.getFile()).getColorModel().hasAlpha()).isTrue();
+
+        assertThat(imgVariants.find("uuid_small.png", ImgVariant.AVATAR)).isNull();
+    }
+
+    @Test
+    void ignoresMissingOriginalsNonImagesAndEscapingNames() throws Exception {
+
+        Path text = Files.writeString(dir.resolve("uuid_note.jpg"), "not an image");
+        storageBackend.put("original/uuid_note.jpg", text);
+
+        assertThat(imgVariants.generateAsync("original/uuid_missing.jpg", "uuid_missing.jpg").get(10, TimeUnit.SECONDS)).isNull();
+        assertThat(imgVariants.generateAsync("original/uuid_note.jpg", "uuid_note.jpg").get(10, TimeUnit.SECONDS)).isEmpty();
+
+        assertThat(imgVariants.find("uuid_missing.jpg", ImgVariant.AVATAR)).isNull();
+        assertThat(imgVariants.find("uuid_note.jpg", ImgVariant.AVATAR)).isNull();
+        assertThat(imgVariants.find("../../uuid_note", ImgVariant.AVATAR)).isNull();
+    }
+
+    @Test
+    void parsesSizeParameter() {
+
+        assertThat(ImgVariant.of(null, ImgVariant.CONTENT)).isEqualTo(ImgVariant.CONTENT);
+        assertThat(ImgVariant.of("avatar", ImgVariant.CONTENT)).isEqualTo(ImgVariant.AVATAR);
+        assertThat(ImgVariant.of("original", ImgVariant.CONTENT)).isNull();
+        assertThatThrownBy(() -> ImgVariant.of("huge", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String write(String name, BufferedImage image, String format) throws Exception {
+
+        Path path = dir.resolve(name);
+        ImageIO.write(image, format, path.toFile());
+        storageBackend.put("original/" + name, path);
+
+        return "original/" + name;
+    }
+
+    private static BufferedImage image(int width, int height, boolean alpha) {
+
+        BufferedImage image = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+
+        graphics.setColor(new Color(120, 80, 200, alpha ? 128 : 255));
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+
+        return image;
+    }
+}
@@ -0,0 +1,107 @@
+package kr.co.scheduler.global.config.img;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.scheduler.global.enums.ImgVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileImgCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void servesCachedBytesUntilVersionChangesOrEvicted() throws Exception {
+
+        ProfileImgCache cache = cache(1024 * 1024, 64 * 1024);
+        Resource file = image("uuid_a.jpg", 1000);
+        long lastModified = file.lastModified();
+
+        assertThat(cache.get("a@scheduler.co.kr", null, "uuid")).isNull();
+
+        ProfileImgCache.Entry entry = cache.put("a@scheduler.co.kr", null, "uuid", file);
+
+        // 캐시한 뒤 파일이 지워져도 메모리에서 응답하고, 파일명과 수정 시각은 그대로 유지
+        Files.delete(file.getFile().toPath());
+
+        ProfileImgCache.Entry cached = cache.get("a@scheduler.co.kr", null, "uuid");
+        assertThat(cached).isSameAs(entry);
+        assertThat(cached.getResource().contentLength()).isEqualTo(1000);
+        assertThat(cached.getResource().getFilename()).isEqualTo("uuid_a.jpg");
+        assertThat(cached.getResource().lastModified()).isEqualTo(lastModified);
+
+        // 버전을 지정하지 않으면 캐시한 버전을 사용하고, 다른 버전을 요청하면 다시 조회
+        assertThat(cache.get("a@scheduler.co.kr", null, null)).isSameAs(entry);
+        assertThat(cache.get("a@scheduler.co.kr", null, "new-uuid")).isNull();
+        assertThat(cache.get("a@scheduler.co.kr", ImgVariant.AVATAR, "uuid")).isNull();
+
+        cache.put("a@scheduler.co.kr", ImgVariant.AVATAR, "uuid", image("uuid_a.jpg.jpg", 100));
+        cache.evict("a@scheduler.co.kr");
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+        assertThat(meterRegistry.get("img.profile.cache.gets").tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("img.profile.cache.gets").tag("result", "miss").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("img.profile.cache.hit.ratio").gauge().value()).isEqualTo(0.4);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedByBytes() throws Exception {
+
+        ProfileImgCache cache = cache(3 * (1000 + 128), 64 * 1024);
+
+        cache.put("a", null, "1", image("a.png", 1000));
+        cache.put("b", null, "1", image("b.png", 1000));
+        cache.put("c", null, "1", image("c.png", 1000));
+        cache.get("a", null, "1");
+        cache.put("d", null, "1", image("d.png", 1000));
+
+        assertThat(cache.get("a", null, "1")).isNotNull();
+        assertThat(cache.get("b", null, "1")).isNull();
+        assertThat(cache.get("c", null, "1")).isNotNull();
+        assertThat(cache.get("d", null, "1")).isNotNull();
+        assertThat(cache.bytes()).isEqualTo(3 * (1000 + 128));
+        assertThat(meterRegistry.get("img.profile.cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sharesDefaultImageAndSkipsLargeOrMissingFiles() throws Exception {
+
+        ProfileImgCache cache = cache(1024 * 1024, 500);
+
+        Resource first = cache.put("a", null, "0", null).getResource();
+        Resource second = cache.put("b", ImgVariant.AVATAR, "0", null).getResource();
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.getFilename()).isEqualTo("profile-spap.png");
+        assertThat(cache.bytes()).isEqualTo(2 * 128);
+
+        Resource large = image("large.jpg", 1000);
+        assertThat(cache.put("c", null, "1", large).getResource()).isSameAs(large);
+        assertThat(cache.put("d", null, "1", new FileSystemResource(dir.resolve("missing.jpg"))).getResource().exists()).isFalse();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private ProfileImgCache cache(long maxBytes, long maxEntryBytes) throws Exception {
+
+        ProfileImgCacheProperties properties = new ProfileImgCacheProperties();
+        properties.setMaxBytes(maxBytes);
+        properties.setMaxEntryBytes(maxEntryBytes);
+
+        return new ProfileImgCache(properties, meterRegistry);
+    }
+
+    private Resource image(String name, int size) throws Exception {
+
+        return new FileSystemResource(Files.write(dir.resolve(name), new byte[size]));
+    }
+}
@@ -0,0 +1,109 @@
+package kr.co.scheduler.global.config.img;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummernoteImgRefsTest {
+
+    @Test
+    void extractsImgSrcFileNamesInOrderWithoutDuplicates() {
+
+        String content = "<p>내용</p>"
+                + "<p><img src=\"/api/summernoteImg?uploadFileName=a1.png\" style=\"width: 100%;\" data-filename=\"a.png\"></p>"
+                + "<p><IMG style=\"width: 50%;\" SRC = '/api/summernoteImg?uploadFileName=uuid_캡처 1.png'></p>"
+                + "<p><img src=\"http://localhost:8080/api/summernoteImg?uploadFileName=uuid_a&amp;b.png\"></p>"
+                + "<p><img src=/api/summernoteImg?uploadFileName=b2.jpg></p>"
+                + "<p><img src=\"/api/summernoteImg?uploadFileName=a1.png\"></p>";
+
+        assertThat(SummernoteImgRefs.extract(content))
+                .containsExactly("a1.png", "uuid_캡처 1.png", "uuid_a&b.png", "b2.jpg")
+                .isEqualTo(jsoup(content));
+    }
+
+    @Test
+    void ignoresUrlsOutsideImgSrc() {
+
+        String content = "<p>/api/summernoteImg?uploadFileName=text.png</p>"
+                + "<p>&lt;img src=\"/api/summernoteImg?uploadFileName=escaped.png\"&gt;</p>"
+                + "<p><a href=\"/api/summernoteImg?uploadFileName=link.png\">링크</a></p>"
+                + "<p><img data-src=\"/api/summernoteImg?uploadFileName=data.png\"></p>"
+                + "<p><img src=\"/api/summernoteImg?uploadFileName=\"></p>"
+                + "<p><img src=\"/api/summernoteImg?uploadFileName=a=b.png\"></p>"
+                + "<p><img src=\"/api/summernoteImg?uploadFileName=unclosed.png";
+
+        assertThat(SummernoteImgRefs.extract(content)).isEmpty();
+        assertThat(SummernoteImgRefs.extract(null)).isEmpty();
+        assertThat(SummernoteImgRefs.extract("")).isEmpty();
+    }
+
+    /**
+     * 기존 방식(Jsoup 으로 DOM 생성 후 img 선택)과 같은 파일명을 추출하면서 할당 바이트는 적음
+     * 이미지 30장을 포함한 약 1MB 내용 기준
+     */
+    @Test
+    void extractsSameNamesAsJsoupWithLessAllocation() {
+
+        String content = content(30, 1024 * 1024);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        assertThat(SummernoteImgRefs.extract(content)).isEqualTo(jsoup(content)).hasSize(30);
+
+        long bytes = threads.getCurrentThreadAllocatedBytes();
+        jsoup(content);
+        long jsoupBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+        bytes = threads.getCurrentThreadAllocatedBytes();
+        SummernoteImgRefs.extract(content);
+        long singlePassBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+        assertThat(singlePassBytes).isLessThan(jsoupBytes / 10);
+    }
+
+    /**
+     * jsoup: ImgService 에서 사용하던 기존 추출 방식
+     */
+    private static Set<String> jsoup(String content) {
+
+        Set<String> imgNames = new LinkedHashSet<>();
+
+        for (Element imgElement : Jsoup.parse(content).select("img")) {
+
+            String[] parts = imgElement.attr("src").split("=");
+
+            if (parts.length == 2) {
+
+                imgNames.add(parts[1]);
+            }
+        }
+
+        return imgNames;
+    }
+
+    private static String content(int imgs, int length) {
+
+        StringBuilder content = new StringBuilder(length + 1024);
+        int paragraph = 0;
+
+        while (content.length() < length) {
+
+            content.append("<p style=\"line-height: 1.5;\">업무 내용 ").append(paragraph).append(" <b>중요</b> 진행 상황을 정리합니다.</p>");
+
+            if (paragraph % 200 == 0 && paragraph / 200 < imgs) {
+
+                content.append("<p><img src=\"/api/summernoteImg?uploadFileName=")
+                        .append(String.format("%064x", paragraph)).append(".png\" style=\"width: 100%;\"></p>");
+            }
+
+            paragraph++;
+        }
+
+        return content.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package kr.co.scheduler.global.config.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailDispatchProperties properties;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        properties = new MailDispatchProperties();
+        properties.setWorkers(1);
+        properties.setBatchSize(10);
+        properties.setBackoffMillis(10);
+    }
+
+    @Test
+    void sendsQueuedMessagesInBatches() throws Exception {
+
+        JavaMailSenderImpl javaMailSender = javaMailSender();
+        MailDispatcher mailDispatcher = new MailDispatcher(javaMailSender, properties, meterRegistry);
+
+        for (int i = 0; i < 25; i++) {
+
+            mailDispatcher.dispatch(message(javaMailSender, i));
+        }
+
+        assertThat(mailDispatcher.getQueueDepth()).isEqualTo(25);
+
+        mailDispatcher.start();
+
+        assertThat(greenMail.waitForIncomingEmail(30000, 25)).isTrue();
+
+        mailDispatcher.stop();
+
+        assertThat(mailDispatcher.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("mail.dispatch.send.latency").timer().count()).isEqualTo(3); // 10 + 10 + 5
+        assertThat(meterRegistry.get("mail.dispatch.sent").counter().count()).isEqualTo(25);
+    }
+
+    @Test
+    void retriesTransientFailureWithBackoff() throws Exception {
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl() {
+
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+
+                if (attempts.incrementAndGet() == 1) {
+
+                    throw new MailSendException("SMTP 서버에 연결할 수 없습니다.");
+                }
+
+                super.send(mimeMessages);
+            }
+        };
+        javaMailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        MailDispatcher mailDispatcher = new MailDispatcher(javaMailSender, properties, meterRegistry);
+        mailDispatcher.start();
+
+        mailDispatcher.dispatch(message(javaMailSender, 0));
+
+        assertThat(greenMail.waitForIncomingEmail(30000, 1)).isTrue();
+
+        mailDispatcher.stop();
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.dispatch.retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.dispatch.failed").counter().count()).isZero();
+    }
+
+    private JavaMailSenderImpl javaMailSender() {
+
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        return javaMailSender;
+    }
+
+    private MimeMessage message(JavaMailSenderImpl javaMailSender, int number) throws Exception {
+
+        MimeMessage message = javaMailSender.createMimeMessage();
+        message.setFrom("spap@scheduler.co.kr");
+        message.addRecipients(MimeMessage.RecipientType.TO, "user" + number + "@scheduler.co.kr");
+        message.setSubject("SPAP 테스트 메일 " + number);
+        message.setText("<p>테스트</p>", "utf-8", "html");
+
+        return message;
+    }
+}
@@ -0,0 +1,105 @@
+package kr.co.scheduler.global.config.mail;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateTest {
+
+    @Test
+    void rendersPlaceholdersWithEscapedValues() {
+
+        MailTemplate template = MailTemplate.compile("test", "<h1>{{ name }} 님</h1><p>{{code}}</p><p>{{name}}</p>");
+
+        assertThat(template.getKeys()).containsExactly("name", "code");
+        assertThat(template.render(Map.of("name", "<김진형>", "code", "aB3")))
+                .isEqualTo("<h1>&lt;김진형&gt; 님</h1><p>aB3</p><p>&lt;김진형&gt;</p>");
+    }
+
+    @Test
+    void rejectsBrokenTemplatesAndMissingValues() {
+
+        assertThatThrownBy(() -> MailTemplate.compile("test", "<p>{{code</p>")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MailTemplate.compile("test", "<p>{{ }}</p>")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MailTemplate.compile("test", "<p>{{code}}</p>").render(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void loadsEveryMailTemplateAtStartup() throws Exception {
+
+        MailTemplates mailTemplates = new MailTemplates();
+
+        assertThat(mailTemplates.get("certification").getKeys()).containsExactly("code");
+        assertThat(mailTemplates.get("inactive").getKeys()).containsExactly("name", "lastLoggedDay", "withdrawalDay");
+        assertThat(mailTemplates.get("fired").render(Map.of("name", "사용자", "lastLoggedDay", LocalDate.of(2023, 7, 1))))
+                .contains("안녕하세요, 사용자 님.", "마지막 접속일: 2023-07-01");
+        assertThatThrownBy(() -> mailTemplates.get("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void usesEmailWhenRecipientHasNoName() throws Exception {
+
+        MailTemplates mailTemplates = new MailTemplates();
+        LocalDate lastLoggedDay = LocalDate.of(2023, 7, 1);
+
+        // 이름 없이 가입한 소셜 로그인 사용자
+        String inactive = (String) new AlertInactiveMail(new JavaMailSenderImpl(), null, mailTemplates)
+                .createMessage("kakao@scheduler.co.kr", null, lastLoggedDay).getContent();
+        String fired = (String) new AlertFiredMail(new JavaMailSenderImpl(), null, mailTemplates)
+                .createMessage("naver@scheduler.co.kr", "", lastLoggedDay).getContent();
+
+        assertThat(inactive).contains("안녕하세요, kakao@scheduler.co.kr 님.", "2023-07-31");
+        assertThat(fired).contains("안녕하세요, naver@scheduler.co.kr 님.");
+        assertThat(MailTemplates.recipientName("김진형", "user@scheduler.co.kr")).isEqualTo("김진형");
+    }
+
+    /**
+     * 컴파일한 템플릿은 기존 방식(문자열 += 로 본문 생성)보다 적게 할당
+     */
+    @Test
+    void compiledTemplateAllocatesLessThanConcatenation() throws Exception {
+
+        int size = 1_000;
+        MailTemplate template = new MailTemplates().get("inactive");
+        LocalDate lastLoggedDay = LocalDate.of(2023, 7, 1);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long length = 0;
+
+        long bytes = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < size; i++) {
+
+            String msgg = "";
+            msgg += "<div style='margin:100px;'>";
+            msgg += "<h1 style='color: #956be8';> 안녕하세요, " + "사용자" + i + " 님.</h1>";
+            msgg += "<h1 style='color: #956be8';> 당신의 일정 관리 매니저 SPAP 입니다.</h1>";
+            msgg += "<br><br>";
+            msgg += "<p>10일간 미접속 사용자에게 전송되는 메일입니다. (마지막 접속일: " + lastLoggedDay + ")<p>";
+            msgg += "<p>회원님의 개인정보보호 및 시스템 유지 목적으로 30일간 미접속을 유지할 경우 " + lastLoggedDay.plusDays(30) + " 에 계정이 탈퇴처리되는 점 양해 부탁드립니다.<p>";
+            msgg += "<br><br>";
+            msgg += "<p>감사합니다.<p>";
+            msgg += "</div>";
+            length += msgg.length();
+        }
+
+        long concatBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+        bytes = threads.getCurrentThreadAllocatedBytes();
+
+        for (int i = 0; i < size; i++) {
+
+            length += template.render(Map.of("name", "사용자" + i, "lastLoggedDay", lastLoggedDay, "withdrawalDay", lastLoggedDay.plusDays(30))).length();
+        }
+
+        long templateBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+        assertThat(length).isPositive();
+        assertThat(templateBytes).isLessThan(concatBytes);
+    }
+}
@@ -0,0 +1,226 @@
+package kr.co.scheduler.global.config.outbox;
+
+import kr.co.scheduler.JpaTestConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.scheduler.global.config.alert.AlertCountCache;
+import kr.co.scheduler.global.config.alert.AlertCountProperties;
+import kr.co.scheduler.global.config.fcm.PushDispatcher;
+import kr.co.scheduler.global.config.fcm.PushMessage;
+import kr.co.scheduler.global.config.fcm.PushProperties;
+import kr.co.scheduler.global.config.fcm.PushResult;
+import kr.co.scheduler.global.config.fcm.PushTransport;
+import kr.co.scheduler.global.config.sse.AlertEmitterRegistry;
+import kr.co.scheduler.global.config.sse.SseProperties;
+import kr.co.scheduler.global.entity.Outbox;
+import kr.co.scheduler.global.enums.OutboxStatus;
+import kr.co.scheduler.global.repository.AlertJdbcRepository;
+import kr.co.scheduler.global.repository.AlertUserRepository;
+import kr.co.scheduler.global.repository.OutboxRepository;
+import kr.co.scheduler.global.service.AlertService;
+import kr.co.scheduler.global.service.FCMService;
+import kr.co.scheduler.global.service.OutboxService;
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.enums.Role;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {JpaTestConfig.class, OutboxDispatcherTest.TestConfig.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "outbox.batch-size=10",
+        "outbox.poll-interval-millis=3600000"
+})
+class OutboxDispatcherTest {
+
+    private static final List<PushMessage> SENT = Collections.synchronizedList(new ArrayList<>());
+    private static final List<Long> IN_PROGRESS_WHILE_SENDING = Collections.synchronizedList(new ArrayList<>());
+
+    private static OutboxRepository sendingOutboxRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private AlertUserRepository alertUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        SENT.clear();
+        IN_PROGRESS_WHILE_SENDING.clear();
+        sendingOutboxRepository = outboxRepository;
+        alertUserRepository.deleteAll();
+        outboxRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void dispatchesAlertsAndPushesAndMarksRowsDone() {
+
+        User writer = userRepository.save(user("writer@scheduler.co.kr", "token"));
+        User dead = userRepository.save(user("dead@scheduler.co.kr", "dead-token"));
+
+        List<Outbox> outboxes = new ArrayList<>();
+
+        for (int i = 0; i < 25; i++) {
+
+            outboxes.add(Outbox.builder().userId(writer.getId()).alertContent("마감 " + i).pushTitle("SPAP 스케줄러").pushToken("token").build());
+        }
+
+        outboxes.add(Outbox.builder().userId(dead.getId()).alertContent("마감").pushTitle("SPAP 스케줄러").pushToken("dead-token").build());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+
+            outboxService.enqueueAll(outboxes);
+            outboxService.enqueueAlert("댓글이 달렸습니다.", writer);
+        });
+
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(27);
+
+        assertThat(alertUserRepository.count()).isEqualTo(27);
+        assertThat(SENT).hasSize(26);
+        assertThat(outboxRepository.countByStatus(OutboxStatus.PENDING)).isZero();
+        assertThat(outboxRepository.countByStatus(OutboxStatus.DONE)).isEqualTo(26);
+        assertThat(outboxRepository.countByStatus(OutboxStatus.FAILED)).isOne();
+        assertThat(userRepository.findById(dead.getId()).orElseThrow().getTargetToken()).isNull();
+
+        // 전송하는 동안 가져간 행은 이미 커밋되어 다른 커넥션에서 IN_PROGRESS 로 보임 (전송 중 트랜잭션 없음)
+        assertThat(IN_PROGRESS_WHILE_SENDING).containsExactly(10L, 10L, 7L);
+
+        // 다시 실행해도 이미 처리한 행은 보내지 않음
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        assertThat(SENT).hasSize(26);
+    }
+
+    @Test
+    void marksFailedPushesAndReclaimsStaleRows() {
+
+        User writer = userRepository.save(user("writer@scheduler.co.kr", "token"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxService.enqueueAll(List.of(
+                Outbox.builder().userId(writer.getId()).alertContent("전송 실패").pushTitle("SPAP 스케줄러").pushToken("fail-token").build(),
+                Outbox.builder().userId(writer.getId()).alertContent("멈춘 인스턴스").pushTitle("SPAP 스케줄러").pushToken("token").build(),
+                Outbox.builder().userId(writer.getId()).alertContent("처리 중").pushTitle("SPAP 스케줄러").pushToken("token").build())));
+
+        List<Long> ids = outboxRepository.findAll().stream().map(Outbox::getId).sorted().toList();
+
+        // 가져간 뒤 완료하지 못하고 멈춘 인스턴스의 행과, 다른 인스턴스가 방금 가져간 행
+        jdbcTemplate.update("UPDATE tbl_outbox SET status = 'IN_PROGRESS', claimed_at = ? WHERE outbox_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(10)), ids.get(1));
+        jdbcTemplate.update("UPDATE tbl_outbox SET status = 'IN_PROGRESS', claimed_at = ? WHERE outbox_id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), ids.get(2));
+
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(2);
+
+        assertThat(outboxRepository.findById(ids.get(0)).orElseThrow().getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outboxRepository.findById(ids.get(1)).orElseThrow().getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(outboxRepository.findById(ids.get(2)).orElseThrow().getStatus()).isEqualTo(OutboxStatus.IN_PROGRESS);
+        assertThat(alertUserRepository.count()).isEqualTo(2);
+
+        // 전송에 실패해도 다시 보내지 않음
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        assertThat(SENT).hasSize(2);
+    }
+
+    @Test
+    void rolledBackBusinessTransactionLeavesNothingToDispatch() {
+
+        User writer = userRepository.save(user("writer@scheduler.co.kr", "token"));
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+
+            outboxService.enqueueAlert("댓글이 달렸습니다.", writer);
+
+            throw new IllegalStateException("댓글 저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        assertThat(alertUserRepository.count()).isZero();
+    }
+
+    @Test
+    void enqueueRequiresCallerTransaction() {
+
+        User writer = userRepository.save(user("writer@scheduler.co.kr", "token"));
+
+        assertThatThrownBy(() -> outboxService.enqueueAlert("댓글이 달렸습니다.", writer))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    private User user(String email, String targetToken) {
+
+        User user = User.builder()
+                .email(email)
+                .name("사용자")
+                .role(Role.USER)
+                .build();
+        user.setTargetToken(targetToken);
+
+        return user;
+    }
+
+    @Configuration
+    @Import({OutboxDispatcher.class, OutboxProperties.class, OutboxService.class, AlertService.class, AlertJdbcRepository.class,
+            AlertEmitterRegistry.class, SseProperties.class, AlertCountCache.class, AlertCountProperties.class, FCMService.class, PushDispatcher.class, PushProperties.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PushTransport pushTransport() {
+
+            return messages -> {
+
+                SENT.addAll(messages);
+                IN_PROGRESS_WHILE_SENDING.add(sendingOutboxRepository.countByStatus(OutboxStatus.IN_PROGRESS));
+
+                return messages.stream()
+                        .map(message -> message.getTargetToken().startsWith("dead")
+                                ? PushResult.failure(message.getTargetToken(), "UNREGISTERED")
+                                : message.getTargetToken().startsWith("fail")
+                                ? PushResult.failure(message.getTargetToken(), "UNAVAILABLE")
+                                : PushResult.success(message.getTargetToken(), "id"))
+                        .toList();
+            };
+        }
+    }
+}
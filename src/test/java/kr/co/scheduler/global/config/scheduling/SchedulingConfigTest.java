@@ -0,0 +1,75 @@
+package kr.co.scheduler.global.config.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = SchedulingConfigTest.TestConfig.class)
+class SchedulingConfigTest {
+
+    @Autowired
+    private Jobs jobs;
+
+    @AfterEach
+    void tearDown() {
+
+        jobs.release.countDown();
+    }
+
+    /**
+     * 오래 걸리는 작업이 스케줄러 스레드를 잡고 있는 동안에도 짧은 주기의 작업은 계속 실행
+     */
+    @Test
+    void longJobDoesNotBlockPollingJob() throws Exception {
+
+        assertThat(jobs.longJobStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        int polled = jobs.polled.get();
+        Thread.sleep(500);
+
+        assertThat(jobs.release.getCount()).isOne();
+        assertThat(jobs.polled.get()).isGreaterThan(polled + 2);
+    }
+
+    @Component
+    static class Jobs {
+
+        private final CountDownLatch longJobStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger polled = new AtomicInteger();
+
+        @Scheduled(initialDelay = 0, fixedDelay = 60_000)
+        public void longJob() throws InterruptedException {
+
+            longJobStarted.countDown();
+            release.await(10, TimeUnit.SECONDS);
+        }
+
+        @Scheduled(initialDelay = 0, fixedDelay = 50)
+        public void poll() {
+
+            polled.incrementAndGet();
+        }
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ImportAutoConfiguration(TaskSchedulingAutoConfiguration.class)
+    @Import({SchedulingConfig.class, SchedulingProperties.class, Jobs.class})
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,222 @@
+package kr.co.scheduler.global.config.sse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = AlertEmitterRegistryTest.TestConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:alert-sse;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "sse.heartbeat-millis=200",
+        "sse.max-emitters-per-user=2",
+        "server.tomcat.threads.max=" + AlertEmitterRegistryTest.MAX_THREADS,
+        "server.tomcat.threads.min-spare=2"
+})
+class AlertEmitterRegistryTest {
+
+    static final int MAX_THREADS = 8;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AlertEmitterRegistry alertEmitterRegistry;
+
+    @Test
+    void publishesAlertToConnectedUserAndEvictsClosedConnection() throws Exception {
+
+        LineCollector lines = connect(1L);
+
+        await(() -> lines.contains("data:connected"));
+
+        assertThat(alertEmitterRegistry.publish(1L, "댓글이 달렸습니다.")).isEqualTo(1);
+        assertThat(alertEmitterRegistry.publish(2L, "다른 회원")).isZero();
+        await(() -> lines.contains("data:댓글이 달렸습니다."));
+
+        assertThat(lines.contains("event:alert")).isTrue();
+        assertThat(lines.contains("data:다른 회원")).isFalse();
+
+        // 브라우저가 연결을 끊으면 다음 heartbeat 전송이 실패하면서 연결이 정리됨
+        lines.cancel();
+        await(() -> alertEmitterRegistry.getConnections() == 0);
+    }
+
+    @Test
+    void keepsOnlyNewestConnectionsPerUser() throws Exception {
+
+        List<LineCollector> collectors = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+
+            LineCollector lines = connect(3L);
+            collectors.add(lines);
+            await(() -> lines.contains("data:connected"));
+        }
+
+        assertThat(alertEmitterRegistry.publish(3L, "마감")).isEqualTo(2);
+
+        collectors.forEach(LineCollector::cancel);
+        await(() -> alertEmitterRegistry.getConnections() == 0);
+    }
+
+    /**
+     * 톰캣 요청 처리 스레드를 8개로 제한한 상태에서 그보다 훨씬 많은 유휴 연결을 열어도
+     * 연결이 스레드를 점유하지 않으므로 모두 등록되고 스레드 수는 상한을 넘지 않음
+     */
+    @Test
+    void idleConnectionsDoNotHoldWorkerThreads() throws Exception {
+
+        int size = MAX_THREADS * 8;
+        List<LineCollector> collectors = new ArrayList<>(size);
+
+        for (long userId = 100; userId < 100 + size; userId++) {
+
+            collectors.add(connect(userId));
+        }
+
+        try {
+
+            await(() -> alertEmitterRegistry.getConnections() == size);
+            await(() -> collectors.stream().allMatch(lines -> lines.contains("data:connected")));
+
+            long workerThreads = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-"))
+                    .count();
+
+            assertThat(workerThreads).isPositive().isLessThanOrEqualTo(MAX_THREADS);
+        } finally {
+
+            collectors.forEach(LineCollector::cancel);
+        }
+
+        await(() -> alertEmitterRegistry.getConnections() == 0);
+    }
+
+    private LineCollector connect(long userId) {
+
+        LineCollector lines = new LineCollector(port, "/sse/" + userId);
+        lines.start();
+
+        return lines;
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while (!condition.getAsBoolean()) {
+
+            assertThat(System.currentTimeMillis()).as("10초 안에 조건을 만족하지 못함").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * 별도 스레드에서 SSE 응답을 한 줄씩 읽어 모아두고, cancel 로 소켓을 바로 닫는 클라이언트
+     * HTTP/1.0 으로 요청하여 chunked 인코딩 없이 본문을 그대로 읽음
+     */
+    private static class LineCollector extends Thread {
+
+        private final Socket socket = new Socket();
+        private final int port;
+        private final String path;
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+
+        LineCollector(int port, String path) {
+
+            this.port = port;
+            this.path = path;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+
+            try (socket) {
+
+                socket.connect(new InetSocketAddress("localhost", port));
+                socket.getOutputStream().write(("GET " + path + " HTTP/1.0\r\nAccept: " + MediaType.TEXT_EVENT_STREAM_VALUE + "\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+
+                    lines.add(line);
+                }
+            } catch (IOException e) {
+
+                // cancel 로 연결을 끊은 경우
+            }
+        }
+
+        boolean contains(String line) {
+
+            return lines.contains(line);
+        }
+
+        void cancel() {
+
+            try {
+
+                socket.close();
+            } catch (IOException e) {
+
+                // 이미 끊어진 연결
+            }
+        }
+    }
+
+    @Configuration
+    @EnableScheduling
+    @EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, ManagementWebSecurityAutoConfiguration.class})
+    @Import({AlertEmitterRegistry.class, SseProperties.class, TestConfig.SseController.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+
+            return new SimpleMeterRegistry();
+        }
+
+        @RestController
+        static class SseController {
+
+            @Autowired
+            private AlertEmitterRegistry alertEmitterRegistry;
+
+            @GetMapping(value = "/sse/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+            SseEmitter subscribe(@PathVariable Long userId) {
+
+                return alertEmitterRegistry.register(userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package kr.co.scheduler.global.config.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3StorageBackendTest {
+
+    private static final String BUCKET = "spap-img";
+    private static final String ACCESS_KEY = "access";
+    private static final String SECRET_KEY = "secret";
+
+    @TempDir
+    Path dir;
+
+    private FakeS3 fakeS3;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        fakeS3 = new FakeS3();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        fakeS3.stop();
+    }
+
+    @Test
+    void putsReadsAndDeletesSignedObjects() throws Exception {
+
+        S3StorageBackend storageBackend = backend(SECRET_KEY);
+        String key = "profile/uuid_프로필 사진.png";
+        Path source = Files.writeString(storageBackend.createTempFile(), "profile image");
+
+        storageBackend.put(key, source);
+
+        // put 한 로컬 파일은 남기지 않고, 키는 UTF-8 로 인코딩하여 전송
+        assertThat(source).doesNotExist();
+        assertThat(fakeS3.objects).containsOnlyKeys(BUCKET + "/" + key);
+        assertThat(storageBackend.exists(key)).isTrue();
+
+        Resource resource = storageBackend.get(key);
+        assertThat(resource.exists()).isTrue();
+        assertThat(resource.isFile()).isFalse();
+        assertThat(resource.contentLength()).isEqualTo("profile image".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(resource.lastModified()).isEqualTo(FakeS3.LAST_MODIFIED.toInstant().toEpochMilli());
+        assertThat(resource.getFilename()).isEqualTo("uuid_프로필 사진.png");
+        assertThat(resource.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("profile image");
+
+        assertThat(storageBackend.delete(key)).isTrue();
+        assertThat(storageBackend.delete(key)).isFalse();
+        assertThat(storageBackend.exists(key)).isFalse();
+        assertThat(storageBackend.get(key).exists()).isFalse();
+        assertThatThrownBy(() -> storageBackend.get(key).getInputStream()).isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void deletesManyObjectsAsynchronously() throws Exception {
+
+        S3StorageBackend storageBackend = backend(SECRET_KEY);
+
+        for (int i = 0; i < 20; i++) {
+
+            storageBackend.put("variant/avatar/" + i + ".jpg", Files.writeString(dir.resolve(i + ".jpg"), "variant"));
+        }
+
+        storageBackend.deleteAllAsync(List.of("variant/avatar/0.jpg", "variant/avatar/missing.jpg")).join();
+        assertThat(fakeS3.objects).hasSize(19);
+
+        storageBackend.deleteAllAsync(fakeS3.objects.keySet().stream().map(name -> name.substring(BUCKET.length() + 1)).toList()).join();
+        assertThat(fakeS3.objects).isEmpty();
+    }
+
+    @Test
+    void failsLoudlyOnRejectedRequestsAndEscapingKeys() throws Exception {
+
+        S3StorageBackend storageBackend = backend("wrong-secret");
+        Path source = Files.writeString(dir.resolve("a.png"), "a");
+
+        assertThatThrownBy(() -> storageBackend.put("store/a.png", source)).isInstanceOf(IOException.class).hasMessageContaining("403");
+        assertThat(source).exists();
+        assertThat(fakeS3.objects).isEmpty();
+
+        assertThatThrownBy(() -> storageBackend.get("../a.png")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageBackend.get("C:\\upload\\a.png")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private S3StorageBackend backend(String secretKey) {
+
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.getS3().setEndpoint("http://localhost:" + fakeS3.port());
+        storageProperties.getS3().setBucket(BUCKET);
+        storageProperties.getS3().setAccessKey(ACCESS_KEY);
+        storageProperties.getS3().setSecretKey(secretKey);
+
+        return new S3StorageBackend(storageProperties);
+    }
+
+    /**
+     * FakeS3: 메모리에 객체를 보관하는 S3 대체 서버
+     * 받은 Host 헤더로 Signature Version 4 서명을 다시 계산하여 다르면 403 리턴
+     */
+    private static class FakeS3 {
+
+        private static final ZonedDateTime LAST_MODIFIED = ZonedDateTime.of(2023, 7, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        private static final Pattern AUTHORIZATION = Pattern.compile(
+                "AWS4-HMAC-SHA256 Credential=([^/]+)/(\\d{8})/([^/]+)/s3/aws4_request, SignedHeaders=([^,]+), Signature=([0-9a-f]{64})");
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final HttpServer server;
+
+        private FakeS3() throws IOException {
+
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        private int port() {
+
+            return server.getAddress().getPort();
+        }
+
+        private void stop() {
+
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+
+            try (exchange) {
+
+                byte[] body = exchange.getRequestBody().readAllBytes();
+
+                if (!isSigned(exchange)) {
+
+                    exchange.sendResponseHeaders(403, -1);
+
+                    return;
+                }
+
+                String name = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(1).replace("+", "%2B"), StandardCharsets.UTF_8);
+                byte[] object = objects.get(name);
+
+                switch (exchange.getRequestMethod()) {
+
+                    case "PUT" -> {
+
+                        objects.put(name, body);
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                    case "DELETE" -> {
+
+                        objects.remove(name);
+                        exchange.sendResponseHeaders(204, -1);
+                    }
+                    case "HEAD", "GET" -> {
+
+                        if (object == null) {
+
+                            exchange.sendResponseHeaders(404, -1);
+
+                            return;
+                        }
+
+                        exchange.getResponseHeaders().set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(LAST_MODIFIED));
+
+                        if (exchange.getRequestMethod().equals("HEAD")) {
+
+                            exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.length));
+                            exchange.sendResponseHeaders(200, -1);
+                        } else {
+
+                            exchange.sendResponseHeaders(200, object.length);
+                            exchange.getResponseBody().write(object);
+                        }
+                    }
+                    default -> exchange.sendResponseHeaders(405, -1);
+                }
+            }
+        }
+
+        private boolean isSigned(HttpExchange exchange) throws IOException {
+
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            Matcher matcher = authorization == null ? null : AUTHORIZATION.matcher(authorization);
+
+            if (matcher == null || !matcher.matches() || !matcher.group(1).equals(ACCESS_KEY)) {
+
+                return false;
+            }
+
+            StringBuilder canonicalHeaders = new StringBuilder();
+
+            for (String name : matcher.group(4).split(";")) {
+
+                canonicalHeaders.append(name).append(':').append(exchange.getRequestHeaders().getFirst(name).trim()).append('\n');
+            }
+
+            String amzDate = exchange.getRequestHeaders().getFirst("x-amz-date");
+            String scope = matcher.group(2) + "/" + matcher.group(3) + "/s3/aws4_request";
+            String canonicalRequest = String.join("\n", exchange.getRequestMethod(), exchange.getRequestURI().getRawPath(), "",
+                    canonicalHeaders.toString(), matcher.group(4), exchange.getRequestHeaders().getFirst("x-amz-content-sha256"));
+            String stringToSign = String.join("\n", "AWS4-HMAC-SHA256", amzDate, scope,
+                    HexFormat.of().formatHex(sha256(canonicalRequest)));
+
+            byte[] key = ("AWS4" + SECRET_KEY).getBytes(StandardCharsets.UTF_8);
+
+            for (String part : new String[]{matcher.group(2), matcher.group(3), "s3", "aws4_request"}) {
+
+                key = hmac(key, part);
+            }
+
+            return HexFormat.of().formatHex(hmac(key, stringToSign)).equals(matcher.group(5));
+        }
+
+        private static byte[] sha256(String value) throws IOException {
+
+            try {
+
+                return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            } catch (Exception e) {
+
+                throw new IOException(e);
+            }
+        }
+
+        private static byte[] hmac(byte[] key, String value) throws IOException {
+
+            try {
+
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(key, "HmacSHA256"));
+
+                return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            } catch (Exception e) {
+
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.scheduler.global.config.verification;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver(new VerificationProperties());
+
+    @Test
+    void ignoresForwardedForFromUntrustedAddress() {
+
+        // 프록시를 거치지 않은 클라이언트가 헤더를 바꿔 보내도 횟수 제한을 피할 수 없음
+        assertThat(clientIpResolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+        assertThat(clientIpResolver.resolve(request("203.0.113.7"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void usesNearestUntrustedAddressBehindTrustedProxies() {
+
+        assertThat(clientIpResolver.resolve(request("10.0.0.5", "203.0.113.7"))).isEqualTo("203.0.113.7");
+
+        // 클라이언트가 앞에 붙인 주소는 무시하고, 신뢰하는 프록시들을 건너뛴 첫 주소 사용
+        assertThat(clientIpResolver.resolve(request("127.0.0.1", "198.51.100.1, 203.0.113.7", "172.16.0.2"))).isEqualTo("203.0.113.7");
+
+        // 모든 주소가 내부 주소면 가장 먼 주소 사용
+        assertThat(clientIpResolver.resolve(request("10.0.0.5", "192.168.0.3, 10.0.0.4"))).isEqualTo("192.168.0.3");
+        assertThat(clientIpResolver.resolve(request("10.0.0.5"))).isEqualTo("10.0.0.5");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String... forwardedFor) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+
+        for (String header : forwardedFor) {
+
+            request.addHeader("X-Forwarded-For", header);
+        }
+
+        return request;
+    }
+}
@@ -0,0 +1,117 @@
+package kr.co.scheduler.global.config.verification;
+
+import kr.co.scheduler.global.enums.VerificationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerificationCodeStoreTest {
+
+    @Test
+    void verifiesCodeOnlyOnServer() {
+
+        VerificationCodeStore store = new VerificationCodeStore(new VerificationProperties());
+
+        String code = store.issue("user@scheduler.co.kr");
+
+        assertThat(code).hasSize(8).matches("[A-Za-z0-9]+");
+        assertThat(store.isVerified("user@scheduler.co.kr")).isFalse();
+        assertThat(store.verify("user@scheduler.co.kr", "wrong")).isEqualTo(VerificationResult.MISMATCH);
+        assertThat(store.verify("other@scheduler.co.kr", code)).isEqualTo(VerificationResult.EXPIRED);
+        assertThat(store.verify("user@scheduler.co.kr", code)).isEqualTo(VerificationResult.VERIFIED);
+        assertThat(store.isVerified("user@scheduler.co.kr")).isTrue();
+
+        // 다시 발급하면 인증 완료 상태도 초기화
+        store.issue("user@scheduler.co.kr");
+        assertThat(store.isVerified("user@scheduler.co.kr")).isFalse();
+    }
+
+    @Test
+    void discardsCodeAfterTooManyAttemptsEvenWhenConcurrent() throws Exception {
+
+        VerificationProperties properties = new VerificationProperties();
+        properties.setMaxAttempts(5);
+        VerificationCodeStore store = new VerificationCodeStore(properties);
+        String code = store.issue("user@scheduler.co.kr");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<VerificationResult>> guesses = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+
+            guesses.add(() -> store.verify("user@scheduler.co.kr", "00000000"));
+        }
+
+        List<VerificationResult> results = new ArrayList<>();
+
+        for (Future<VerificationResult> future : executor.invokeAll(guesses)) {
+
+            results.add(future.get());
+        }
+
+        executor.shutdown();
+
+        assertThat(results).filteredOn(VerificationResult.MISMATCH::equals).hasSize(4);
+        assertThat(results).filteredOn(VerificationResult.TOO_MANY_ATTEMPTS::equals).hasSize(1);
+        assertThat(store.verify("user@scheduler.co.kr", code)).isEqualTo(VerificationResult.EXPIRED);
+    }
+
+    @Test
+    void expiresAndEvictsEntries() throws Exception {
+
+        VerificationProperties properties = new VerificationProperties();
+        properties.setCodeTtlMillis(50);
+        properties.setMaxEntries(3);
+        VerificationCodeStore store = new VerificationCodeStore(properties);
+
+        String code = store.issue("expired@scheduler.co.kr");
+        Thread.sleep(100);
+
+        assertThat(store.verify("expired@scheduler.co.kr", code)).isEqualTo(VerificationResult.EXPIRED);
+
+        properties.setCodeTtlMillis(60_000);
+
+        for (int i = 0; i < 10; i++) {
+
+            store.issue("user" + i + "@scheduler.co.kr");
+        }
+
+        assertThat(store.size()).isEqualTo(3);
+
+        // 가장 먼저 만료될 인증 정보부터 제거되므로 마지막에 발급한 인증 정보는 남아 있음
+        String last = store.issue("last@scheduler.co.kr");
+        assertThat(store.verify("last@scheduler.co.kr", last)).isEqualTo(VerificationResult.VERIFIED);
+    }
+
+    @Test
+    void limitsRequestsPerKeyWithinWindow() throws Exception {
+
+        VerificationProperties properties = new VerificationProperties();
+        properties.setLimitWindowMillis(100);
+        VerificationRateLimiter limiter = new VerificationRateLimiter(properties);
+
+        boolean first = limiter.tryAcquire("email:user@scheduler.co.kr", 2);
+        boolean second = limiter.tryAcquire("email:user@scheduler.co.kr", 2);
+        boolean third = limiter.tryAcquire("email:user@scheduler.co.kr", 2);
+        boolean other = limiter.tryAcquire("email:other@scheduler.co.kr", 2);
+
+        assertThat(new boolean[]{first, second, third, other}).containsExactly(true, true, false, true);
+
+        Thread.sleep(150);
+
+        assertThat(limiter.tryAcquire("email:user@scheduler.co.kr", 2)).isTrue();
+
+        limiter.purgeExpired();
+        Thread.sleep(150);
+        limiter.purgeExpired();
+
+        assertThat(limiter.size()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.alert.AlertCountCache;
+import kr.co.scheduler.global.config.alert.AlertCountProperties;
+import kr.co.scheduler.global.config.alert.AlertRetentionProperties;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.enums.Role;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, AlertRetentionService.class, IdRangeTransactions.class,
+        AlertRetentionProperties.class, AlertCountCache.class, AlertCountProperties.class, SchedulerLockService.class,
+        SchedulerLockProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:alert-retention;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "alert.retention.retention-days=30",
+        "alert.retention.chunk-size=7"
+})
+class AlertRetentionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 7, 31, 3, 0);
+
+    @Autowired
+    private AlertRetentionService alertRetentionService;
+
+    @Autowired
+    private AlertCountCache alertCountCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        jdbcTemplate.update("DELETE FROM tbl_outbox");
+        jdbcTemplate.update("DELETE FROM tbl_alert_user");
+        jdbcTemplate.update("DELETE FROM tbl_alert");
+        jdbcTemplate.update("DELETE FROM tbl_user");
+    }
+
+    @Test
+    void deletesExpiredAlertsOrphansAndProcessedOutboxRows() {
+
+        Long userId = userRepository.save(User.builder().email("user@scheduler.co.kr").name("사용자").role(Role.USER).build()).getId();
+
+        // 보관 기간이 지난 알림 40개, 보관 중인 알림 25개
+        for (int i = 0; i < 65; i++) {
+
+            insertAlert(userId, i < 40 ? NOW.minusDays(31) : NOW.minusDays(29));
+        }
+
+        // 알림 모두 제거로 수신자가 없어진 알림 10개, 방금 저장하여 수신자를 아직 저장하지 않은 알림 1개
+        for (int i = 0; i < 10; i++) {
+
+            insertAlertOnly(NOW.minusDays(1));
+        }
+
+        insertAlertOnly(NOW.minusMinutes(1));
+
+        insertOutbox(userId, "DONE", NOW.minusDays(31));
+        insertOutbox(userId, "DONE", NOW.minusDays(1));
+        insertOutbox(userId, "PENDING", null);
+
+        alertCountCache.get(userId, () -> 65);
+
+        assertThat(alertRetentionService.compactAlerts(NOW)).isEqualTo(40 + 40 + 10 + 1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert_user", Long.class)).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert", Long.class)).isEqualTo(26);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_outbox", Long.class)).isEqualTo(2);
+        assertThat(alertCountCache.size()).isZero();
+
+        // 다시 실행해도 지울 행이 없음
+        assertThat(alertRetentionService.compactAlerts(NOW)).isZero();
+    }
+
+    private void insertAlert(Long userId, LocalDateTime createdAt) {
+
+        Long alertId = insertAlertOnly(createdAt);
+
+        jdbcTemplate.update("INSERT INTO tbl_alert_user (alert_id, user_id, is_read, created_at, updated_at) VALUES (?, ?, FALSE, ?, ?)",
+                alertId, userId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    private Long insertAlertOnly(LocalDateTime createdAt) {
+
+        jdbcTemplate.update("INSERT INTO tbl_alert (alert_content, created_at, updated_at) VALUES (?, ?, ?)",
+                "알림", Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+
+        return jdbcTemplate.queryForObject("SELECT MAX(alert_id) FROM tbl_alert", Long.class);
+    }
+
+    private void insertOutbox(Long userId, String status, LocalDateTime processedAt) {
+
+        jdbcTemplate.update("INSERT INTO tbl_outbox (user_id, alert_content, status, processed_at) VALUES (?, ?, ?, ?)",
+                userId, "알림", status, processedAt == null ? null : Timestamp.valueOf(processedAt));
+    }
+}
@@ -0,0 +1,169 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.alert.AlertCountCache;
+import kr.co.scheduler.global.config.alert.AlertCountProperties;
+import kr.co.scheduler.global.config.sse.AlertEmitterRegistry;
+import kr.co.scheduler.global.config.sse.SseProperties;
+import kr.co.scheduler.global.dtos.AlertReqDTO;
+import kr.co.scheduler.global.entity.AlertUser;
+import kr.co.scheduler.global.repository.AlertJdbcRepository;
+import kr.co.scheduler.global.repository.AlertUserRepository;
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.enums.Role;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, AlertService.class, AlertJdbcRepository.class, AlertEmitterRegistry.class,
+        SseProperties.class, AlertCountCache.class, AlertCountProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:alert-service;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AlertServiceTest {
+
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private AlertUserRepository alertUserRepository;
+
+    @Autowired
+    private AlertCountCache alertCountCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+
+        for (long userId : userRepository.findAll().stream().map(User::getId).toList()) {
+
+            alertCountCache.evict(userId);
+        }
+
+        jdbcTemplate.update("DELETE FROM tbl_alert_user");
+        jdbcTemplate.update("DELETE FROM tbl_alert");
+        jdbcTemplate.update("DELETE FROM tbl_user");
+    }
+
+    @Test
+    void createAlertsLinksEachAlertToItsUser() {
+
+        User first = userRepository.save(user("first@scheduler.co.kr"));
+        User second = userRepository.save(user("second@scheduler.co.kr"));
+
+        List<AlertReqDTO.CREATE> alerts = new ArrayList<>();
+
+        // 배치 크기(500)를 넘겨 배치가 나뉘어도 alert_id 와 수신자가 어긋나지 않는지 확인
+        for (int i = 0; i < 1_200; i++) {
+
+            alerts.add(new AlertReqDTO.CREATE("알림 " + i, i % 2 == 0 ? first.getId() : second.getId()));
+        }
+
+        assertThat(alertService.createAlerts(alerts)).isEqualTo(1_200);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert", Long.class)).isEqualTo(1_200);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert_user", Long.class)).isEqualTo(1_200);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_alert_user au JOIN tbl_alert a ON a.alert_id = au.alert_id " +
+                        "WHERE au.user_id = ? AND MOD(CAST(SUBSTRING(a.alert_content, 4) AS INT), 2) = 0",
+                Long.class, first.getId())).isEqualTo(600);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert WHERE created_at IS NULL", Long.class)).isZero();
+    }
+
+    @Test
+    void createAlertsRollsBackWithCallerTransaction() {
+
+        User user = userRepository.save(user("user@scheduler.co.kr"));
+
+        try {
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+
+                alertService.createAlerts(List.of(new AlertReqDTO.CREATE("알림", user.getId())));
+                status.setRollbackOnly();
+            });
+        } finally {
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_alert", Long.class)).isZero();
+        }
+    }
+
+    @Test
+    void unreadCountFollowsCreateReadAndDelete() {
+
+        User user = userRepository.save(user("user@scheduler.co.kr"));
+        User other = userRepository.save(user("other@scheduler.co.kr"));
+
+        alertService.createAlerts(List.of(
+                new AlertReqDTO.CREATE("알림 1", user.getId()),
+                new AlertReqDTO.CREATE("알림 2", user.getId()),
+                new AlertReqDTO.CREATE("알림 3", other.getId())));
+
+        assertThat(alertService.countUnreadAlert(user.getId())).isEqualTo(2);
+
+        // 캐시된 뒤로는 DB 를 거치지 않고 저장/삭제에 맞춰 값이 바뀜
+        jdbcTemplate.update("UPDATE tbl_alert_user SET is_read = TRUE WHERE user_id = ?", other.getId());
+        alertService.createAlert("알림 4", user);
+        assertThat(alertService.countUnreadAlert(user.getId())).isEqualTo(3);
+
+        AlertUser first = alertUserRepository.findListByUser(user).get(0);
+        alertService.deleteAlert(first.getId());
+        assertThat(alertService.countUnreadAlert(user.getId())).isEqualTo(2);
+
+        alertService.readAllAlert(user.getId());
+        assertThat(alertService.countUnreadAlert(user.getId())).isZero();
+
+        // 읽은 알림을 지워도 읽지 않은 알림 수는 그대로
+        AlertUser read = alertUserRepository.findListByUser(user).get(0);
+        alertService.createAlert("알림 5", user);
+        alertService.deleteAlert(read.getId());
+        assertThat(alertService.countUnreadAlert(user.getId())).isEqualTo(1);
+
+        alertService.deleteAllAlert(user.getId());
+        assertThat(alertService.countUnreadAlert(user.getId())).isZero();
+        assertThat(alertService.countUnreadAlert(other.getId())).isZero();
+    }
+
+    @Test
+    void rolledBackAlertIsNotCounted() {
+
+        User user = userRepository.save(user("user@scheduler.co.kr"));
+
+        assertThat(alertService.countUnreadAlert(user.getId())).isZero();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+
+            alertService.createAlerts(List.of(new AlertReqDTO.CREATE("알림", user.getId())));
+            status.setRollbackOnly();
+        });
+
+        assertThat(alertService.countUnreadAlert(user.getId())).isZero();
+    }
+
+    private User user(String email) {
+
+        return User.builder()
+                .email(email)
+                .name("사용자")
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.scheduler.global.config.fcm.PushDispatcher;
+import kr.co.scheduler.global.config.fcm.PushMessage;
+import kr.co.scheduler.global.config.fcm.PushProperties;
+import kr.co.scheduler.global.config.fcm.PushResult;
+import kr.co.scheduler.global.config.fcm.PushTransport;
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.enums.Role;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, FCMServiceTest.TestConfig.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:fcm-service;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class FCMServiceTest {
+
+    @Autowired
+    private FCMService fcmService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void prunesPermanentlyFailedTokens() {
+
+        User alive = userRepository.save(user("alive@scheduler.co.kr", "alive"));
+        User unregistered = userRepository.save(user("unregistered@scheduler.co.kr", "dead-unregistered"));
+        User invalid = userRepository.save(user("invalid@scheduler.co.kr", "dead-invalid"));
+        User unavailable = userRepository.save(user("unavailable@scheduler.co.kr", "retry-unavailable"));
+        User invalidMessage = userRepository.save(user("message@scheduler.co.kr", "retry-invalid-message"));
+
+        List<PushResult> results = fcmService.sendFCMMessages(List.of(message("alive"), message("dead-unregistered"),
+                message("dead-invalid"), message("retry-unavailable"), message("retry-invalid-message"))).join();
+
+        assertThat(fcmService.pruneDeadTokens(results)).isEqualTo(2);
+
+        assertThat(userRepository.findById(alive.getId()).orElseThrow().getTargetToken()).isEqualTo("alive");
+        assertThat(userRepository.findById(unregistered.getId()).orElseThrow().getTargetToken()).isNull();
+        assertThat(userRepository.findById(invalid.getId()).orElseThrow().getTargetToken()).isNull();
+        // 일시적인 오류는 다음에 다시 전송
+        assertThat(userRepository.findById(unavailable.getId()).orElseThrow().getTargetToken()).isEqualTo("retry-unavailable");
+        // 토큰이 아닌 메세지 내용을 가리키는 INVALID_ARGUMENT 는 토큰을 삭제하지 않음
+        assertThat(userRepository.findById(invalidMessage.getId()).orElseThrow().getTargetToken()).isEqualTo("retry-invalid-message");
+
+        assertThat(meterRegistry.get("fcm.push.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("fcm.push.failed").tag("reason", "UNREGISTERED").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("fcm.push.failed").tag("reason", "INVALID_ARGUMENT").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("fcm.push.failed").tag("reason", "UNAVAILABLE").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("fcm.push.tokens.pruned").counter().count()).isEqualTo(2);
+    }
+
+    private User user(String email, String targetToken) {
+
+        User user = User.builder()
+                .email(email)
+                .name("사용자")
+                .role(Role.USER)
+                .build();
+        user.setTargetToken(targetToken);
+
+        return user;
+    }
+
+    private PushMessage message(String targetToken) {
+
+        return new PushMessage(targetToken, "SPAP 스케줄러", "알림");
+    }
+
+    @Configuration
+    @Import({FCMService.class, PushDispatcher.class, PushProperties.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+
+            return new SimpleMeterRegistry();
+        }
+
+        /**
+         * 토큰 이름에 따라 FCM 오류 코드를 흉내내는 전송 구현체
+         */
+        @Bean
+        PushTransport pushTransport() {
+
+            return messages -> messages.stream()
+                    .map(message -> switch (message.getTargetToken()) {
+                        case "dead-unregistered" -> PushResult.failure(message.getTargetToken(), "UNREGISTERED");
+                        case "dead-invalid" -> PushResult.tokenRejected(message.getTargetToken(), "INVALID_ARGUMENT");
+                        case "retry-invalid-message" -> PushResult.failure(message.getTargetToken(), "INVALID_ARGUMENT");
+                        case "retry-unavailable" -> PushResult.failure(message.getTargetToken(), "UNAVAILABLE");
+                        default -> PushResult.success(message.getTargetToken(), "id");
+                    })
+                    .toList();
+        }
+    }
+}
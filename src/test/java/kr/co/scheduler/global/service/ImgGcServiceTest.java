@@ -0,0 +1,242 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.img.ImgGcProperties;
+import kr.co.scheduler.global.config.img.ImgStore;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.config.img.ImgVariantProperties;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import kr.co.scheduler.global.config.storage.LocalStorageBackend;
+import kr.co.scheduler.global.config.storage.StorageProperties;
+import kr.co.scheduler.global.entity.ImgRef;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.repository.ImgRefRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(classes = {JpaTestConfig.class, ImgGcService.class, ImgGcProperties.class, ImgService.class, ImgStore.class,
+        ImgFileCleaner.class, ImgStoreProperties.class, ImgVariants.class, ImgVariantProperties.class, LocalStorageBackend.class,
+        StorageProperties.class, SchedulerLockService.class, SchedulerLockProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:img-gc;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "img.gc.grace-hours=24",
+        "img.gc.chunk-size=2"
+})
+class ImgGcServiceTest {
+
+    @TempDir
+    static Path dir;
+
+    @Autowired
+    private ImgGcService imgGcService;
+
+    @Autowired
+    private ImgService imgService;
+
+    @Autowired
+    private ImgRefRepository imgRefRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private LocalStorageBackend storageBackend;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+
+        registry.add("storage.local.root", () -> dir.resolve("storage").toString());
+        registry.add("storage.local.temp-dir", () -> dir.resolve("tmp").toString());
+        registry.add("img.store.legacy-temp-root", () -> dir.resolve("temp").toString());
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        jdbcTemplate.update("DELETE FROM tbl_image_ref");
+        jdbcTemplate.update("DELETE FROM tbl_image");
+        FileSystemUtils.deleteRecursively(dir.resolve("storage"));
+        FileSystemUtils.deleteRecursively(dir.resolve("temp"));
+    }
+
+    @Test
+    void deletesAbandonedTempFilesAndUnreferencedStoredImgs() throws Exception {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 저장소 도입 이전 임시 폴더: 오래된 파일 2개만 삭제 (방금 올린 파일, 내용에 연결된 파일은 유지)
+        Path abandoned = tempFile("user@scheduler.co.kr", "uuid_abandoned.png", 2);
+        Path abandonedWithoutRow = tempFile("other@scheduler.co.kr", "uuid_norow.png", 2);
+        Path recent = tempFile("user@scheduler.co.kr", "uuid_recent.png", 0);
+        Path linked = tempFile("other@scheduler.co.kr", "uuid_linked.png", 2);
+
+        insertImg("uuid_abandoned.png", abandoned.toString(), null, 0, now.minusDays(2));
+        insertImg("uuid_recent.png", recent.toString(), null, 0, now.minusDays(2));
+        imgRefRepository.save(ImgRef.builder().ownerType(ImgRefOwner.POST).ownerId(1L).imgName("uuid_linked.png").build());
+
+        // 해시 저장소: 업로드만 하고 저장하지 않은 오래된 이미지 3개만 삭제
+        Path[] orphans = new Path[3];
+
+        for (int i = 0; i < orphans.length; i++) {
+
+            orphans[i] = storedImg("orphan" + i, 0, now.minusDays(2));
+        }
+
+        Path uploading = storedImg("uploading", 0, now.minusHours(1));
+        Path referenced = storedImg("referenced", 1, now.minusDays(2));
+        Path linkedStored = storedImg("linked", 0, now.minusDays(2));
+        imgRefRepository.save(ImgRef.builder().ownerType(ImgRefOwner.TASK_LOG).ownerId(1L).imgName("linked.png").build());
+
+        assertThat(imgGcService.collectOrphanImgs(now)).isEqualTo(2 + 3);
+
+        assertThat(jdbcTemplate.queryForList("SELECT img_name FROM tbl_image ORDER BY img_name", String.class))
+                .containsExactly("linked.png", "referenced.png", "uploading.png", "uuid_recent.png");
+
+        awaitDeleted(abandoned);
+        awaitDeleted(abandonedWithoutRow);
+
+        for (Path orphan : orphans) {
+
+            awaitDeleted(orphan);
+        }
+
+        assertThat(recent).exists();
+        assertThat(linked).exists();
+        assertThat(uploading).exists();
+        assertThat(referenced).exists();
+        assertThat(linkedStored).exists();
+
+        // 다시 실행해도 지울 이미지가 없음
+        assertThat(imgGcService.collectOrphanImgs(now)).isZero();
+    }
+
+    @Test
+    void keepsOrphanReuploadedWhileEditing() throws Exception {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 이틀 전에 업로드만 하고 저장하지 않은 이미지
+        String imgName = imgService.uploadImgInSummernote(upload("old capture"));
+        Path file = dir.resolve("storage").resolve(jdbcTemplate.queryForObject(
+                "SELECT img_path FROM tbl_image WHERE img_name = ?", String.class, imgName));
+
+        jdbcTemplate.update("UPDATE tbl_image SET created_at = ?, last_uploaded_at = ? WHERE img_name = ?",
+                Timestamp.valueOf(now.minusDays(2)), Timestamp.valueOf(now.minusDays(2)), imgName);
+
+        // 같은 이미지를 편집 화면에서 다시 업로드하면 기존 행을 사용하면서 마지막 업로드 시각만 갱신
+        assertThat(imgService.uploadImgInSummernote(upload("old capture"))).isEqualTo(imgName);
+
+        assertThat(imgGcService.collectOrphanImgs(now)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT img_name FROM tbl_image", String.class)).containsExactly(imgName);
+        assertThat(file).exists();
+
+        // 다시 업로드한 뒤로도 graceHours 동안 저장하지 않으면 정리
+        assertThat(imgGcService.collectOrphanImgs(now.plusHours(25))).isOne();
+        awaitDeleted(file);
+    }
+
+    @Test
+    void keepsImgReuploadedBeforeFileCleanerRuns() throws Exception {
+
+        // 정리 작업이 커밋한 뒤 파일 삭제 스레드가 삭제하기 직전에 멈춤 (업로드 후 크기별 이미지 생성과 겹치지 않도록 먼저 설정)
+        CountDownLatch deleting = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+
+            deleting.countDown();
+            resume.await(5, TimeUnit.SECONDS);
+
+            return invocation.callRealMethod();
+        }).when(storageBackend).deleteAllAsync(any());
+
+        LocalDateTime now = LocalDateTime.now();
+        String imgName = imgService.uploadImgInSummernote(upload("old capture"));
+        Path collected = dir.resolve("storage").resolve(jdbcTemplate.queryForObject(
+                "SELECT img_path FROM tbl_image WHERE img_name = ?", String.class, imgName));
+
+        jdbcTemplate.update("UPDATE tbl_image SET created_at = ?, last_uploaded_at = ? WHERE img_name = ?",
+                Timestamp.valueOf(now.minusDays(2)), Timestamp.valueOf(now.minusDays(2)), imgName);
+
+        assertThat(imgGcService.collectOrphanImgs(now)).isOne();
+        assertThat(deleting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 그 사이에 같은 이미지를 다시 업로드하면 새 행을 다른 키로 등록
+        assertThat(imgService.uploadImgInSummernote(upload("old capture"))).isEqualTo(imgName);
+        Path reuploaded = dir.resolve("storage").resolve(jdbcTemplate.queryForObject(
+                "SELECT img_path FROM tbl_image WHERE img_name = ?", String.class, imgName));
+
+        resume.countDown();
+
+        awaitDeleted(collected);
+        assertThat(reuploaded).isNotEqualTo(collected).hasContent("old capture");
+    }
+
+    private static MockMultipartFile upload(String content) {
+
+        return new MockMultipartFile("file", "capture.png", "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path tempFile(String email, String imgName, int daysAgo) throws Exception {
+
+        Path file = dir.resolve("temp").resolve(email).resolve(imgName);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, imgName);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(daysAgo))));
+
+        return file;
+    }
+
+    private Path storedImg(String hash, int refCount, LocalDateTime createdAt) throws Exception {
+
+        String key = "store/" + hash + ".png";
+        Path file = dir.resolve("storage").resolve(key);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, hash);
+
+        insertImg(hash + ".png", key, hash, refCount, createdAt);
+
+        return file;
+    }
+
+    private void insertImg(String imgName, String imgPath, String hash, int refCount, LocalDateTime createdAt) {
+
+        jdbcTemplate.update("INSERT INTO tbl_image (img_name, img_path, hash, ref_count, created_at) VALUES (?, ?, ?, ?, ?)",
+                imgName, imgPath, hash, refCount, Timestamp.valueOf(createdAt));
+    }
+
+    private static void awaitDeleted(Path path) throws InterruptedException {
+
+        for (int i = 0; i < 50 && Files.exists(path); i++) {
+
+            Thread.sleep(100);
+        }
+
+        assertThat(path).doesNotExist();
+    }
+}
@@ -0,0 +1,152 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.img.ImgStore;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.config.img.ImgVariantProperties;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.storage.LocalStorageBackend;
+import kr.co.scheduler.global.config.storage.StorageProperties;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.repository.ImgRefRepository;
+import kr.co.scheduler.global.repository.ImgRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, ImgRefService.class, ImgService.class, ImgFileCleaner.class, ImgStore.class,
+        ImgStoreProperties.class, ImgVariants.class, ImgVariantProperties.class, LocalStorageBackend.class,
+        StorageProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:img-ref-service;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ImgRefServiceTest {
+
+    @TempDir
+    static Path dir;
+
+    @Autowired
+    private ImgRefService imgRefService;
+
+    @Autowired
+    private ImgService imgService;
+
+    @Autowired
+    private ImgRepository imgRepository;
+
+    @Autowired
+    private ImgRefRepository imgRefRepository;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+
+        registry.add("storage.local.root", () -> dir.resolve("storage").toString());
+        registry.add("storage.local.temp-dir", () -> dir.resolve("tmp").toString());
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        imgRepository.deleteAll();
+        imgRefRepository.deleteAll();
+        FileSystemUtils.deleteRecursively(dir.resolve("storage"));
+    }
+
+    @Test
+    void editsChangeOnlyAddedAndRemovedImgs() throws Exception {
+
+        String shared = imgService.uploadImgInSummernote(upload("shared.png", "shared"));
+        String removed = imgService.uploadImgInSummernote(upload("removed.png", "removed"));
+        String added = imgService.uploadImgInSummernote(upload("added.png", "added"));
+        Path sharedPath = dir.resolve("storage").resolve(imgService.selectImg(shared).getImgPath());
+        Path removedPath = dir.resolve("storage").resolve(imgService.selectImg(removed).getImgPath());
+
+        // 같은 이미지를 두 내용에서 사용하고, 한 내용에 두 번 포함된 경우도 한 번만 셈
+        imgRefService.retainImgsInSummernote(ImgRefOwner.POST, 1L, content(shared, shared, removed));
+        imgRefService.retainImgsInSummernote(ImgRefOwner.PROJECT, 1L, content(shared));
+
+        assertThat(imgRefRepository.findImgNamesByOwner(ImgRefOwner.POST, 1L)).containsExactlyInAnyOrder(shared, removed);
+        assertThat(imgService.selectImg(shared).getRefCount()).isEqualTo(2);
+        assertThat(imgService.selectImg(removed).getRefCount()).isOne();
+
+        // 수정: 빠진 이미지는 삭제, 남은 이미지의 참조 수는 그대로, 추가된 이미지는 증가
+        imgRefService.replaceImgsInSummernote(ImgRefOwner.POST, 1L, content(shared, shared, removed), content(shared, added));
+
+        assertThat(imgRefRepository.findImgNamesByOwner(ImgRefOwner.POST, 1L)).containsExactlyInAnyOrder(shared, added);
+        assertThat(imgService.selectImg(shared).getRefCount()).isEqualTo(2);
+        assertThat(imgService.selectImg(added).getRefCount()).isOne();
+        assertThat(imgService.selectImg(removed)).isNull();
+        awaitDeleted(removedPath);
+
+        imgRefService.releaseImgsInSummernote(ImgRefOwner.POST, 1L, content(shared, added));
+
+        assertThat(imgRefRepository.findImgNamesByOwner(ImgRefOwner.POST, 1L)).isEmpty();
+        assertThat(imgService.selectImg(shared).getRefCount()).isOne();
+        assertThat(imgService.selectImg(added)).isNull();
+        assertThat(sharedPath).exists();
+    }
+
+    @Test
+    void editsCompareLinkedImgsInsteadOfPreviousContent() throws Exception {
+
+        String kept = imgService.uploadImgInSummernote(upload("kept.png", "kept"));
+        String added = imgService.uploadImgInSummernote(upload("added.png", "added"));
+
+        imgRefService.retainImgsInSummernote(ImgRefOwner.POST, 1L, content(kept));
+
+        // 연결 기록이 있으면 이전 내용 대신 연결된 이미지와 비교
+        imgRefService.replaceImgsInSummernote(ImgRefOwner.POST, 1L, "<p>이전 내용</p>", content(kept, added));
+        imgRefService.replaceImgsInSummernote(ImgRefOwner.POST, 1L, content(kept, added), content(kept, added) + "<p>글자만 수정</p>");
+
+        assertThat(imgRefRepository.findImgNamesByOwner(ImgRefOwner.POST, 1L)).containsExactlyInAnyOrder(kept, added);
+        assertThat(imgService.selectImg(kept).getRefCount()).isOne();
+        assertThat(imgService.selectImg(added).getRefCount()).isOne();
+
+        // 연결 테이블 도입 이전에 저장한 내용은 이전 내용을 파싱하여 비교하고, 새 내용의 이미지를 연결
+        imgRefService.retainImgsInSummernote(ImgRefOwner.PROJECT, 1L, content(kept));
+        imgRefRepository.deleteAll(imgRefRepository.findAll().stream().filter(imgRef -> imgRef.getOwnerType() == ImgRefOwner.PROJECT).toList());
+        imgRefService.replaceImgsInSummernote(ImgRefOwner.PROJECT, 1L, content(kept), content(added));
+
+        assertThat(imgRefRepository.findImgNamesByOwner(ImgRefOwner.PROJECT, 1L)).containsExactly(added);
+        assertThat(imgService.selectImg(kept).getRefCount()).isOne();
+        assertThat(imgService.selectImg(added).getRefCount()).isEqualTo(2);
+    }
+
+    private static MockMultipartFile upload(String name, String content) {
+
+        return new MockMultipartFile("file", name, "image/png", content.getBytes());
+    }
+
+    private static String content(String... imgNames) {
+
+        StringBuilder content = new StringBuilder("<p>내용</p>");
+
+        for (String imgName : imgNames) {
+
+            content.append("<p><img src=\"/api/summernoteImg?uploadFileName=").append(imgName).append("\"></p>");
+        }
+
+        return content.toString();
+    }
+
+    private static void awaitDeleted(Path path) throws InterruptedException {
+
+        for (int i = 0; i < 50 && Files.exists(path); i++) {
+
+            Thread.sleep(100);
+        }
+
+        assertThat(path).doesNotExist();
+    }
+}
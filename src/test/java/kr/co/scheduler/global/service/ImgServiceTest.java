@@ -0,0 +1,210 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.img.ImgStore;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.config.img.ImgVariantProperties;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.storage.LocalStorageBackend;
+import kr.co.scheduler.global.config.storage.StorageProperties;
+import kr.co.scheduler.global.entity.Img;
+import kr.co.scheduler.global.enums.ImgVariant;
+import kr.co.scheduler.global.repository.ImgRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, ImgService.class, ImgFileCleaner.class, ImgStore.class, ImgStoreProperties.class,
+        ImgVariants.class, ImgVariantProperties.class, LocalStorageBackend.class, StorageProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:img-service;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ImgServiceTest {
+
+    @TempDir
+    static Path dir;
+
+    @Autowired
+    private ImgService imgService;
+
+    @Autowired
+    private ImgRepository imgRepository;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+
+        registry.add("storage.local.root", () -> dir.resolve("storage").toString());
+        registry.add("storage.local.temp-dir", () -> dir.resolve("tmp").toString());
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        imgRepository.deleteAll();
+        FileSystemUtils.deleteRecursively(dir.resolve("storage"));
+    }
+
+    @Test
+    void storesDuplicateUploadsOnceUnderShardedHashPath() throws Exception {
+
+        String first = imgService.uploadImgInSummernote(upload("capture.PNG", "same screenshot"));
+        String second = imgService.uploadImgInSummernote(upload("복사본.png", "same screenshot"));
+        String other = imgService.uploadImgInSummernote(upload("other.png", "other screenshot"));
+
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest("same screenshot".getBytes()));
+
+        assertThat(first).isEqualTo(hash + ".png").isEqualTo(second);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(imgRepository.count()).isEqualTo(2);
+
+        Img img = imgService.selectImg(first);
+        assertThat(img.getHash()).isEqualTo(hash);
+        assertThat(img.getRefCount()).isZero();
+        assertThat(img.getImgPath()).startsWith("store/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "_").endsWith(".png");
+        assertThat(Files.readString(dir.resolve("storage").resolve(img.getImgPath()))).isEqualTo("same screenshot");
+        assertThat(imgService.selectImgResource(img).getContentAsString(StandardCharsets.UTF_8)).isEqualTo("same screenshot");
+
+        // 중복 업로드의 임시 파일은 남기지 않음
+        assertThat(files(dir.resolve("storage"))).hasSize(2);
+        assertThat(files(dir.resolve("tmp"))).isEmpty();
+    }
+
+    @Test
+    void deletesFileOnlyWhenLastReferenceIsReleased() throws Exception {
+
+        String shared = imgService.uploadImgInSummernote(upload("shared.png", "shared"));
+        String single = imgService.uploadImgInSummernote(upload("single.png", "single"));
+        Path sharedPath = dir.resolve("storage").resolve(imgService.selectImg(shared).getImgPath());
+        Path singlePath = dir.resolve("storage").resolve(imgService.selectImg(single).getImgPath());
+
+        // 같은 이미지를 두 게시글에서 사용
+        imgService.retainImgs(Set.of(shared, single));
+        imgService.retainImgs(Set.of(shared));
+
+        assertThat(imgService.selectImg(shared).getRefCount()).isEqualTo(2);
+        assertThat(imgService.selectImg(single).getRefCount()).isOne();
+
+        // 참조가 남은 이미지는 참조 수만 줄이고, 남지 않은 이미지는 행과 파일 삭제
+        assertThat(imgService.releaseImgs(Map.of(shared, 1, single, 1))).isOne();
+
+        assertThat(imgService.selectImg(shared).getRefCount()).isOne();
+        assertThat(imgService.selectImg(single)).isNull();
+        assertThat(sharedPath).exists();
+        awaitDeleted(singlePath);
+
+        assertThat(imgService.releaseImgs(Map.of(shared, 1))).isOne();
+
+        assertThat(imgService.selectImg(shared)).isNull();
+        awaitDeleted(sharedPath);
+    }
+
+    @Test
+    void reuploadAfterReleaseKeepsNewFile() throws Exception {
+
+        String imgName = imgService.uploadImgInSummernote(upload("capture.png", "capture"));
+        Path releasedPath = dir.resolve("storage").resolve(imgService.selectImg(imgName).getImgPath());
+
+        imgService.retainImgs(Set.of(imgName));
+        imgService.releaseImgs(Map.of(imgName, 1));
+
+        // 삭제한 행의 파일을 지우기 전에 같은 이미지를 다시 업로드해도 새 행은 다른 키에 저장
+        assertThat(imgService.uploadImgInSummernote(upload("capture.png", "capture"))).isEqualTo(imgName);
+        Path reuploadedPath = dir.resolve("storage").resolve(imgService.selectImg(imgName).getImgPath());
+
+        assertThat(reuploadedPath).isNotEqualTo(releasedPath);
+        awaitDeleted(releasedPath);
+        assertThat(reuploadedPath).hasContent("capture");
+    }
+
+    @Test
+    void recordsGeneratedVariantsOnImgRow() throws Exception {
+
+        String large = imgService.uploadImgInSummernote(new MockMultipartFile("file", "large.png", "image/png", png(2048, 1024)));
+        String text = imgService.uploadImgInSummernote(upload("text.png", "not an image"));
+
+        Img largeImg = awaitVariants(large);
+        Img textImg = awaitVariants(text);
+
+        // 만든 크기별 이미지는 행의 목록으로 찾고, 만들지 않은 이미지는 저장소를 확인하지 않음
+        assertThat(largeImg.getVariants()).isEqualTo("content.jpg,avatar.jpg");
+        assertThat(imgService.selectImgVariant(largeImg, ImgVariant.CONTENT).exists()).isTrue();
+        assertThat(textImg.getVariants()).isEmpty();
+        assertThat(imgService.selectImgVariant(textImg, ImgVariant.CONTENT)).isNull();
+    }
+
+    @Test
+    void deletesLegacyImagesWithoutCountingReferences() throws Exception {
+
+        Path legacy = Files.writeString(dir.resolve("uuid_legacy.png"), "legacy");
+        imgRepository.save(Img.builder().imgName("uuid_legacy.png").imgPath(legacy.toString()).build());
+
+        imgService.retainImgs(Set.of("uuid_legacy.png"));
+        assertThat(imgService.selectImg("uuid_legacy.png").getRefCount()).isZero();
+
+        assertThat(imgService.releaseImgs(Map.of("uuid_legacy.png", 1, "unknown.png", 1))).isOne();
+        assertThat(imgRepository.count()).isZero();
+        awaitDeleted(legacy);
+    }
+
+    private static MockMultipartFile upload(String name, String content) {
+
+        return new MockMultipartFile("file", name, "image/png", content.getBytes());
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+
+        return out.toByteArray();
+    }
+
+    private Img awaitVariants(String imgName) throws InterruptedException {
+
+        for (int i = 0; i < 50 && imgService.selectImg(imgName).getVariants() == null; i++) {
+
+            Thread.sleep(100);
+        }
+
+        return imgService.selectImg(imgName);
+    }
+
+    private static List<Path> files(Path root) throws Exception {
+
+        try (Stream<Path> paths = Files.walk(root)) {
+
+            return paths.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static void awaitDeleted(Path path) throws InterruptedException {
+
+        for (int i = 0; i < 50 && Files.exists(path); i++) {
+
+            Thread.sleep(100);
+        }
+
+        assertThat(path).doesNotExist();
+    }
+}
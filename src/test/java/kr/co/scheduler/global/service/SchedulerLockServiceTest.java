@@ -0,0 +1,169 @@
+package kr.co.scheduler.global.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 DB 를 사용하는 두 애플리케이션 컨텍스트(인스턴스)로 잠금 동작 확인
+ */
+class SchedulerLockServiceTest {
+
+    private static final String DATASOURCE_URL = "spring.datasource.url=jdbc:h2:mem:scheduler-lock;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+
+        nodeA = start("node-a", "create");
+        nodeB = start("node-b", "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    void onlyOneNodeRunsAtATime() throws Exception {
+
+        AtomicInteger runs = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+
+            List<Callable<Boolean>> nodes = List.of(nodeA, nodeB).stream()
+                    .map(node -> (Callable<Boolean>) () -> {
+
+                        barrier.await();
+
+                        return lockService(node).runExclusively("concurrent", lease -> {
+
+                            runs.incrementAndGet();
+                            Thread.sleep(300);
+                        });
+                    })
+                    .toList();
+
+            List<Boolean> results = executor.invokeAll(nodes).stream().map(this::get).toList();
+
+            assertThat(runs.get()).isOne();
+            assertThat(results).containsExactlyInAnyOrder(true, false);
+        } finally {
+
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void renewalKeepsLeaseWhileTaskRuns() throws Exception {
+
+        boolean ran = lockService(nodeA).runExclusively("renewal", lease -> {
+
+            // 임대 기간(1초)이 지난 뒤에도 연장되어 있으므로 다른 인스턴스는 가져갈 수 없음
+            Thread.sleep(1_500);
+
+            assertThat(lockService(nodeB).tryAcquire("renewal")).isEmpty();
+            assertThat(lockService(nodeA).isHeld(lease.getName(), lease.getFencingToken())).isTrue();
+        });
+
+        assertThat(ran).isTrue();
+        assertThat(lockService(nodeB).tryAcquire("renewal")).isPresent();
+    }
+
+    @Test
+    void fastRunKeepsLeaseUntilLockAtLeastFor() throws Exception {
+
+        assertThat(lockService(nodeA).runExclusively("fast", lease -> {
+        })).isTrue();
+
+        // 시계가 늦은 인스턴스가 같은 회차를 조금 늦게 시작해도 다시 실행하지 않음
+        AtomicInteger lateRuns = new AtomicInteger();
+
+        assertThat(lockService(nodeB).runExclusively("fast", lease -> lateRuns.incrementAndGet())).isFalse();
+        assertThat(lockService(nodeB).tryAcquire("fast")).isEmpty();
+        assertThat(lateRuns.get()).isZero();
+
+        // 하한(1초)이 지나면 다음 회차는 다른 인스턴스가 가져갈 수 있음
+        Thread.sleep(1_200);
+
+        assertThat(lockService(nodeB).tryAcquire("fast")).isPresent();
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverWithHigherFencingToken() throws Exception {
+
+        // 연장 없이 잠금만 획득한 뒤 중단된 인스턴스
+        SchedulerLockService.Lease stale = lockService(nodeA).tryAcquire("takeover").orElseThrow();
+
+        assertThat(lockService(nodeB).tryAcquire("takeover")).isEmpty();
+
+        Thread.sleep(1_200);
+
+        Optional<SchedulerLockService.Lease> takenOver = lockService(nodeB).tryAcquire("takeover");
+
+        assertThat(takenOver).isPresent();
+        assertThat(takenOver.get().getOwner()).isEqualTo("node-b");
+        assertThat(takenOver.get().getFencingToken()).isGreaterThan(stale.getFencingToken());
+        assertThat(lockService(nodeA).isHeld("takeover", stale.getFencingToken())).isFalse();
+        assertThat(lockService(nodeA).renew(stale)).isFalse();
+        assertThatThrownBy(() -> lockService(nodeA).assertHeld(stale)).isInstanceOf(IllegalStateException.class);
+
+        // 이전 소유자가 해제해도 새 소유자의 잠금은 유지
+        lockService(nodeA).release(stale);
+
+        assertThat(lockService(nodeB).isHeld("takeover", takenOver.get().getFencingToken())).isTrue();
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId, String ddlAuto) {
+
+        return new SpringApplicationBuilder(JpaTestConfig.class, SchedulerLockService.class, SchedulerLockProperties.class)
+                .web(WebApplicationType.NONE)
+                .properties(DATASOURCE_URL,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "spring.batch.jdbc.initialize-schema=never",
+                        "scheduler.lock.node-id=" + nodeId,
+                        "scheduler.lock.lease-millis=1000",
+                        "scheduler.lock.renew-interval-millis=200",
+                        "scheduler.lock.lock-at-least-for-millis=1000")
+                .run();
+    }
+
+    private static SchedulerLockService lockService(ConfigurableApplicationContext node) {
+
+        return node.getBean(SchedulerLockService.class);
+    }
+
+    private Boolean get(Future<Boolean> future) {
+
+        try {
+
+            return future.get();
+        } catch (Exception e) {
+
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.scheduler.scheduler.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.global.config.batch.ProjectDeadlineProperties;
+import kr.co.scheduler.global.config.lock.SchedulerLockProperties;
+import kr.co.scheduler.global.service.IdRangeTransactions;
+import kr.co.scheduler.global.service.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {JpaTestConfig.class, ProjectDeadlineService.class, IdRangeTransactions.class,
+        ProjectDeadlineProperties.class, SchedulerLockService.class, SchedulerLockProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-deadline;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "batch.project-deadline.complete-chunk-size=1000"
+})
+class ProjectDeadlineServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 7, 31);
+
+    @Autowired
+    private ProjectDeadlineService projectDeadlineService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        jdbcTemplate.execute("DELETE FROM tbl_project");
+    }
+
+    @Test
+    void completesOnlyUncompletedProjectsOverTheDeadline() {
+
+        // 4개 중 1개 마감일 지남(미완료), 1개 마감일 지남(완료), 1개 오늘 마감, 1개 마감일 남음
+        seedProjects(2500);
+
+        int completed = projectDeadlineService.completePRJOverTheDeadline(TODAY);
+
+        assertThat(completed).isEqualTo(625);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_project WHERE complete_yn = 'N' AND endprj < ?", Long.class, Date.valueOf(TODAY))).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_project WHERE complete_yn = 'Y' AND active_yn = 'Y'", Long.class)).isEqualTo(625);
+        assertThat(projectDeadlineService.completePRJOverTheDeadline(TODAY)).isZero();
+    }
+
+    private void seedProjects(int size) {
+
+        Date overdue = Date.valueOf(TODAY.minusDays(1));
+        Date dueToday = Date.valueOf(TODAY);
+        Date upcoming = Date.valueOf(TODAY.plusDays(7));
+        int batchSize = 10_000;
+
+        for (int from = 0; from < size; from += batchSize) {
+
+            List<Object[]> args = new ArrayList<>();
+
+            for (int i = from; i < Math.min(from + batchSize, size); i++) {
+
+                switch (i % 4) {
+                    case 0 -> args.add(new Object[]{"project" + i, overdue, "Y", "N"});
+                    case 1 -> args.add(new Object[]{"project" + i, overdue, "Y", "Y"});
+                    case 2 -> args.add(new Object[]{"project" + i, dueToday, "Y", "N"});
+                    default -> args.add(new Object[]{"project" + i, upcoming, "N", "N"});
+                }
+            }
+
+            jdbcTemplate.batchUpdate("INSERT INTO tbl_project (title, description, endprj, active_yn, complete_yn) VALUES (?, '', ?, ?, ?)", args);
+        }
+    }
+}
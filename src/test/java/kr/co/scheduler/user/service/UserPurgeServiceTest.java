@@ -0,0 +1,209 @@
+package kr.co.scheduler.user.service;
+
+import kr.co.scheduler.JpaTestConfig;
+import kr.co.scheduler.community.entity.Comment;
+import kr.co.scheduler.community.entity.Post;
+import kr.co.scheduler.community.entity.Reply;
+import kr.co.scheduler.community.repository.CommentRepository;
+import kr.co.scheduler.community.repository.PostRepository;
+import kr.co.scheduler.community.repository.ReplyRepository;
+import kr.co.scheduler.global.config.img.ImgStore;
+import kr.co.scheduler.global.config.img.ImgStoreProperties;
+import kr.co.scheduler.global.config.img.ImgVariantProperties;
+import kr.co.scheduler.global.config.img.ImgVariants;
+import kr.co.scheduler.global.config.storage.LocalStorageBackend;
+import kr.co.scheduler.global.config.storage.StorageProperties;
+import kr.co.scheduler.global.entity.Alert;
+import kr.co.scheduler.global.entity.AlertUser;
+import kr.co.scheduler.global.entity.Img;
+import kr.co.scheduler.global.entity.ImgRef;
+import kr.co.scheduler.global.enums.ImgRefOwner;
+import kr.co.scheduler.global.repository.AlertRepository;
+import kr.co.scheduler.global.repository.AlertUserRepository;
+import kr.co.scheduler.global.repository.ImgRefRepository;
+import kr.co.scheduler.global.repository.ImgRepository;
+import kr.co.scheduler.global.service.ImgFileCleaner;
+import kr.co.scheduler.global.service.ImgService;
+import kr.co.scheduler.scheduler.entity.Project;
+import kr.co.scheduler.scheduler.entity.SubTask;
+import kr.co.scheduler.scheduler.entity.Task;
+import kr.co.scheduler.scheduler.entity.TaskLog;
+import kr.co.scheduler.scheduler.repository.ProjectRepository;
+import kr.co.scheduler.scheduler.repository.SubTaskRepository;
+import kr.co.scheduler.scheduler.repository.TaskLogRepository;
+import kr.co.scheduler.scheduler.repository.TaskRepository;
+import kr.co.scheduler.user.entity.User;
+import kr.co.scheduler.user.enums.Role;
+import kr.co.scheduler.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = {JpaTestConfig.class, UserPurgeService.class, ImgService.class, ImgFileCleaner.class, ImgVariants.class,
+        ImgVariantProperties.class, ImgStore.class, ImgStoreProperties.class, LocalStorageBackend.class, StorageProperties.class}, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-purge;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserPurgeServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Autowired
+    private UserPurgeService userPurgeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubTaskRepository subTaskRepository;
+
+    @Autowired
+    private TaskLogRepository taskLogRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private AlertUserRepository alertUserRepository;
+
+    @Autowired
+    private ImgRepository imgRepository;
+
+    @Autowired
+    private ImgRefRepository imgRefRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purgesUserDataAndImageFiles() throws Exception {
+
+        User inactive = userRepository.save(user("inactive@scheduler.co.kr"));
+        User active = userRepository.save(user("active@scheduler.co.kr"));
+
+        Path postImg = Files.createFile(uploadDir.resolve("post.png"));
+        Path taskLogImg = Files.createFile(uploadDir.resolve("taskLog.png"));
+        Path profileImg = Files.createFile(uploadDir.resolve("profile.png"));
+
+        imgRepository.save(Img.builder().imgName("post.png").imgPath(postImg.toString()).build());
+        imgRepository.save(Img.builder().imgName("taskLog.png").imgPath(taskLogImg.toString()).build());
+
+        inactive.setProfileImgPath(profileImg.toString());
+        userRepository.save(inactive);
+
+        // 미접속 사용자의 게시글에 다른 사용자가 단 댓글과 대댓글
+        Post inactivePost = postRepository.save(Post.builder().title("제목").content(img("post.png")).user(inactive).build());
+        Comment commentOnInactivePost = commentRepository.save(Comment.builder().comment("댓글").post(inactivePost).user(active).build());
+        replyRepository.save(Reply.builder().reply("대댓글").post(inactivePost).comment(commentOnInactivePost).user(active).build());
+
+        // 다른 사용자의 게시글에 미접속 사용자가 단 대댓글과, 그 대댓글에 달린 대댓글
+        Post activePost = postRepository.save(Post.builder().title("제목").content("<p>내용</p>").user(active).build());
+        Comment activeComment = commentRepository.save(Comment.builder().comment("댓글").post(activePost).user(active).build());
+        Reply inactiveReply = replyRepository.save(Reply.builder().reply("대댓글").post(activePost).comment(activeComment).user(inactive).build());
+        Reply childReply = replyRepository.save(Reply.builder().reply("대댓글").post(activePost).comment(activeComment).parentReply(inactiveReply).user(active).build());
+
+        Project project = projectRepository.save(Project.builder().title("프로젝트").description("<p>설명</p>")
+                .startPRJ(LocalDate.now()).endPRJ(LocalDate.now().plusDays(7)).user(inactive).build());
+        Task task = taskRepository.save(Task.builder().idx("1").task("업무").project(project).check_yn("N").build());
+        subTaskRepository.save(SubTask.builder().name("하위업무").task(task).check_yn("N").build());
+        TaskLog taskLog = taskLogRepository.save(TaskLog.builder().title("업무일지").content(img("taskLog.png")).project(project).build());
+
+        imgRefRepository.save(ImgRef.builder().ownerType(ImgRefOwner.POST).ownerId(inactivePost.getId()).imgName("post.png").build());
+        imgRefRepository.save(ImgRef.builder().ownerType(ImgRefOwner.TASK_LOG).ownerId(taskLog.getId()).imgName("taskLog.png").build());
+
+        alertUserRepository.save(AlertUser.builder().alert(Alert.builder().content("알림").build()).user(inactive).build());
+        alertUserRepository.save(AlertUser.builder().alert(Alert.builder().content("알림").build()).user(active).build());
+
+        userPurgeService.purgeUsers(List.of(inactive.getId()));
+
+        assertThat(userRepository.findAll()).extracting(User::getId).containsExactly(active.getId());
+        assertThat(postRepository.findAll()).extracting(Post::getId).containsExactly(activePost.getId());
+        assertThat(commentRepository.findAll()).extracting(Comment::getId).containsExactly(activeComment.getId());
+        assertThat(replyRepository.findAll()).extracting(Reply::getId).containsExactly(childReply.getId());
+        assertThat(replyRepository.findById(childReply.getId()).orElseThrow().getParentReply()).isNull();
+        assertThat(projectRepository.count()).isZero();
+        assertThat(taskRepository.count()).isZero();
+        assertThat(subTaskRepository.count()).isZero();
+        assertThat(taskLogRepository.count()).isZero();
+        assertThat(imgRepository.count()).isZero();
+        assertThat(imgRefRepository.count()).isZero();
+        assertThat(alertUserRepository.count()).isOne();
+        assertThat(alertRepository.count()).isOne();
+
+        for (int i = 0; i < 50 && (Files.exists(postImg) || Files.exists(taskLogImg) || Files.exists(profileImg)); i++) {
+
+            Thread.sleep(100);
+        }
+
+        assertThat(postImg).doesNotExist();
+        assertThat(taskLogImg).doesNotExist();
+        assertThat(profileImg).doesNotExist();
+    }
+
+    @Test
+    void countsImgsFromRefsAndParsesOnlyUnlinkedContents() {
+
+        User inactive = userRepository.save(user("linked@scheduler.co.kr"));
+        User active = userRepository.save(user("sharing@scheduler.co.kr"));
+
+        imgRepository.save(Img.builder().imgName("shared.png").imgPath("store/shared.png").hash("shared").build());
+        imgRepository.save(Img.builder().imgName("unlinked.png").imgPath("store/unlinked.png").hash("unlinked").build());
+        jdbcTemplate.update("UPDATE tbl_image SET ref_count = 2 WHERE img_name = 'shared.png'");
+        jdbcTemplate.update("UPDATE tbl_image SET ref_count = 1 WHERE img_name = 'unlinked.png'");
+
+        // 연결 기록이 있는 게시글은 내용을 파싱하지 않고 연결 기록으로 셈 (내용과 달라도 연결 기록 기준)
+        Post inactivePost = postRepository.save(Post.builder().title("제목").content("<p>내용</p>").user(inactive).build());
+        Post activePost = postRepository.save(Post.builder().title("제목").content(img("shared.png")).user(active).build());
+        imgRefRepository.save(ImgRef.builder().ownerType(ImgRefOwner.POST).ownerId(inactivePost.getId()).imgName("shared.png").build());
+        imgRefRepository.save(ImgRef.builder().ownerType(ImgRefOwner.POST).ownerId(activePost.getId()).imgName("shared.png").build());
+
+        // 연결 기록이 없는 이전 프로젝트 설명은 내용을 파싱
+        projectRepository.save(Project.builder().title("프로젝트").description(img("unlinked.png"))
+                .startPRJ(LocalDate.now()).endPRJ(LocalDate.now().plusDays(7)).user(inactive).build());
+
+        userPurgeService.purgeUsers(List.of(inactive.getId()));
+
+        assertThat(imgRepository.findAll()).extracting(Img::getImgName, Img::getRefCount).containsExactly(tuple("shared.png", 1));
+        assertThat(imgRefRepository.findAll()).extracting(ImgRef::getOwnerId).containsExactly(activePost.getId());
+    }
+
+    private User user(String email) {
+
+        return User.builder()
+                .email(email)
+                .name("사용자")
+                .role(Role.USER)
+                .build();
+    }
+
+    private String img(String imgName) {
+
+        return "<p><img src=\"/api/summernoteImg?uploadFileName=" + imgName + "\"></p>";
+    }
+}